@@ -0,0 +1,341 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:55
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A compact {@link ConfigFormat} format which stores the config as tagged, length-prefixed binary data.<br>
+ * Every value is written as a one byte type tag followed by its payload. Strings, lists and sections are prefixed
+ * with their length as a variable length integer, so numbers keep their exact type and nothing has to be escaped.
+ * A length is never trusted to allocate memory ahead of the data that is actually read, so a corrupt file fails with
+ * an {@link InvalidConfigurationException} instead of running out of memory.<br>
+ * The value encoding is shared with other parts of this library through {@link #writeValue(DataOutput, Object)}
+ * and {@link #readValue(DataInput)}.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class BinaryFormat implements ConfigFormat {
+
+    /**
+     * The final {@link List<String>} extensions
+     */
+    private static final List<String> EXTENSIONS = Collections.singletonList("ccfg");
+    /**
+     * The final magic bytes every binary config file starts with
+     */
+    private static final byte[] MAGIC = {'C', 'C', 'F', 'G'};
+    /**
+     * The final {@link Byte} version of the file layout
+     */
+    private static final byte VERSION = 1;
+
+    static final byte NULL = 0;
+    static final byte SECTION = 1;
+    static final byte MAP = 2;
+    static final byte LIST = 3;
+    static final byte STRING = 4;
+    static final byte INT = 5;
+    static final byte LONG = 6;
+    static final byte DOUBLE = 7;
+    static final byte FLOAT = 8;
+    static final byte SHORT = 9;
+    static final byte BYTE = 10;
+    static final byte CHAR = 11;
+    static final byte TRUE = 12;
+    static final byte FALSE = 13;
+    static final byte SERIALIZABLE = 14;
+    static final byte BIG_INTEGER = 15;
+
+    /**
+     * The final {@link Integer} number of bytes or elements allocated before they are actually read
+     */
+    private static final int CHUNK = 8192;
+
+    @Override
+    public String getName() {
+        return "binary";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+        ConfigFormats.clear(config);
+        DataInputStream data = new DataInputStream(in);
+        int first = data.read();
+        if (first == -1) return;
+
+        byte[] magic = new byte[MAGIC.length];
+        magic[0] = (byte) first;
+        try {
+            data.readFully(magic, 1, magic.length - 1);
+            if (!Arrays.equals(magic, MAGIC)) throw new InvalidConfigurationException("Not a binary config");
+            byte version = data.readByte();
+            if (version != VERSION) throw new InvalidConfigurationException("Unsupported binary config version " + version);
+            readSection(data, config);
+        } catch (EOFException e) {
+            throw new InvalidConfigurationException("Binary config is truncated", e);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException(e);
+        }
+    }
+
+    @Override
+    public void save(YamlConfiguration config, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        writeSection(data, config);
+        data.flush();
+    }
+
+    private void readSection(DataInput in, ConfigurationSection section) throws IOException {
+        int size = readVarInt(in);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            byte tag = in.readByte();
+            if (tag == SECTION) readSection(in, section.createSection(key));
+            else if (tag == MAP) section.createSection(key, readMap(in));
+            else section.set(key, readPayload(in, tag));
+        }
+    }
+
+    private static void writeSection(DataOutput out, ConfigurationSection section) throws IOException {
+        Map<String, Object> values = section.getValues(false);
+        writeVarInt(out, values.size());
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    /**
+     * Writes a single tagged {@link Object} value to {@link DataOutput} out.
+     * <br><br>
+     *
+     * @param out    represents the {@link DataOutput} out that should be written to<br>
+     * @param value  represents the {@link Object} value that should be written
+     * @throws IOException  if the value could not be written
+     */
+    static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof ConfigurationSection) {
+            out.writeByte(SECTION);
+            writeSection(out, (ConfigurationSection) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            out.writeByte(LIST);
+            writeVarInt(out, collection.size());
+            for (Object element : collection) writeValue(out, element);
+        } else if (value instanceof ConfigurationSerializable) {
+            ConfigurationSerializable serializable = (ConfigurationSerializable) value;
+            out.writeByte(SERIALIZABLE);
+            writeString(out, ConfigurationSerialization.getAlias(serializable.getClass()));
+            writeMap(out, serializable.serialize());
+        } else if (value instanceof Map) {
+            out.writeByte(MAP);
+            writeMap(out, (Map<?, ?>) value);
+        } else {
+            out.writeByte(STRING);
+            writeString(out, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Reads a single tagged {@link Object} value from {@link DataInput} in.<br>
+     * Sections are returned as {@link Map} maps.
+     * <br><br>
+     *
+     * @param in  represents the {@link DataInput} in that should be read<br>
+     * @return    the {@link Object} value
+     * @throws IOException  if the value could not be read
+     */
+    static Object readValue(DataInput in) throws IOException {
+        return readPayload(in, in.readByte());
+    }
+
+    private static Object readPayload(DataInput in, byte tag) throws IOException {
+        switch (tag) {
+            case NULL:
+                return null;
+            case SECTION:
+            case MAP:
+                return readMap(in);
+            case LIST:
+                int size = readVarInt(in);
+                List<Object> list = new ArrayList<>(Math.min(size, CHUNK));
+                for (int i = 0; i < size; i++) list.add(readValue(in));
+                return list;
+            case STRING:
+                return readString(in);
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHAR:
+                return in.readChar();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case SERIALIZABLE:
+                String alias = readString(in);
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put(ConfigurationSerialization.SERIALIZED_TYPE_KEY, alias);
+                map.putAll(readMap(in));
+                return ConfigFormats.deserialize(map);
+            default:
+                throw new IllegalArgumentException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeMap(DataOutput out, Map<?, ?> map) throws IOException {
+        writeVarInt(out, map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeString(out, String.valueOf(entry.getKey()));
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInput in) throws IOException {
+        int size = readVarInt(in);
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    /**
+     * Writes {@link String} value as a variable length prefixed UTF-8 sequence.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a {@link String} written by {@link #writeString(DataOutput, String)}.
+     */
+    static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@link Byte} bytes prefixed with their length.
+     */
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the bytes written by {@link #writeBytes(DataOutput, byte[])}.<br>
+     * The array grows with the data that is actually read, so a corrupt length ends with an {@link EOFException}
+     * instead of a huge allocation.
+     */
+    private static byte[] readBytes(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        byte[] bytes = new byte[Math.min(length, CHUNK)];
+        in.readFully(bytes);
+        while (bytes.length < length) {
+            int read = bytes.length;
+            bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+            in.readFully(bytes, read, bytes.length - read);
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes a non-negative {@link Integer} value in seven bit groups.
+     */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an {@link Integer} written by {@link #writeVarInt(DataOutput, int)}.
+     */
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) throw new IllegalArgumentException("Negative length " + value);
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Variable length integer is too long");
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 22:00
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+/**
+ * Is notified of every change of a config, see {@link PathVersions#addListener(ChangeListener)}.<br>
+ * The methods are called after the config was changed, while the monitor of the {@link PathVersions} versions is held,
+ * so they see the changes in the order they were made. They must be fast and must not change the config.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+interface ChangeListener {
+
+    /**
+     * Called after the value at {@link String} path was changed, which includes every path below it.
+     * <br><br>
+     *
+     * @param path       represents the {@link String} path that was changed<br>
+     * @param separator  represents the {@link Character} path separator
+     */
+    void changed(String path, char separator);
+
+    /**
+     * Called after the whole config was changed, for example when it was read again.
+     */
+    void changedAll();
+}
@@ -0,0 +1,537 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 01:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemorySection;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link PathConfiguration} keeping its values in a compact tree, for data configs with many small sections like
+ * locations made of <code>world</code>, <code>x</code>, <code>y</code> and <code>z</code>.<br>
+ * Unlike a {@link MemorySection} tree, a section of the tree is a single {@link Node} node with one array of its keys
+ * and values and no map, path or parent. Sections with more than {@value #SMALL} children get an open addressing
+ * table on top of the array. The keys of small sections are interned, so all sections share the same instance of
+ * keys like <code>x</code>, while keys of large sections, which are mostly unique, are not.<br>
+ * {@link Integer}, {@link Long} and {@link Double} values are stored unboxed in a second array of the node. They are
+ * boxed again by {@link #get(String)}, the number getters of the configuration read them without boxing.<br>
+ * Sections are views created on demand like in every {@link PathConfiguration}, the getters behave like the ones of a
+ * {@link MemorySection} and the children keep their order.<br>
+ * Like a {@link MemorySection} tree, the tree is not safe for writes concurrent with reads, {@link Config} guards
+ * them.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class CompactConfiguration extends PathConfiguration {
+
+    /**
+     * The final {@link Integer} maximum number of children of a section without table
+     */
+    static final int SMALL = 8;
+    /**
+     * The final {@link Integer} maximum number of interned keys, later keys are kept as they are
+     */
+    private static final int MAX_INTERNED = 1 << 16;
+    /**
+     * The final {@link Map} of interned keys, shared by all compact configurations
+     */
+    private static final Map<String, String> KEYS = new ConcurrentHashMap<>();
+    /**
+     * The final markers stored instead of the values whose bits are kept unboxed
+     */
+    private static final Object INT = new Object(), LONG = new Object(), DOUBLE = new Object();
+
+    /**
+     * The final {@link Node} root section
+     */
+    private final Node root = new Node();
+
+    /**
+     * Gets the {@link Integer} integer at {@link String} path without boxing it.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @param def   represents the {@link Integer} value returned if the path holds no number<br>
+     * @return      the {@link Integer} integer
+     */
+    @Override
+    public int getInt(String path, int def) {
+        Node node = parent(path);
+        int index = node == null ? -1 : node.find(path, path.lastIndexOf(separator()) + 1, path.length());
+        if (index < 0) return def;
+        Object value = node.entries[2 * index + 1];
+        if (value == INT || value == LONG) return (int) node.bits(index);
+        if (value == DOUBLE) return (int) Double.longBitsToDouble(node.bits(index));
+        return value instanceof Number ? ((Number) value).intValue() : def;
+    }
+
+    /**
+     * Gets the {@link Long} long at {@link String} path without boxing it.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @param def   represents the {@link Long} value returned if the path holds no number<br>
+     * @return      the {@link Long} long
+     */
+    @Override
+    public long getLong(String path, long def) {
+        Node node = parent(path);
+        int index = node == null ? -1 : node.find(path, path.lastIndexOf(separator()) + 1, path.length());
+        if (index < 0) return def;
+        Object value = node.entries[2 * index + 1];
+        if (value == INT || value == LONG) return node.bits(index);
+        if (value == DOUBLE) return (long) Double.longBitsToDouble(node.bits(index));
+        return value instanceof Number ? ((Number) value).longValue() : def;
+    }
+
+    /**
+     * Gets the {@link Double} double at {@link String} path without boxing it.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @param def   represents the {@link Double} value returned if the path holds no number<br>
+     * @return      the {@link Double} double
+     */
+    @Override
+    public double getDouble(String path, double def) {
+        Node node = parent(path);
+        int index = node == null ? -1 : node.find(path, path.lastIndexOf(separator()) + 1, path.length());
+        if (index < 0) return def;
+        Object value = node.entries[2 * index + 1];
+        if (value == INT || value == LONG) return node.bits(index);
+        if (value == DOUBLE) return Double.longBitsToDouble(node.bits(index));
+        return value instanceof Number ? ((Number) value).doubleValue() : def;
+    }
+
+    @Override
+    protected Object getValue(String path) {
+        Object value = find(path);
+        return value instanceof Node ? SECTION : value;
+    }
+
+    @Override
+    protected void putValue(String path, Object value) {
+        int last = path.lastIndexOf(separator()) + 1;
+        Node node = last == 0 ? root : section(path, last - 1);
+        if (value == SECTION) {
+            if (!(node.get(path, last, path.length()) instanceof Node)) node.put(path.substring(last), new Node());
+        } else {
+            node.put(path.substring(last), value);
+        }
+    }
+
+    @Override
+    protected void removeValue(String path) {
+        Node node = parent(path);
+        if (node != null) node.remove(path, path.lastIndexOf(separator()) + 1, path.length());
+    }
+
+    @Override
+    protected void removePrefix(String prefix) {
+        int last = prefix.lastIndexOf(separator()) + 1;
+        Object node = last == 0 ? root : find(prefix.substring(0, last - 1));
+        if (!(node instanceof Node)) return;
+        String start = prefix.substring(last);
+        Node section = (Node) node;
+        if (start.isEmpty()) {
+            section.clear();
+            return;
+        }
+        List<String> matching = new ArrayList<>();
+        for (int i = 0; i < section.size; i++) {
+            String key = (String) section.entries[2 * i];
+            if (key != null && key.startsWith(start)) matching.add(key);
+        }
+        for (String key : matching) section.remove(key, 0, key.length());
+    }
+
+    @Override
+    protected Collection<String> getPaths(String prefix) {
+        int last = prefix.lastIndexOf(separator()) + 1;
+        Object node = last == 0 ? root : find(prefix.substring(0, last - 1));
+        List<String> paths = new ArrayList<>();
+        if (!(node instanceof Node)) return paths;
+        String start = prefix.substring(last);
+        Node section = (Node) node;
+        for (int i = 0; i < section.size; i++) {
+            String key = (String) section.entries[2 * i];
+            if (key == null || !key.startsWith(start)) continue;
+            String path = prefix.substring(0, last) + key;
+            paths.add(path);
+            Object value = section.entries[2 * i + 1];
+            if (value instanceof Node) collect((Node) value, path + separator(), true, paths, null);
+        }
+        return paths;
+    }
+
+    @Override
+    protected boolean hasPaths(String prefix) {
+        int last = prefix.lastIndexOf(separator()) + 1;
+        Object node = last == 0 ? root : find(prefix.substring(0, last - 1));
+        if (!(node instanceof Node)) return false;
+        String start = prefix.substring(last);
+        Node section = (Node) node;
+        for (int i = 0; i < section.size; i++) {
+            String key = (String) section.entries[2 * i];
+            if (key != null && key.startsWith(start)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    Object lookup(String path, Object def) {
+        if (path.isEmpty()) return this;
+        Object value = find(path);
+        if (value instanceof Node) return new PathSection(this, path);
+        return value == null ? def : value;
+    }
+
+    @Override
+    void store(String path, Object value) {
+        if (!(value instanceof ConfigurationSection)) {
+            int last = path.lastIndexOf(separator()) + 1;
+            if (value == null) {
+                removeValue(path);
+                return;
+            }
+            Node node = last == 0 ? root : section(path, last - 1);
+            node.put(path.substring(last), value);
+            return;
+        }
+        super.store(path, value);
+    }
+
+    @Override
+    ConfigurationSection create(String path) {
+        int last = path.lastIndexOf(separator()) + 1;
+        Node node = last == 0 ? root : section(path, last - 1);
+        node.put(path.substring(last), new Node());
+        return new PathSection(this, path);
+    }
+
+    @Override
+    Set<String> keys(String path, boolean deep) {
+        Object node = path.isEmpty() ? root : find(path);
+        Set<String> keys = new LinkedHashSet<>();
+        if (node instanceof Node) {
+            List<String> collected = new ArrayList<>();
+            collect((Node) node, "", deep, collected, null);
+            keys.addAll(collected);
+        }
+        return keys;
+    }
+
+    @Override
+    Map<String, Object> values(String path, boolean deep) {
+        Object node = path.isEmpty() ? root : find(path);
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (!(node instanceof Node)) return values;
+        List<String> keys = new ArrayList<>();
+        List<Object> collected = new ArrayList<>();
+        collect((Node) node, "", deep, keys, collected);
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = collected.get(i);
+            values.put(keys.get(i), value instanceof Node ? new PathSection(this, join(path, keys.get(i))) : value);
+        }
+        return values;
+    }
+
+    /**
+     * Gets the estimated bytes of the node of the section at {@link String} path, without its keys and values, for
+     * {@link MemoryStats}.
+     */
+    long nodeBytes(String path) {
+        Object node = path.isEmpty() ? root : find(path);
+        return node instanceof Node ? ((Node) node).bytes() : 0;
+    }
+
+    /**
+     * Adds the relative paths below {@link Node} node to {@link List} keys and, if not null, their values to
+     * {@link List} values.
+     */
+    private void collect(Node node, String prefix, boolean deep, List<String> keys, List<Object> values) {
+        for (int i = 0; i < node.size; i++) {
+            String key = (String) node.entries[2 * i];
+            if (key == null) continue;
+            String path = prefix.isEmpty() ? key : prefix + key;
+            Object value = node.value(i);
+            keys.add(path);
+            if (values != null) values.add(value);
+            if (deep && value instanceof Node) collect((Node) value, path + separator(), true, keys, values);
+        }
+    }
+
+    /**
+     * Gets the value at {@link String} path, the {@link Node} node for a section.
+     */
+    private Object find(String path) {
+        if (path.isEmpty()) return root;
+        Node node = parent(path);
+        if (node == null) return null;
+        int index = node.find(path, path.lastIndexOf(separator()) + 1, path.length());
+        return index < 0 ? null : node.value(index);
+    }
+
+    /**
+     * Gets the {@link Node} node of the parent section of {@link String} path, walking the path without copying its
+     * segments.
+     *
+     * @return  the {@link Node} node, null if the parent is no section
+     */
+    private Node parent(String path) {
+        char separator = separator();
+        Node node = root;
+        int start = 0;
+        for (int end = path.indexOf(separator); end != -1; end = path.indexOf(separator, start)) {
+            Object child = node.get(path, start, end);
+            if (!(child instanceof Node)) return null;
+            node = (Node) child;
+            start = end + 1;
+        }
+        return node;
+    }
+
+    /**
+     * Gets the {@link Node} node of the section made of the first {@link Integer} end characters of {@link String}
+     * path, creating it and its parents and replacing values on the way.
+     */
+    private Node section(String path, int end) {
+        char separator = separator();
+        Node node = root;
+        int start = 0;
+        while (start <= end) {
+            int next = path.indexOf(separator, start);
+            if (next == -1 || next > end) next = end;
+            Object child = node.get(path, start, next);
+            if (!(child instanceof Node)) {
+                child = new Node();
+                node.put(path.substring(start, next), child);
+            }
+            node = (Node) child;
+            start = next + 1;
+        }
+        return node;
+    }
+
+    /**
+     * Gets the shared instance of {@link String} key.
+     */
+    private static String intern(String key) {
+        String interned = KEYS.get(key);
+        if (interned != null) return interned;
+        if (KEYS.size() >= MAX_INTERNED) return key;
+        interned = KEYS.putIfAbsent(key, key);
+        return interned == null ? key : interned;
+    }
+
+    /**
+     * A section of the tree: its keys and values in turns in one array in the order they were added, the bits of
+     * unboxed numbers in a second array and, for more than {@value #SMALL} children, a table of the indexes.<br>
+     * Removed children of sections with a table leave a gap, which is closed once the gaps take half of the array.
+     */
+    static final class Node {
+
+        private static final Object[] EMPTY = new Object[0];
+
+        private Object[] entries = EMPTY;
+        private long[] numbers;
+        private int[] table;
+        private int size;
+        private int removed;
+
+        /**
+         * Gets the index of the child named like the characters from {@link Integer} start to {@link Integer} end of
+         * {@link String} path.
+         *
+         * @return  the index, -1 if there is no such child
+         */
+        int find(String path, int start, int end) {
+            int length = end - start;
+            Object[] entries = this.entries;
+            int[] table = this.table;
+            if (table == null) {
+                for (int i = 0; i < size; i++) {
+                    String key = (String) entries[2 * i];
+                    if (key != null && key.length() == length && path.regionMatches(start, key, 0, length)) return i;
+                }
+                return -1;
+            }
+            int hash = 0;
+            for (int i = start; i < end; i++) hash = 31 * hash + path.charAt(i);
+            int mask = table.length - 1;
+            for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                int index = table[slot] - 1;
+                String key = (String) entries[2 * index];
+                if (key != null && key.length() == length && path.regionMatches(start, key, 0, length)) return index;
+            }
+            return -1;
+        }
+
+        /**
+         * Gets the value of the child named like the characters from {@link Integer} start to {@link Integer} end of
+         * {@link String} path, null if there is none.
+         */
+        Object get(String path, int start, int end) {
+            int index = find(path, start, end);
+            return index < 0 ? null : value(index);
+        }
+
+        /**
+         * Gets the value of the child at {@link Integer} index, boxing unboxed numbers.
+         */
+        Object value(int index) {
+            Object value = entries[2 * index + 1];
+            if (value == INT) return (int) bits(index);
+            if (value == LONG) return bits(index);
+            if (value == DOUBLE) return Double.longBitsToDouble(bits(index));
+            return value;
+        }
+
+        long bits(int index) {
+            long[] numbers = this.numbers;
+            return numbers != null && index < numbers.length ? numbers[index] : 0;
+        }
+
+        /**
+         * Puts {@link Object} value as child {@link String} key, keeping the position of an existing child.
+         */
+        void put(String key, Object value) {
+            int index = find(key, 0, key.length());
+            if (index < 0) {
+                index = size;
+                if (2 * size == entries.length) grow();
+                // keys of small sections repeat across sections, keys of large ones are mostly unique
+                entries[2 * index] = size < SMALL ? intern(key) : key;
+                size++;
+                if (size > SMALL && (table == null || size * 2 > table.length)) rehash();
+                else if (table != null) insert(index);
+            }
+            if (value instanceof Integer) store(index, INT, (Integer) value);
+            else if (value instanceof Long) store(index, LONG, (Long) value);
+            else if (value instanceof Double) store(index, DOUBLE, Double.doubleToRawLongBits((Double) value));
+            else entries[2 * index + 1] = value;
+        }
+
+        /**
+         * Removes the child named like the characters from {@link Integer} start to {@link Integer} end of
+         * {@link String} path.
+         */
+        void remove(String path, int start, int end) {
+            int index = find(path, start, end);
+            if (index >= 0) removeAt(index);
+        }
+
+        void removeAt(int index) {
+            if (table == null) {
+                int moved = size - index - 1;
+                System.arraycopy(entries, 2 * index + 2, entries, 2 * index, 2 * moved);
+                if (numbers != null) System.arraycopy(numbers, index + 1, numbers, index, moved);
+                size--;
+                entries[2 * size] = null;
+                entries[2 * size + 1] = null;
+                return;
+            }
+            entries[2 * index] = null;
+            entries[2 * index + 1] = null;
+            if (++removed * 2 >= size) compact();
+        }
+
+        void clear() {
+            entries = EMPTY;
+            numbers = null;
+            table = null;
+            size = 0;
+            removed = 0;
+        }
+
+        /**
+         * Gets the estimated bytes of the node and its arrays on a 64-bit JVM with compressed references.
+         */
+        long bytes() {
+            long bytes = 32 + align(16 + 4L * entries.length);
+            if (numbers != null) bytes += align(16 + 8L * numbers.length);
+            if (table != null) bytes += align(16 + 4L * table.length);
+            return bytes;
+        }
+
+        private void store(int index, Object marker, long bits) {
+            if (numbers == null || numbers.length * 2 < entries.length) {
+                numbers = Arrays.copyOf(numbers == null ? new long[0] : numbers, entries.length / 2);
+            }
+            numbers[index] = bits;
+            entries[2 * index + 1] = marker;
+        }
+
+        /**
+         * Grows the arrays by one child while the node is small and by half of its size after.
+         */
+        private void grow() {
+            int capacity = size < SMALL ? size + 1 : size + (size >> 1);
+            entries = Arrays.copyOf(entries, 2 * capacity);
+            if (numbers != null) numbers = Arrays.copyOf(numbers, capacity);
+        }
+
+        /**
+         * Removes the gaps of removed children and builds the table again.
+         */
+        private void compact() {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                if (entries[2 * i] == null) continue;
+                entries[2 * live] = entries[2 * i];
+                entries[2 * live + 1] = entries[2 * i + 1];
+                if (numbers != null && i < numbers.length) numbers[live] = numbers[i];
+                live++;
+            }
+            Arrays.fill(entries, 2 * live, 2 * size, null);
+            size = live;
+            removed = 0;
+            if (size > SMALL) {
+                rehash();
+            } else {
+                table = null;
+                entries = Arrays.copyOf(entries, 2 * size);
+                if (numbers != null) numbers = Arrays.copyOf(numbers, size);
+            }
+        }
+
+        /**
+         * Builds the table again, at most half full.
+         */
+        private void rehash() {
+            int capacity = Integer.highestOneBit(size * 4 - 1);
+            table = new int[capacity];
+            for (int i = 0; i < size; i++) if (entries[2 * i] != null) insert(i);
+        }
+
+        private void insert(int index) {
+            int mask = table.length - 1;
+            int slot = spread(entries[2 * index].hashCode()) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = index + 1;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        private static long align(long size) {
+            return (size + 7) & ~7L;
+        }
+    }
+}
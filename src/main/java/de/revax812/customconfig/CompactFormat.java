@@ -0,0 +1,95 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 01:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link ConfigFormat} format for large data configs, which keeps the values of a {@link Config} config in a
+ * {@link CompactConfiguration} tree instead of a tree of sections.<br>
+ * The file itself is read and written with the source {@link ConfigFormat} format, so an existing YAML file can be
+ * switched to this format and back without converting it. Comments are not kept.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ * @see CompactConfiguration
+ */
+
+public class CompactFormat implements ConfigFormat {
+
+    /**
+     * The final {@link ConfigFormat} format of the files
+     */
+    private final ConfigFormat source;
+
+    /**
+     * Creates a new {@link CompactFormat} format for YAML files.
+     */
+    public CompactFormat() {
+        this(ConfigFormats.YAML);
+    }
+
+    /**
+     * Creates a new {@link CompactFormat} format for files of {@link ConfigFormat} source.
+     * <br><br>
+     *
+     * @param source represents the {@link ConfigFormat} format of the files
+     */
+    public CompactFormat(ConfigFormat source) {
+        this.source = source;
+    }
+
+    @Override
+    public String getName() {
+        return "compact";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public YamlConfiguration createConfiguration(File file) {
+        return new CompactConfiguration();
+    }
+
+    @Override
+    public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+        source.load(config, in);
+    }
+
+    @Override
+    public void save(YamlConfiguration config, OutputStream out) throws IOException {
+        source.save(config, out);
+    }
+
+    @Override
+    public void load(YamlConfiguration config, File file) throws IOException, InvalidConfigurationException {
+        source.load(config, file);
+    }
+
+    @Override
+    public void save(YamlConfiguration config, File file) throws IOException {
+        source.save(config, file);
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:55
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.*;
+
+/**
+ * A {@link ConfigFormat} format which compresses another format with gzip or zlib deflate.<br>
+ * The {@link Deflater} and {@link Inflater} are kept in small pools shared by all threads and reused between saves
+ * and loads instead of being allocated every time. Thread locals would not help on virtual threads, which are not
+ * reused, and keep the native zlib memory of every thread alive. The pools hold at most {@link #POOL_SIZE} of each,
+ * others are ended when they are given back.<br>
+ * Loading checks the header of the compression of the format, so uncompressed files are read as well. Other formats
+ * only detect gzip by its magic bytes, see {@link #decompress(InputStream)}.<br>
+ * Files named like <code>name.yml.gz</code> or <code>name.json.zz</code> get this format automatically.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class CompressedFormat implements ConfigFormat {
+
+    /**
+     * The final {@link Integer} size of the stream buffers
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * The final {@link Integer} magic number of gzip streams
+     */
+    private static final int GZIP_MAGIC = 0x1F8B;
+    /**
+     * The final {@link Integer} number of deflaters or inflaters each pool keeps
+     */
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+    /**
+     * The final {@link Pool} of reused raw deflaters
+     */
+    private static final Pool<Deflater> DEFLATERS = new Pool<>(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true), Deflater::end);
+    /**
+     * The final {@link Pool} of reused zlib deflaters
+     */
+    private static final Pool<Deflater> ZLIB_DEFLATERS = new Pool<>(Deflater::new, Deflater::end);
+    /**
+     * The final {@link Pool} of reused raw inflaters
+     */
+    private static final Pool<Inflater> INFLATERS = new Pool<>(() -> new Inflater(true), Inflater::end);
+    /**
+     * The final {@link Pool} of reused zlib inflaters
+     */
+    private static final Pool<Inflater> ZLIB_INFLATERS = new Pool<>(Inflater::new, Inflater::end);
+
+    /**
+     * The final {@link ConfigFormat} format that is compressed
+     */
+    private final ConfigFormat format;
+    /**
+     * The final {@link Compression} compression
+     */
+    private final Compression compression;
+    /**
+     * The final {@link Integer} compression level
+     */
+    private final int level;
+
+    /**
+     * Creates a new {@link CompressedFormat} format with {@link ConfigFormat} format and {@link Compression} compression
+     * at the default level.
+     * <br><br>
+     * Redirects to {@link #CompressedFormat(ConfigFormat, Compression, int)}.<br>
+     *
+     * @param format       represents the {@link ConfigFormat} format that should be compressed<br>
+     * @param compression  represents the {@link Compression} compression
+     */
+    public CompressedFormat(ConfigFormat format, Compression compression) {
+        this(format, compression, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a new {@link CompressedFormat} format with {@link ConfigFormat} format, {@link Compression} compression
+     * and {@link Integer} level.
+     * <br><br>
+     *
+     * @param format       represents the {@link ConfigFormat} format that should be compressed<br>
+     * @param compression  represents the {@link Compression} compression<br>
+     * @param level        represents the {@link Integer} level from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public CompressedFormat(ConfigFormat format, Compression compression, int level) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) throw new IllegalArgumentException("Invalid compression level " + level);
+        this.format = format;
+        this.compression = compression;
+        this.level = level;
+    }
+
+    /**
+     * Gets the {@link ConfigFormat} format that is compressed.
+     * <br><br>
+     *
+     * @return  the {@link ConfigFormat} format
+     */
+    public ConfigFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the {@link Compression} compression.
+     * <br><br>
+     *
+     * @return  the {@link Compression} compression
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Gets the {@link Integer} compression level.
+     * <br><br>
+     *
+     * @return  the {@link Integer} level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public String getName() {
+        return format.getName() + "+" + compression.name().toLowerCase();
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return Collections.singletonList(compression.getExtension());
+    }
+
+    @Override
+    public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+        InputStream buffered = buffer(in);
+        int magic = peek(buffered);
+        if (magic == GZIP_MAGIC) {
+            GzipInputStream gzip = new GzipInputStream(buffered);
+            try {
+                format.load(config, gzip);
+            } finally {
+                gzip.release();
+            }
+        } else if (compression == Compression.ZLIB && isZlib(magic)) {
+            Inflater inflater = ZLIB_INFLATERS.take();
+            try {
+                inflater.reset();
+                format.load(config, new InflaterInputStream(buffered, inflater, BUFFER_SIZE));
+            } finally {
+                ZLIB_INFLATERS.give(inflater);
+            }
+        } else {
+            format.load(config, buffered);
+        }
+    }
+
+    @Override
+    public void save(YamlConfiguration config, OutputStream out) throws IOException {
+        Pool<Deflater> pool = compression == Compression.GZIP ? DEFLATERS : ZLIB_DEFLATERS;
+        Deflater deflater = pool.take();
+        try {
+            deflater.reset();
+            deflater.setLevel(level);
+            DeflaterOutputStream compressed = compression == Compression.GZIP ? new GzipOutputStream(out, deflater) : new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+            format.save(config, compressed);
+            compressed.finish();
+        } finally {
+            pool.give(deflater);
+        }
+        out.flush();
+    }
+
+    /**
+     * Wraps {@link InputStream} in into a decompressing stream if it starts with the magic bytes of gzip.<br>
+     * Other streams are returned unchanged apart from buffering. The inflater of a gzip stream goes back to its pool
+     * when the stream is closed. zlib is not detected here, since its two header bytes are not distinctive enough to
+     * tell it from plain content. zlib files are only read by a {@link CompressedFormat} format of
+     * {@link Compression#ZLIB}, usually chosen by the <code>.zz</code> extension.
+     * <br><br>
+     *
+     * @param in  represents the {@link InputStream} in that should be read<br>
+     * @return    the {@link InputStream} stream with the uncompressed content
+     * @throws IOException  if the stream could not be read
+     */
+    public static InputStream decompress(InputStream in) throws IOException {
+        InputStream buffered = buffer(in);
+        return peek(buffered) == GZIP_MAGIC ? new GzipInputStream(buffered) : buffered;
+    }
+
+    private static InputStream buffer(InputStream in) {
+        return in.markSupported() ? in : new BufferedInputStream(in, BUFFER_SIZE);
+    }
+
+    /**
+     * Gets the first two bytes of {@link InputStream} in without consuming them, -1 if the stream is shorter.
+     */
+    private static int peek(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first == -1 || second == -1 ? -1 : (first << 8) | second;
+    }
+
+    /**
+     * Checks whether {@link Integer} magic is a valid zlib header of the deflate method without a preset dictionary.
+     */
+    private static boolean isZlib(int magic) {
+        return magic != -1 && (magic & 0x0F00) == 0x0800 && magic % 31 == 0 && (magic & 0x20) == 0;
+    }
+
+    /**
+     * The compression a {@link CompressedFormat} format writes.
+     */
+    public enum Compression {
+
+        /**
+         * The gzip file format
+         */
+        GZIP("gz"),
+        /**
+         * The zlib wrapped deflate format
+         */
+        ZLIB("zz");
+
+        /**
+         * The final {@link String} file extension
+         */
+        private final String extension;
+
+        Compression(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Gets the {@link String} file extension (without leading dot).
+         * <br><br>
+         *
+         * @return  the {@link String} extension
+         */
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * A gzip {@link DeflaterOutputStream} working with a reused raw {@link Deflater}.
+     */
+    private static final class GzipOutputStream extends DeflaterOutputStream {
+
+        /**
+         * The final {@link CRC32} checksum of the uncompressed data
+         */
+        private final CRC32 crc = new CRC32();
+
+        GzipOutputStream(OutputStream out, Deflater deflater) throws IOException {
+            super(out, deflater, BUFFER_SIZE);
+            out.write(new byte[]{0x1F, (byte) 0x8B, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xFF});
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            super.write(bytes, offset, length);
+            crc.update(bytes, offset, length);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (def.finished()) return;
+            super.finish();
+            writeInt((int) crc.getValue());
+            writeInt(def.getTotalIn());
+        }
+
+        private void writeInt(int value) throws IOException {
+            out.write(value & 0xFF);
+            out.write((value >>> 8) & 0xFF);
+            out.write((value >>> 16) & 0xFF);
+            out.write((value >>> 24) & 0xFF);
+        }
+    }
+
+    /**
+     * A bounded pool of deflaters or inflaters.<br>
+     * Taking one creates it if the pool is empty, giving one back to a full pool ends it, so its native memory is freed
+     * right away instead of by the garbage collector.
+     */
+    private static final class Pool<T> {
+
+        /**
+         * The final {@link Queue} of idle instances
+         */
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        /**
+         * The final {@link AtomicInteger} number of idle instances, the queue does not count in constant time
+         */
+        private final AtomicInteger size = new AtomicInteger();
+        /**
+         * The final {@link Supplier} creating new instances
+         */
+        private final Supplier<T> factory;
+        /**
+         * The final {@link Consumer} ending instances the pool has no room for
+         */
+        private final Consumer<T> end;
+
+        Pool(Supplier<T> factory, Consumer<T> end) {
+            this.factory = factory;
+            this.end = end;
+        }
+
+        T take() {
+            T instance = idle.poll();
+            if (instance == null) return factory.get();
+            size.decrementAndGet();
+            return instance;
+        }
+
+        void give(T instance) {
+            if (size.incrementAndGet() > POOL_SIZE) {
+                size.decrementAndGet();
+                end.accept(instance);
+                return;
+            }
+            idle.offer(instance);
+        }
+    }
+
+    /**
+     * A gzip {@link InflaterInputStream} working with a raw {@link Inflater} of the pool.<br>
+     * Reads a single gzip member and checks its trailer, like the files written by {@link GzipOutputStream}.
+     */
+    private static final class GzipInputStream extends InflaterInputStream {
+
+        /**
+         * The final {@link CRC32} checksum of the uncompressed data
+         */
+        private final CRC32 crc = new CRC32();
+        /**
+         * The private {@link Boolean} whether the trailer has been checked
+         */
+        private boolean trailer;
+        /**
+         * The private {@link Boolean} whether the inflater went back to the pool
+         */
+        private boolean released;
+
+        GzipInputStream(InputStream in) throws IOException {
+            super(in, reset(INFLATERS.take()), BUFFER_SIZE);
+            try {
+                readHeader();
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+
+        private static Inflater reset(Inflater inflater) {
+            inflater.reset();
+            return inflater;
+        }
+
+        /**
+         * Gives the inflater back to the pool, the stream can not be read afterwards.
+         */
+        void release() {
+            if (released) return;
+            released = true;
+            INFLATERS.give(inf);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (trailer) return -1;
+            int read = super.read(bytes, offset, length);
+            if (read == -1) {
+                readTrailer();
+                return -1;
+            }
+            crc.update(bytes, offset, read);
+            return read;
+        }
+
+        private void readHeader() throws IOException {
+            if (readByte(in) != 0x1F || readByte(in) != 0x8B) throw new ZipException("Not in GZIP format");
+            if (readByte(in) != Deflater.DEFLATED) throw new ZipException("Unsupported compression method");
+            int flags = readByte(in);
+            // modification time, extra flags and operating system
+            skip(in, 6);
+            if ((flags & 4) != 0) skip(in, readByte(in) | (readByte(in) << 8));
+            // the file name and the comment are terminated by zero
+            if ((flags & 8) != 0) skipTerminated(in);
+            if ((flags & 16) != 0) skipTerminated(in);
+            if ((flags & 2) != 0) skip(in, 2);
+        }
+
+        private void readTrailer() throws IOException {
+            trailer = true;
+            // the inflater may already have the trailer in its input buffer
+            int remaining = inf.getRemaining();
+            InputStream rest = remaining > 0 ? new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in) : in;
+            long checksum = readInt(rest) & 0xFFFFFFFFL;
+            long size = readInt(rest) & 0xFFFFFFFFL;
+            if (checksum != crc.getValue() || size != (inf.getBytesWritten() & 0xFFFFFFFFL)) throw new ZipException("Corrupt GZIP trailer");
+        }
+
+        private static int readInt(InputStream in) throws IOException {
+            return readByte(in) | (readByte(in) << 8) | (readByte(in) << 16) | (readByte(in) << 24);
+        }
+
+        private static int readByte(InputStream in) throws IOException {
+            int read = in.read();
+            if (read == -1) throw new EOFException("Unexpected end of GZIP stream");
+            return read;
+        }
+
+        private static void skip(InputStream in, int bytes) throws IOException {
+            for (int i = 0; i < bytes; i++) readByte(in);
+        }
+
+        private static void skipTerminated(InputStream in) throws IOException {
+            while (readByte(in) != 0) {
+                // skips up to and including the zero
+            }
+        }
+    }
+}
@@ -4,7 +4,7 @@
  * Version: 1.0
  * Last Change:
  *    by:   Revax812
- *    date: 19.06.2022, 14:05
+ *    date: 19.10.2026, 05:40
  * Copyright (c): Revax812, 2022
  */
 
@@ -28,7 +28,20 @@ import org.bukkit.configuration.serialization.ConfigurationSerializable;
 import java.io.File;
 import java.io.Reader;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Allows to create fully customizable custom configs for Minecraft Spigot.<br>
@@ -58,6 +71,38 @@ public class Config {
      * The private {@link YamlConfiguration} config
      */
     private YamlConfiguration config;
+    /**
+     * The private {@link ConfigFormat} format used to load and save the config
+     */
+    private ConfigFormat format;
+    /**
+     * The private {@link ConfigRegistry.Handle} handle shared with every config of the same file
+     */
+    private ConfigRegistry.Handle handle;
+    /**
+     * The private {@link Boolean} closed
+     */
+    private boolean closed = false;
+    /**
+     * The private {@link Executor} executor of the asynchronous methods, null for the default one
+     */
+    private volatile Executor executor;
+    /**
+     * The final {@link Object} lock of the batch state
+     */
+    private final Object batchLock = new Object();
+    /**
+     * The private {@link Integer} depth of the running batches
+     */
+    private int batchDepth = 0;
+    /**
+     * The private {@link Boolean} pendingSave, true if a save was postponed by a batch
+     */
+    private boolean pendingSave = false;
+    /**
+     * The private volatile {@link ConfigSnapshot} snapshot last streamed, reused while its section does not change
+     */
+    private volatile ConfigSnapshot snapshot;
     /**
      * The private {@link Boolean} useCustomPath
      */
@@ -124,25 +169,63 @@ public class Config {
      * @param plugin  represents the {@link Plugin} plugin like the Main class<br>
      * @param name    represents the {@link String} name of the config<br>
      * @param parent  represents the {@link File} filePath of the config
+     * @see           #Config(Plugin, String, File, ConfigFormat)
      */
     public Config(Plugin plugin, String name, File parent) {
+        this(plugin, name, parent, ConfigFormats.byFileName(name));
+    }
+
+    /**
+     * Creates a new {@link Config} config with {@link Plugin} plugin, {@link String} name and {@link ConfigFormat} format.
+     * <br><br>
+     * Redirects to {@link #Config(Plugin, String, File, ConfigFormat)}.<br>
+     *
+     * @param plugin  represents the {@link Plugin} plugin like the Main class<br>
+     * @param name    represents the {@link String} name of the config<br>
+     * @param format  represents the {@link ConfigFormat} format the config is stored in<br>
+     * @see           #Config(Plugin, String, File, ConfigFormat)
+     */
+    public Config(Plugin plugin, String name, ConfigFormat format) {
+        this(plugin, name, plugin.getDataFolder(), format);
+    }
+
+    /**
+     * Creates a new {@link Config} config with {@link Plugin} plugin, {@link String} name, {@link File} parent
+     * and {@link ConfigFormat} format.
+     * <br><br>
+     * First, a new {@link File} is created and it is checked whether the {@link File} filePath already exists.
+     * If this is not the case, it will be created.<br>
+     * Then the same process with the {@link File} config-file takes place.<br>
+     * Finally, the created {@link Config} config is loaded with the {@link ConfigFormat} format.<br>
+     *
+     * @param plugin  represents the {@link Plugin} plugin like the Main class<br>
+     * @param name    represents the {@link String} name of the config<br>
+     * @param parent  represents the {@link File} filePath of the config<br>
+     * @param format  represents the {@link ConfigFormat} format the config is stored in
+     */
+    public Config(Plugin plugin, String name, File parent, ConfigFormat format) {
         this.plugin = plugin;
         this.filename = name;
+        this.format = format;
         filePath = parent;
         file = new File(filePath, name);
 
-        if (!filePath.exists()) filePath.mkdirs();
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("create", file);
+        try {
+            createDirectory();
 
-        if (!file.exists()) {
-            try {
-                file.createNewFile();
-            } catch (IOException e) {
-                e.printStackTrace();
+            if (!file.exists()) {
+                try {
+                    file.createNewFile();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
             }
-        }
 
-        config = YamlConfiguration.loadConfiguration(file);
-        save();
+            attach(false, true);
+        } finally {
+            ConfigProfiler.end(trace);
+        }
     }
 
     /**
@@ -178,30 +261,55 @@ public class Config {
      * @param parent        represents the {@link File} filePath of the config<br>
      * @param copyDefaults  specifies whether the config should save a pre-saved file<br>
      * @param replace       specifies whether the config should be fully replaced by the pre-saved file
+     * @see                 #Config(Plugin, String, File, boolean, boolean, ConfigFormat)
      */
     public Config(Plugin plugin, String name, File parent, boolean copyDefaults, boolean replace) {
+        this(plugin, name, parent, copyDefaults, replace, ConfigFormats.byFileName(name));
+    }
+
+    /**
+     * Creates a new {@link Config} config with {@link Plugin} plugin, {@link String} name, {@link File} parent,
+     * {@link Boolean} copyDefaults, {@link Boolean} replace and {@link ConfigFormat} format.
+     * <br><br>
+     * The same process like in<br>{@link #Config(Plugin, String, File, boolean, boolean)} takes place,
+     * but the config is loaded and saved with the {@link ConfigFormat} format.<br>
+     *
+     * @param plugin        represents the {@link Plugin} plugin like the Main class<br>
+     * @param name          represents the {@link String} name of the config<br>
+     * @param parent        represents the {@link File} filePath of the config<br>
+     * @param copyDefaults  specifies whether the config should save a pre-saved file<br>
+     * @param replace       specifies whether the config should be fully replaced by the pre-saved file<br>
+     * @param format        represents the {@link ConfigFormat} format the config is stored in
+     */
+    public Config(Plugin plugin, String name, File parent, boolean copyDefaults, boolean replace, ConfigFormat format) {
         this.plugin = plugin;
         this.filename = name;
+        this.format = format;
         filePath = parent;
         file = new File(filePath, name);
 
-        if (!filePath.exists()) filePath.mkdirs();
-
-        if (copyDefaults) {
-            if (!file.exists()) this.plugin.saveResource(name, false);
-            else if (replace) this.plugin.saveResource(name, true);
-        } else {
-            if (!file.exists()) {
-                try {
-                    file.createNewFile();
-                } catch (IOException e) {
-                    e.printStackTrace();
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("create", file);
+        try {
+            createDirectory();
+
+            boolean current = false;
+            if (copyDefaults) {
+                if (!file.exists()) extract(name, false);
+                else if (replace) current = !extract(name, true);
+            } else {
+                if (!file.exists()) {
+                    try {
+                        file.createNewFile();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
                 }
             }
-        }
 
-        config = YamlConfiguration.loadConfiguration(file);
-        save();
+            attach(copyDefaults && replace && !current, !current);
+        } finally {
+            ConfigProfiler.end(trace);
+        }
     }
 
     /**
@@ -213,28 +321,50 @@ public class Config {
      * @param plugin    represents the {@link Plugin} plugin like the Main class<br>
      * @param pathName  represents the {@link File} filePath of the config<br>
      * @param name      represents the {@link String} name of the config<br>
-     * @see             #Config(Plugin, String, File)
+     * @see             #Config(Plugin, String, String, ConfigFormat)
      */
     public Config(Plugin plugin, String pathName, String name) {
+        this(plugin, pathName, name, ConfigFormats.byFileName(name));
+    }
+
+    /**
+     * Creates a new {@link Config} config with {@link Plugin} plugin, {@link String} pathName, {@link String} name
+     * and {@link ConfigFormat} format.
+     * <br><br>
+     * First, a new {@link File} is created out of {@link String} pathName and {@link String} name.<br>
+     * After that, the same process like in<br>{@link #Config(Plugin, String, File, ConfigFormat)} takes place.<br>
+     *
+     * @param plugin    represents the {@link Plugin} plugin like the Main class<br>
+     * @param pathName  represents the {@link File} filePath of the config<br>
+     * @param name      represents the {@link String} name of the config<br>
+     * @param format    represents the {@link ConfigFormat} format the config is stored in<br>
+     * @see             #Config(Plugin, String, File, ConfigFormat)
+     */
+    public Config(Plugin plugin, String pathName, String name, ConfigFormat format) {
         this.plugin = plugin;
         this.pathName = pathName;
         this.filename = name;
+        this.format = format;
         filePath = new File(plugin.getDataFolder(), pathName);
         useCustomPath = true;
         file = new File(filePath, name);
 
-        if (!filePath.exists()) filePath.mkdirs();
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("create", file);
+        try {
+            createDirectory();
 
-        if (!file.exists()) {
-            try {
-                file.createNewFile();
-            } catch (IOException e) {
-                e.printStackTrace();
+            if (!file.exists()) {
+                try {
+                    file.createNewFile();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
             }
-        }
 
-        config = YamlConfiguration.loadConfiguration(file);
-        save();
+            attach(false, true);
+        } finally {
+            ConfigProfiler.end(trace);
+        }
     }
 
     /**
@@ -262,50 +392,80 @@ public class Config {
      * @param plugin    represents the {@link Plugin} plugin like the Main class<br>
      * @param pathName  represents the {@link File} filePath of the config<br>
      * @param name      represents the {@link String} name of the config<br>
-     * @see             #Config(Plugin, String, File, boolean, boolean)
+     * @see             #Config(Plugin, String, String, boolean, boolean, ConfigFormat)
      */
     public Config(Plugin plugin, String pathName, String name, boolean copyDefaults, boolean replace) {
+        this(plugin, pathName, name, copyDefaults, replace, ConfigFormats.byFileName(name));
+    }
+
+    /**
+     * Creates a new {@link Config} config with {@link Plugin} plugin, {@link String} pathName, {@link String} name,
+     * {@link Boolean} copyDefaults, {@link Boolean} replace and {@link ConfigFormat} format.
+     * <br><br>
+     * First, a new {@link File} is created out of {@link String} pathName and {@link String} name.<br>
+     * After that, the same process like in<br>{@link #Config(Plugin, String, File, boolean, boolean, ConfigFormat)} takes place.<br>
+     *
+     * @param plugin        represents the {@link Plugin} plugin like the Main class<br>
+     * @param pathName      represents the {@link File} filePath of the config<br>
+     * @param name          represents the {@link String} name of the config<br>
+     * @param copyDefaults  specifies whether the config should save a pre-saved file<br>
+     * @param replace       specifies whether the config should be fully replaced by the pre-saved file<br>
+     * @param format        represents the {@link ConfigFormat} format the config is stored in
+     * @see                 #Config(Plugin, String, File, boolean, boolean, ConfigFormat)
+     */
+    public Config(Plugin plugin, String pathName, String name, boolean copyDefaults, boolean replace, ConfigFormat format) {
         this.plugin = plugin;
         this.pathName = pathName;
         this.filename = name;
+        this.format = format;
         filePath = new File(plugin.getDataFolder(), pathName);
         useCustomPath = true;
         file = new File(filePath, name);
 
-        if (!filePath.exists()) filePath.mkdirs();
-
-        if (copyDefaults) {
-            if (!file.exists()) this.plugin.saveResource(pathName + name, false);
-            else if (replace) this.plugin.saveResource(pathName + name, true);
-        } else {
-            if (!file.exists()) {
-                try {
-                    file.createNewFile();
-                } catch (IOException e) {
-                    e.printStackTrace();
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("create", file);
+        try {
+            createDirectory();
+
+            boolean current = false;
+            if (copyDefaults) {
+                if (!file.exists()) extract(pathName + name, false);
+                else if (replace) current = !extract(pathName + name, true);
+            } else {
+                if (!file.exists()) {
+                    try {
+                        file.createNewFile();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
                 }
             }
-        }
 
-        config = YamlConfiguration.loadConfiguration(file);
-        save();
+            attach(copyDefaults && replace && !current, !current);
+        } finally {
+            ConfigProfiler.end(trace);
+        }
     }
 
     /**
      * Reloads the {@link Config} config.
      * <br><br>
      * First, it is checked if filePath and file exist, and if not they are created.<br>
-     * After that, the config is loaded again.<br>
+     * After that, the config is loaded again. The file is read on the calling thread, as the loaded config is returned,
+     * and written back like {@link #save()}. {@link #reloadAsync()} reads it on the {@link Executor} executor.<br>
      *
      * @return the {@link YamlConfiguration} config
      */
     public YamlConfiguration reload() {
-        if (filePath == null && useCustomPath) filePath = new File(plugin.getDataFolder(), pathName);
-        else if (filePath == null) filePath = new File(plugin.getDataFolder(), plugin.getDataFolder().getName());
-        if (file == null) file = new File(filePath, filename);
-        config = YamlConfiguration.loadConfiguration(file);
-        save();
-        return config;
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("reload", file);
+        try {
+            if (filePath == null && useCustomPath) filePath = new File(plugin.getDataFolder(), pathName);
+            else if (filePath == null) filePath = new File(plugin.getDataFolder(), plugin.getDataFolder().getName());
+            if (file == null) file = new File(filePath, filename);
+            if (read(file)) save();
+            return config;
+        } finally {
+            ConfigProfiler.end(trace);
+        }
     }
 
     /**
@@ -315,11 +475,11 @@ public class Config {
      * @param file represents the {@link File} file that should be loaded
      */
     public void load(File file) {
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("load", file);
         try {
-            config.load(file);
-            save();
-        } catch (InvalidConfigurationException | IOException e) {
-            e.printStackTrace();
+            if (read(file)) save();
+        } finally {
+            ConfigProfiler.end(trace);
         }
     }
 
@@ -330,12 +490,7 @@ public class Config {
      * @param file represents the {@link String} file that should be loaded
      */
     public void load(String file) {
-        try {
-            config.load(file);
-            save();
-        } catch (InvalidConfigurationException | IOException e) {
-            e.printStackTrace();
-        }
+        load(new File(file));
     }
 
     /**
@@ -345,11 +500,23 @@ public class Config {
      * @param reader represents the {@link Reader} reader that should be loaded
      */
     public void load(Reader reader) {
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("load", file);
         try {
-            config.load(reader);
+            long start = System.nanoTime();
+            // read into a copy first, the reader may block and the mutators wait for the lock of the versions
+            YamlConfiguration target = isFileBacked() ? config : ConfigFormats.detached(config);
+            if (target != config) target.load(reader);
+            synchronized (handle.getVersions()) {
+                if (target == config) config.load(reader);
+                else ConfigFormats.replace(target, config);
+                handle.getVersions().incrementAll();
+                if (trace != null) parsed(trace, start, 0);
+            }
             save();
         } catch (InvalidConfigurationException | IOException e) {
             e.printStackTrace();
+        } finally {
+            ConfigProfiler.end(trace);
         }
     }
 
@@ -361,9 +528,13 @@ public class Config {
      * @return the {@link YamlConfiguration} config
      */
     public YamlConfiguration loadConfiguration(File file) {
-        config = YamlConfiguration.loadConfiguration(file);
-        save();
-        return config;
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("loadConfiguration", file);
+        try {
+            if (read(file)) save();
+            return config;
+        } finally {
+            ConfigProfiler.end(trace);
+        }
     }
 
     /**
@@ -374,8 +545,7 @@ public class Config {
      * @return the {@link YamlConfiguration} config
      */
     public YamlConfiguration loadConfiguration(Reader reader) {
-        config = YamlConfiguration.loadConfiguration(reader);
-        save();
+        load(reader);
         return config;
     }
 
@@ -386,11 +556,22 @@ public class Config {
      * @param contents represents the {@link String} contents that should be loaded
      */
     public void loadFromString(String contents) {
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("loadFromString", file);
         try {
-            config.loadFromString(contents);
+            long start = System.nanoTime();
+            YamlConfiguration target = isFileBacked() ? config : ConfigFormats.detached(config);
+            if (target != config) target.loadFromString(contents);
+            synchronized (handle.getVersions()) {
+                if (target == config) config.loadFromString(contents);
+                else ConfigFormats.replace(target, config);
+                handle.getVersions().incrementAll();
+                if (trace != null) parsed(trace, start, contents.length());
+            }
             save();
         } catch (InvalidConfigurationException e) {
             e.printStackTrace();
+        } finally {
+            ConfigProfiler.end(trace);
         }
     }
 
@@ -409,13 +590,41 @@ public class Config {
     /**
      * Saves the {@link Config} config.
      * <br><br>
-     * Saves the {@link File} config-file.
+     * Saves the {@link File} config-file. Inside of {@link #batch(Runnable)} the save is postponed to the end of the batch.<br>
+     * While the plugin is enabled, the file is written on the {@link Executor} executor of the config, so the calling
+     * thread does not wait for the disk. Saves made until the write starts are written together, and the write always
+     * takes the current values. While the plugin is disabled, like in <code>onDisable</code>, and while
+     * {@link ConfigProfiler} traces the call, the file is written before the method returns. {@link #close()} writes
+     * a queued save as well.
      */
     public void save() {
+        synchronized (batchLock) {
+            if (batchDepth > 0) {
+                pendingSave = true;
+                return;
+            }
+        }
+        AtomicBoolean queued = handle.getSaveQueued();
+        if (plugin == null || !plugin.isEnabled() || ConfigProfiler.current() != null) {
+            queued.set(false);
+            write(file);
+            return;
+        }
+        if (!queued.compareAndSet(false, true)) return;
         try {
-            config.save(file);
-        } catch (IOException e) {
-            e.printStackTrace();
+            // the flag is cleared before writing, so a change made during the write queues the next one, and under the
+            // lock, so close() either takes the queued save over or waits for the write
+            getExecutor().execute(() -> {
+                handle.lock();
+                try {
+                    if (queued.compareAndSet(true, false)) write(file);
+                } finally {
+                    handle.unlock();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.set(false);
+            write(file);
         }
     }
 
@@ -426,25 +635,526 @@ public class Config {
      * @param file represents the {@link File} config-file that should be saved
      */
     public void save(File file) {
+        write(file);
+    }
+
+    /**
+     * Saves the {@link Config} config with {@link String} file.
+     * <br><br>
+     *
+     * @param file represents the {@link String} file that should be saved
+     */
+    public void save(String file) {
+        write(new File(file));
+    }
+
+    /**
+     * Closes the {@link Config} config.
+     * <br><br>
+     * Flushes the counters, writes a queued save and releases the shared config of the file. When no other {@link Config} config uses the file anymore, the resources
+     * held by the {@link ConfigFormat} format, like the open file of a key-value store, are released too.<br>
+     * The config must not be used afterwards.
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        flushCounters();
+        handle.lock();
         try {
-            config.save(file);
-        } catch (IOException e) {
+            if (handle.getSaveQueued().compareAndSet(true, false)) write(file);
+        } finally {
+            handle.unlock();
+        }
+        ConfigRegistry.release(handle);
+    }
+
+    /**
+     * Enables the multi-process mode of the {@link Config} config.
+     * <br><br>
+     * Afterwards the file can be shared with other processes, like several servers using the same directory.
+     * Every save locks the file, merges the changes other processes saved in the meantime and then writes it.
+     * {@link #refresh()} takes over the changes of other processes without saving.<br>
+     * The file is read again when the mode is enabled. Formats that keep the file open, like the key-value store,
+     * can not be shared.<br>
+     *
+     * @throws UnsupportedOperationException  if the format does not support the multi-process mode
+     */
+    public void enableMultiProcess() {
+        handle.lock();
+        try {
+            if (handle.getSync() != null) return;
+            if (config instanceof PathConfiguration) throw new UnsupportedOperationException("The format " + format.getName() + " can not be shared between processes");
+            try {
+                FileSync sync = new FileSync(handle.getFile(), format);
+                handle.setSync(sync);
+                readChecked(handle.getFile());
+            } catch (InvalidConfigurationException | IOException e) {
+                e.printStackTrace();
+            }
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the multi-process mode of the {@link Config} config is enabled.
+     * <br><br>
+     *
+     * @return  true if the file is shared with other processes
+     * @see     #enableMultiProcess()
+     */
+    public Boolean isMultiProcess() {
+        return handle.getSync() != null;
+    }
+
+    /**
+     * Takes over the changes other processes saved to the file of the {@link Config} config.
+     * <br><br>
+     * Only the version stamp of the file is read if nothing changed, so this can be called before every access.<br>
+     *
+     * @return  true if the file was changed by another process
+     * @see     #enableMultiProcess()
+     */
+    public Boolean refresh() {
+        handle.lock();
+        try {
+            FileSync sync = handle.getSync();
+            if (sync == null) return false;
+            try {
+                return sync.refresh(config, handle.getVersions());
+            } catch (InvalidConfigurationException | IOException e) {
+                e.printStackTrace();
+                return false;
+            }
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Gets the {@link Long} version stamp of the file of the {@link Config} config.
+     * <br><br>
+     * The version is increased by every save of any process.<br>
+     *
+     * @return  the {@link Long} version or -1 if the multi-process mode is not enabled
+     * @see     #enableMultiProcess()
+     */
+    public Long getVersion() {
+        FileSync sync = handle.getSync();
+        return sync == null ? -1 : sync.getVersion();
+    }
+
+    /**
+     * Sets the {@link ConfigSchema} schema of the {@link Config} config and reloads it.
+     * <br><br>
+     * Every later load and reload checks the file against the schema and converts its values before they replace the
+     * values of the config. If the file does not match the schema, all errors are reported together and the config
+     * keeps its previous values.<br>
+     * The schema is shared by every {@link Config} config of the same file.<br>
+     *
+     * @param schema  represents the {@link ConfigSchema} schema, null removes the schema
+     * @throws SchemaException  if the current file does not match the schema
+     */
+    public void setSchema(ConfigSchema schema) throws SchemaException {
+        handle.lock();
+        try {
+            ConfigSchema previous = handle.getSchema();
+            handle.setSchema(schema);
+            if (schema == null) return;
+            try {
+                readChecked(file);
+            } catch (SchemaException e) {
+                handle.setSchema(previous);
+                throw e;
+            } catch (InvalidConfigurationException | IOException e) {
+                e.printStackTrace();
+            }
+        } finally {
+            handle.unlock();
+        }
+        save();
+    }
+
+    /**
+     * Gets the {@link ConfigSchema} schema of the {@link Config} config.
+     * <br><br>
+     *
+     * @return  the {@link ConfigSchema} schema or null if there is none
+     */
+    public ConfigSchema getSchema() {
+        return handle.getSchema();
+    }
+
+    /**
+     * Enables or disables the data mode of the {@link Config} config.
+     * <br><br>
+     * In data mode comments are neither parsed when the file is loaded nor written when it is saved, and header and
+     * footer are dropped. This makes loading and saving of large machine-written files faster and keeps the comment
+     * bookkeeping out of memory. The comment, header and footer setters do nothing in data mode.<br>
+     * The file is read again when the mode changes. The mode is shared by every {@link Config} config of the same file.<br>
+     *
+     * @param dataMode  specifies whether the data mode should be enabled
+     */
+    public void setDataMode(boolean dataMode) {
+        handle.lock();
+        try {
+            if (handle.isDataMode() == dataMode) return;
+            handle.setDataMode(dataMode);
+            config.options().parseComments(!dataMode);
+            if (dataMode) {
+                config.options().setHeader(Collections.emptyList());
+                config.options().setFooter(Collections.emptyList());
+            }
+            if (!read(file)) return;
+        } finally {
+            handle.unlock();
+        }
+        save();
+    }
+
+    /**
+     * Checks whether the data mode of the {@link Config} config is enabled.
+     * <br><br>
+     *
+     * @return  true if comments are ignored
+     * @see     #setDataMode(boolean)
+     */
+    public Boolean isDataMode() {
+        return handle.isDataMode();
+    }
+
+    /**
+     * Attaches the {@link Config} config to the shared config of its {@link File} file.
+     * <br><br>
+     * Every {@link Config} config of the same file works on the same {@link YamlConfiguration} config, see
+     * {@link ConfigRegistry}. The file is only read by the first config, or again if {@link Boolean} reload is true.<br>
+     *
+     * @param reload     specifies whether the file should be read even if it is already loaded<br>
+     * @param writeBack  specifies whether the config should be saved after reading the file
+     */
+    private void attach(boolean reload, boolean writeBack) {
+        handle = ConfigRegistry.acquire(file, format);
+        format = handle.getFormat();
+        config = handle.getConfig();
+        handle.lock();
+        try {
+            if (handle.isLoaded() && !reload) return;
+            if (read(file) && writeBack) save();
+            handle.setLoaded();
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Reads the {@link File} file into the {@link YamlConfiguration} config with the {@link ConfigFormat} format.
+     * <br><br>
+     * A file that exists but could not be read must not be saved afterwards, the config would overwrite it with what
+     * is left in memory. A missing file may be written again.<br>
+     *
+     * @param file represents the {@link File} file that should be read<br>
+     * @return     true if the file was read or is missing, false if it could not be read
+     */
+    private boolean read(File file) {
+        try {
+            readChecked(file);
+            return true;
+        } catch (InvalidConfigurationException | IOException e) {
             e.printStackTrace();
+            return !file.exists();
         }
     }
 
     /**
-     * Saves the {@link Config} config with {@link String} file.
+     * Reads the {@link File} file into the {@link YamlConfiguration} config with the {@link ConfigFormat} format.
      * <br><br>
      *
-     * @param file represents the {@link String} file that should be saved
+     * The file is read into a copy without holding the lock of the versions, so the mutators and virtual threads are
+     * not blocked by the I/O, and the copy replaces the values of the config under the lock afterwards. Formats
+     * reading the file into the config itself, like the key-value store, read under the lock instead.<br>
+     * If a {@link ConfigSchema} schema is set, the copy is checked and converted first. The config is only replaced
+     * if the copy matches the schema, its header and comments are carried over.<br>
+     *
+     * @param file represents the {@link File} file that should be read
+     * @throws IOException                    if the file could not be read
+     * @throws InvalidConfigurationException  if the file is not valid or does not match the schema
+     */
+    private void readChecked(File file) throws IOException, InvalidConfigurationException {
+        handle.lock();
+        try {
+            FileSync sync = handle.getSync();
+            ConfigSchema schema = handle.getSchema();
+            YamlConfiguration target = schema == null && isFileBacked() ? config : ConfigFormats.detached(config);
+
+            ConfigProfiler.Trace trace = ConfigProfiler.current();
+            long start = trace == null ? 0 : System.nanoTime();
+            if (target != config) {
+                readInto(target, sync, file);
+                if (schema != null) schema.apply(target);
+            }
+            synchronized (handle.getVersions()) {
+                if (target == config) readInto(config, sync, file);
+                else ConfigFormats.replace(target, config);
+                handle.getVersions().incrementAll();
+                if (trace != null) parsed(trace, start, file.length());
+            }
+            if (isOwnFile(file)) handle.getExpiry().load(this::tickExpiry);
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Reads the {@link File} file into {@link YamlConfiguration} target, through the {@link FileSync} sync if it
+     * synchronizes the file, and replays the list journal of the own file.
+     */
+    private void readInto(YamlConfiguration target, FileSync sync, File file) throws IOException, InvalidConfigurationException {
+        if (sync != null && sync.isFor(file)) sync.load(target);
+        else format.load(target, file);
+        if (sync == null && isOwnFile(file)) handle.getJournal().replay(target);
+    }
+
+    /**
+     * Writes the {@link YamlConfiguration} config to {@link File} file with the {@link ConfigFormat} format.
+     * <br><br>
+     *
+     * @param file represents the {@link File} file that should be written
+     */
+    private void write(File file) {
+        try {
+            writeChecked(file);
+        } catch (InvalidConfigurationException | IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the {@link YamlConfiguration} config to {@link File} file with the {@link ConfigFormat} format.
+     * <br><br>
+     * The mutators only hold the lock of the versions, not the lock of the handle, so the config is copied under the
+     * lock of the versions and the copy is written without holding it. Formats writing the file from the config
+     * itself, like the key-value store, write under the lock of the versions instead.<br>
+     *
+     * @param file represents the {@link File} file that should be written
+     * @throws IOException                    if the file could not be written
+     * @throws InvalidConfigurationException  if the file of another process could not be merged
+     */
+    private void writeChecked(File file) throws IOException, InvalidConfigurationException {
+        handle.lock();
+        try {
+            ConfigProfiler.Trace trace = ConfigProfiler.current();
+            long start = trace == null ? 0 : System.nanoTime();
+            FileSync sync = handle.getSync();
+            if (sync != null && sync.isFor(file)) {
+                sync.save(config, handle.getVersions());
+            } else {
+                if (isFileBacked()) {
+                    synchronized (handle.getVersions()) {
+                        format.save(config, file);
+                    }
+                } else {
+                    YamlConfiguration snapshot;
+                    synchronized (handle.getVersions()) {
+                        snapshot = ConfigFormats.snapshot(config);
+                    }
+                    format.save(snapshot, file);
+                }
+                if (isOwnFile(file)) handle.getJournal().reset();
+            }
+            if (isOwnFile(file)) handle.getExpiry().store();
+            if (trace != null) {
+                trace.phase(ConfigProfiler.Phase.WRITE, start);
+                trace.written(file.length());
+            }
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Gets the {@link ConfigRegistry.Handle} handle shared with every config of the same file, for the other classes of
+     * the library.
+     */
+    ConfigRegistry.Handle getHandle() {
+        return handle;
+    }
+
+    /**
+     * Creates the directory of the {@link Config} config if it does not exist.
+     */
+    private void createDirectory() {
+        ConfigProfiler.Trace trace = ConfigProfiler.current();
+        long start = trace == null ? 0 : System.nanoTime();
+        if (!filePath.exists()) filePath.mkdirs();
+        if (trace != null) trace.phase(ConfigProfiler.Phase.DIRECTORY, start);
+    }
+
+    /**
+     * Extracts the bundled file {@link String} resource of the plugin, see {@link ResourceExtractor#extract(Plugin, String, boolean)}.
+     */
+    private boolean extract(String resource, boolean replace) {
+        ConfigProfiler.Trace trace = ConfigProfiler.current();
+        long start = trace == null ? 0 : System.nanoTime();
+        boolean extracted = ResourceExtractor.extract(plugin, resource, replace);
+        if (trace != null) trace.phase(ConfigProfiler.Phase.EXTRACT, start);
+        return extracted;
+    }
+
+    /**
+     * Records a read of {@link Long} bytes started at {@link Long} start in {@link ConfigProfiler.Trace} trace, with the
+     * number of nodes of the config.<br>
+     * The caller has to hold the lock of the versions.
+     */
+    private void parsed(ConfigProfiler.Trace trace, long start, long bytes) {
+        trace.phase(ConfigProfiler.Phase.PARSE, start);
+        trace.read(bytes, config.getKeys(true).size());
+    }
+
+    /**
+     * Checks whether the {@link ConfigFormat} format reads and writes the file from the config itself, like the
+     * key-value store and the mapped index, instead of from a copy of it.
+     */
+    private boolean isFileBacked() {
+        return config instanceof StoreConfiguration || config instanceof MappedConfiguration;
+    }
+
+    /**
+     * Checks whether {@link File} other is the file of the {@link Config} config.
+     */
+    private boolean isOwnFile(File other) {
+        return other == file || handle.isFile(other);
+    }
+
+    /**
+     * Reloads the {@link Config} config on the {@link Executor} executor.
+     * <br><br>
+     * Works like {@link #reload()}, but the returned {@link CompletableFuture} future completes exceptionally if the
+     * file could not be read or written.<br>
+     *
+     * @return  the {@link CompletableFuture} future completed with the {@link YamlConfiguration} config
+     * @see     #setExecutor(Executor)
+     */
+    public CompletableFuture<YamlConfiguration> reloadAsync() {
+        return async(() -> {
+            ConfigProfiler.Trace trace = ConfigProfiler.begin("reloadAsync", file);
+            try {
+                readChecked(file);
+                writeChecked(file);
+                return config;
+            } finally {
+                ConfigProfiler.end(trace);
+            }
+        });
+    }
+
+    /**
+     * Saves the {@link Config} config on the {@link Executor} executor.
+     * <br><br>
+     * Works like {@link #save()}, but the returned {@link CompletableFuture} future completes exceptionally if the
+     * file could not be written.<br>
+     *
+     * @return  the {@link CompletableFuture} future completed when the file is written
+     * @see     #setExecutor(Executor)
+     */
+    public CompletableFuture<Void> saveAsync() {
+        return async(() -> {
+            writeChecked(file);
+            return null;
+        });
+    }
+
+    /**
+     * Loads the {@link Config} config with {@link Path} path on the {@link Executor} executor.
+     * <br><br>
+     * Works like {@link #load(File)}, but the returned {@link CompletableFuture} future completes exceptionally if
+     * one of the files could not be read or written.<br>
+     *
+     * @param path  represents the {@link Path} path of the file that should be loaded<br>
+     * @return      the {@link CompletableFuture} future completed with the {@link YamlConfiguration} config
+     * @see         #setExecutor(Executor)
+     */
+    public CompletableFuture<YamlConfiguration> loadAsync(Path path) {
+        return async(() -> {
+            ConfigProfiler.Trace trace = ConfigProfiler.begin("loadAsync", file);
+            try {
+                readChecked(path.toFile());
+                writeChecked(file);
+                return config;
+            } finally {
+                ConfigProfiler.end(trace);
+            }
+        });
+    }
+
+    /**
+     * Gets the requested {@link Object} object by {@link String} path on the {@link Executor} executor.
+     * <br><br>
+     * Useful for formats that read values from disk, like the key-value store.<br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link CompletableFuture} future completed with the {@link Object} object or null
+     * @see         #setExecutor(Executor)
+     */
+    public CompletableFuture<Object> getAsync(String path) {
+        return async(() -> get(path));
+    }
+
+    /**
+     * Gets the requested {@link Object} objects by {@link Collection} paths on the {@link Executor} executor.
+     * <br><br>
+     * All values are read in one task. Missing paths are mapped to null.<br>
+     *
+     * @param paths  represents the {@link Collection} paths that are selected as config paths<br>
+     * @return       the {@link CompletableFuture} future completed with the {@link Map} of paths and objects
+     * @see          #setExecutor(Executor)
+     */
+    public CompletableFuture<Map<String, Object>> getAsync(Collection<String> paths) {
+        return async(() -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String path : paths) values.put(path, get(path));
+            return values;
+        });
+    }
+
+    /**
+     * Gets the {@link Executor} executor the asynchronous methods run on.
+     * <br><br>
+     *
+     * @return  the {@link Executor} executor
+     * @see     ConfigExecutors#getDefault()
+     */
+    public Executor getExecutor() {
+        return executor == null ? ConfigExecutors.getDefault() : executor;
+    }
+
+    /**
+     * Sets the {@link Executor} executor the asynchronous methods run on.
+     * <br><br>
+     *
+     * @param executor  represents the {@link Executor} executor, null uses {@link ConfigExecutors#getDefault()}
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs {@link Callable} task on the {@link Executor} executor and completes the {@link CompletableFuture} future
+     * with its result or exception.
      */
-    public void save(String file) {
+    private <T> CompletableFuture<T> async(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
         try {
-            config.save(file);
-        } catch (IOException e) {
-            e.printStackTrace();
+            getExecutor().execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
         }
+        return future;
     }
 
     /**
@@ -464,60 +1174,121 @@ public class Config {
      * @param replace specifies whether the config should be fully replaced by the pre-saved file
      */
     public void setDefaults(boolean replace) {
-        if (!filePath.exists()) filePath.mkdirs();
-        if (pathName != null) {
-            if (!file.exists()) this.plugin.saveResource(pathName + filename, false);
-            else if (replace) this.plugin.saveResource(pathName + filename, true);
-        } else {
-            if (!file.exists()) this.plugin.saveResource(filename, false);
-            else if (replace) this.plugin.saveResource(filename, true);
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("setDefaults", file);
+        try {
+            createDirectory();
+            String resourcePath = pathName != null ? pathName + filename : filename;
+            if (!extract(resourcePath, replace) && file.exists()) return;
+            save();
+        } finally {
+            ConfigProfiler.end(trace);
         }
-        save();
     }
 
     /**
      * Sets the defaults for the {@link Config} config.
      * <br><br>
+     * The values of the {@link Configuration} configuration are copied into a flat overlay, so reading a default
+     * costs a single lookup. Later changes of the configuration are not seen by the config.<br>
+     * The config is only saved if defaults are copied into it.<br>
      *
      * @param defaults represents the {@link Configuration} configuration that should be set
      */
     public void setDefaults(Configuration defaults) {
-        config.setDefaults(defaults);
-        save();
+        ConfigProfiler.Trace trace = ConfigProfiler.begin("setDefaults", file);
+        try {
+            config.setDefaults(new DefaultsOverlay(defaults));
+            saveDefaults();
+        } finally {
+            ConfigProfiler.end(trace);
+        }
     }
 
     /**
      * Adds defaults to the {@link Config} config.
      * <br><br>
+     * The config is only saved if defaults are copied into it, see {@link #batch(Runnable)} for adding many defaults.<br>
      *
      * @param path  represents the {@link String} path of the defaults that should be added<br>
      * @param value represents the {@link Object} value that should be added
      */
     public void addDefault(String path, Object value) {
-        config.addDefault(path, value);
-        save();
+        defaults().set(path, value);
+        saveDefaults();
     }
 
     /**
      * Adds defaults to the {@link Config} config.
      * <br><br>
+     * The config is only saved if defaults are copied into it.<br>
      *
      * @param defaults represents the {@link Map}<{@link String}, {@link Object}> defaults that should be added
      */
     public void addDefaults(Map<String, Object> defaults) {
-        config.addDefaults(defaults);
-        save();
+        defaults().addDefaults(defaults);
+        saveDefaults();
     }
 
     /**
      * Adds defaults to the {@link Config} config.
      * <br><br>
+     * The config is only saved if defaults are copied into it.<br>
      *
      * @param defaults represents the {@link Configuration} defaults that should be added
      */
     public void addDefaults(Configuration defaults) {
-        config.addDefaults(defaults);
-        save();
+        defaults().addDefaults(defaults);
+        saveDefaults();
+    }
+
+    /**
+     * Gets the {@link DefaultsOverlay} defaults of the config, replacing plain defaults by an overlay.
+     */
+    private DefaultsOverlay defaults() {
+        handle.lock();
+        try {
+            Configuration defaults = config.getDefaults();
+            if (defaults instanceof DefaultsOverlay) return (DefaultsOverlay) defaults;
+            DefaultsOverlay overlay = new DefaultsOverlay(defaults);
+            config.setDefaults(overlay);
+            return overlay;
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Saves the {@link Config} config after the defaults changed, if they are copied into the file.
+     */
+    private void saveDefaults() {
+        if (config.options().copyDefaults()) save();
+    }
+
+    /**
+     * Runs {@link Runnable} changes and saves the {@link Config} config once afterwards.
+     * <br><br>
+     * Every {@link #save()} of this config while the changes run, like the ones of {@link #set(String, Object)} or
+     * {@link #addDefault(String, Object)}, is postponed to the end of the batch. Batches can be nested, the config
+     * is saved at the end of the outermost one.<br>
+     *
+     * @param changes  represents the {@link Runnable} changes that should be made
+     */
+    public void batch(Runnable changes) {
+        synchronized (batchLock) {
+            batchDepth++;
+        }
+        boolean save = false;
+        try {
+            changes.run();
+        } finally {
+            synchronized (batchLock) {
+                if (--batchDepth == 0 && pendingSave) {
+                    pendingSave = false;
+                    save = true;
+                }
+            }
+            if (save) save();
+        }
     }
 
     /**
@@ -573,6 +1344,7 @@ public class Config {
      */
     @Deprecated
     public YamlConfigurationOptions setHeader(String header) {
+        if (isDataMode()) return config.options();
         YamlConfigurationOptions options = config.options().header(header);
         save();
         return options;
@@ -586,6 +1358,7 @@ public class Config {
      * @return the {@link YamlConfigurationOptions} options
      */
     public YamlConfigurationOptions setHeader(List<String> value) {
+        if (isDataMode()) return config.options();
         YamlConfigurationOptions options = config.options().setHeader(value);
         save();
         return options;
@@ -599,6 +1372,7 @@ public class Config {
      * @return the {@link YamlConfigurationOptions} options
      */
     public YamlConfigurationOptions setHeader(String... values) {
+        if (isDataMode()) return config.options();
         List<String> headerValues = new ArrayList<>();
         Collections.addAll(headerValues, values);
         YamlConfigurationOptions options = config.options().setHeader(headerValues);
@@ -649,6 +1423,7 @@ public class Config {
      */
     @Deprecated
     public YamlConfigurationOptions copyHeader(boolean value) {
+        if (isDataMode()) return config.options();
         YamlConfigurationOptions options = config.options().copyHeader(value);
         save();
         return options;
@@ -686,6 +1461,7 @@ public class Config {
      * @return the {@link YamlConfigurationOptions} options
      */
     public YamlConfigurationOptions setFooter(List<String> value) {
+        if (isDataMode()) return config.options();
         YamlConfigurationOptions options = config.options().setFooter(value);
         save();
         return options;
@@ -699,6 +1475,7 @@ public class Config {
      * @return the {@link YamlConfigurationOptions} options
      */
     public YamlConfigurationOptions setFooter(String... values) {
+        if (isDataMode()) return config.options();
         List<String> footerValues = new ArrayList<>();
         Collections.addAll(footerValues, values);
         YamlConfigurationOptions options = config.options().setFooter(footerValues);
@@ -724,6 +1501,7 @@ public class Config {
      * @param comments represents the {@link List<String>} comments that should be set
      */
     public void setComments(String path, List<String> comments) {
+        if (isDataMode()) return;
         config.setComments(path, comments);
         save();
     }
@@ -736,6 +1514,7 @@ public class Config {
      * @param comments  represents the {@link String}... comments that should be set
      */
     public void setComments(String path, String... comments) {
+        if (isDataMode()) return;
         List<String> commentList = new ArrayList<>();
         Collections.addAll(commentList, comments);
         config.setComments(path, commentList);
@@ -750,6 +1529,7 @@ public class Config {
      * @return      the {@link List<String>} comment list
      */
     public List<String> getComments(String path) {
+        if (isDataMode()) return !contains(path) ? null : Collections.emptyList();
         return !contains(path) ? null : config.getComments(path);
     }
 
@@ -761,6 +1541,7 @@ public class Config {
      * @param comments represents the {@link List<String>} inlineComments that should be set
      */
     public void setInlineComments(String path, List<String> comments) {
+        if (isDataMode()) return;
         config.setInlineComments(path, comments);
         save();
     }
@@ -773,6 +1554,7 @@ public class Config {
      * @param comments  represents the {@link String}... inlineComments that should be set
      */
     public void setInlineComments(String path, String... comments) {
+        if (isDataMode()) return;
         List<String> commentList = new ArrayList<>();
         Collections.addAll(commentList, comments);
         config.setInlineComments(path, commentList);
@@ -787,6 +1569,7 @@ public class Config {
      * @return      the {@link List<String>} inlineComment list
      */
     public List<String> getInlineComments(String path) {
+        if (isDataMode()) return !contains(path) ? null : Collections.emptyList();
         return !contains(path) ? null : config.getInlineComments(path);
     }
 
@@ -812,6 +1595,7 @@ public class Config {
      * @return  the {@link YamlConfigurationOptions} options
      */
     public YamlConfigurationOptions parseComments(boolean value) {
+        if (isDataMode()) return config.options();
         YamlConfigurationOptions options = config.options().parseComments(value);
         save();
         return options;
@@ -930,9 +1714,12 @@ public class Config {
      * @param deep whether or not to get a deep list, as opposed to a shallow list.
      */
     public void clear(boolean deep) {
-        Map<String, Object> configValues = config.getValues(deep);
-        for (Map.Entry<String, Object> entry : configValues.entrySet()) {
-            config.set(entry.getKey(), null);
+        synchronized (handle.getVersions()) {
+            Map<String, Object> configValues = config.getValues(deep);
+            for (Map.Entry<String, Object> entry : configValues.entrySet()) {
+                config.set(entry.getKey(), null);
+            }
+            handle.getVersions().incrementAll();
         }
         save();
     }
@@ -944,7 +1731,11 @@ public class Config {
      * @param path represents the path that should be cleared
      */
     public void clearPath(String path) {
-        config.set(path, null);
+        synchronized (handle.getVersions()) {
+            config.set(path, null);
+            handle.getVersions().increment(path, getPathSeparator());
+            handle.getExpiry().cancel(path);
+        }
         save();
     }
 
@@ -1064,7 +1855,12 @@ public class Config {
      * @return       the {@link ConfigurationSection} section
      */
     public ConfigurationSection createSection(String path) {
-        ConfigurationSection section = config.createSection(path);
+        ConfigurationSection section;
+        synchronized (handle.getVersions()) {
+            section = config.createSection(path);
+            handle.getVersions().increment(path, getPathSeparator());
+            handle.getExpiry().cancel(path);
+        }
         save();
         return section;
     }
@@ -1078,7 +1874,12 @@ public class Config {
      * @return        the {@link ConfigurationSection} section
      */
     public ConfigurationSection createSection(String path, Map<?, ?> values) {
-        ConfigurationSection section = config.createSection(path, values);
+        ConfigurationSection section;
+        synchronized (handle.getVersions()) {
+            section = config.createSection(path, values);
+            handle.getVersions().increment(path, getPathSeparator());
+            handle.getExpiry().cancel(path);
+        }
         save();
         return section;
     }
@@ -1128,13 +1929,542 @@ public class Config {
     /**
      * Sets a value to a path of the {@link Config} config.
      * <br><br>
+     * An expiry set for the path with {@link #set(String, Object, Duration)} is removed.<br>
      *
      * @param path  represents the {@link String} path that should be selected<br>
      * @param value represents the {@link Object} value that should be set
      */
     public void set(String path, Object value) {
-        config.set(path, value);
+        synchronized (handle.getVersions()) {
+            config.set(path, value);
+            handle.getVersions().increment(path, getPathSeparator());
+            handle.getExpiry().cancel(path);
+        }
+        save();
+    }
+
+    /**
+     * Sets a value to a path of the {@link Config} config, which is removed again after {@link Duration} ttl.
+     * <br><br>
+     * Fits cooldowns, temporary bans or invites, which no longer have to be purged by scanning their section. The
+     * expiry time survives restarts, it is kept in the file <code>name.ttl</code> next to the config file. Expired
+     * paths are removed within a tenth of a second and saved together, the listeners added with
+     * {@link #addExpiryListener(BiConsumer)} are called afterwards.<br>
+     * Setting the path again, with or without ttl, replaces the expiry, which includes {@link #compareAndSet},
+     * {@link #computeIfAbsent}, {@link #update} and {@link #createSection(String)}. An expiring path should not be the
+     * parent of other expiring paths.<br>
+     *
+     * @param path   represents the {@link String} path that should be selected<br>
+     * @param value  represents the {@link Object} value that should be set<br>
+     * @param ttl    represents the {@link Duration} time after which the path is removed
+     */
+    public void set(String path, Object value, Duration ttl) {
+        long deadline = System.currentTimeMillis() + ttl.toMillis();
+        synchronized (handle.getVersions()) {
+            config.set(path, value);
+            handle.getVersions().increment(path, getPathSeparator());
+            if (value == null) handle.getExpiry().cancel(path);
+            else handle.getExpiry().schedule(path, deadline, this::tickExpiry);
+        }
+        save();
+    }
+
+    /**
+     * Gets the time at which {@link String} path expires.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Long} time in milliseconds since the epoch, null if the path does not expire
+     */
+    public Long getExpiry(String path) {
+        return handle.getExpiry().getDeadline(path);
+    }
+
+    /**
+     * Adds a listener called with the path and the last value of every path that expired.
+     * <br><br>
+     * The listener is called on the {@link Executor} executor of the config, after the expired paths were removed and
+     * saved, and applies to every {@link Config} config of the same file. Bukkit API calls have to be scheduled onto
+     * the main thread.<br>
+     *
+     * @param listener  represents the {@link BiConsumer} listener that should be added
+     */
+    public void addExpiryListener(BiConsumer<String, Object> listener) {
+        handle.getExpiry().getListeners().add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addExpiryListener(BiConsumer)}.
+     * <br><br>
+     *
+     * @param listener  represents the {@link BiConsumer} listener that should be removed
+     */
+    public void removeExpiryListener(BiConsumer<String, Object> listener) {
+        handle.getExpiry().getListeners().remove(listener);
+    }
+
+    /**
+     * Advances the {@link ExpiryWheel} wheel of the config and removes the expired paths on the {@link Executor}
+     * executor, so the scheduler is not blocked by the save.
+     */
+    private void tickExpiry() {
+        Map<String, Long> expired = new LinkedHashMap<>();
+        PathVersions versions = handle.getVersions();
+        // the stamps are taken together with the expiry, so a write before the removal is seen
+        synchronized (versions) {
+            for (String path : handle.getExpiry().advance(System.currentTimeMillis())) expired.put(path, versions.stamp(path));
+            // the counters of the paths are kept until the stamps are compared
+            if (!expired.isEmpty()) versions.hold();
+        }
+        if (expired.isEmpty()) return;
+        try {
+            getExecutor().execute(() -> removeExpired(expired));
+        } catch (RejectedExecutionException e) {
+            removeExpired(expired);
+        }
+    }
+
+    /**
+     * Removes the expired paths of {@link Map} stamps that were not written since they expired, saves once and calls
+     * the listeners.
+     */
+    private void removeExpired(Map<String, Long> stamps) {
+        Map<String, Object> removed = new LinkedHashMap<>();
+        handle.lock();
+        try {
+            ExpiryWheel expiry = handle.getExpiry();
+            synchronized (handle.getVersions()) {
+                try {
+                    for (Map.Entry<String, Long> stamp : stamps.entrySet()) {
+                        String path = stamp.getKey();
+                        if (handle.getVersions().stamp(path) != stamp.getValue()) continue;
+                        Object value = config.get(path, null);
+                        if (value == null) continue;
+                        config.set(path, null);
+                        handle.getVersions().increment(path, getPathSeparator());
+                        removed.put(path, value);
+                    }
+                } finally {
+                    handle.getVersions().release();
+                }
+            }
+            if (removed.isEmpty()) {
+                try {
+                    expiry.store();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            } else {
+                save();
+            }
+        } finally {
+            handle.unlock();
+        }
+        for (Map.Entry<String, Object> entry : removed.entrySet()) {
+            for (BiConsumer<String, Object> listener : handle.getExpiry().getListeners()) listener.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Sets {@link Object} value at {@link String} path if the current value equals {@link Object} expected.
+     * <br><br>
+     * The check and the write are atomic with respect to every other mutator of the {@link Config} configs of the file.<br>
+     *
+     * @param path      represents the {@link String} path that is selected as config path<br>
+     * @param expected  represents the {@link Object} expected current value, null for a missing value<br>
+     * @param value     represents the {@link Object} value that should be set<br>
+     * @return          true if the value was set
+     */
+    public Boolean compareAndSet(String path, Object expected, Object value) {
+        PathVersions versions = handle.getVersions();
+        synchronized (versions) {
+            if (!Objects.equals(config.get(path, null), expected)) return false;
+            config.set(path, value);
+            versions.increment(path, getPathSeparator());
+            handle.getExpiry().cancel(path);
+        }
         save();
+        return true;
+    }
+
+    /**
+     * Gets the value at {@link String} path or sets it to the value computed by {@link Function} function if it is missing.
+     * <br><br>
+     * The function is called without holding a lock. If the path is written by another thread in the meantime,
+     * the current value is checked again and the function may be called again.<br>
+     *
+     * @param path      represents the {@link String} path that is selected as config path<br>
+     * @param function  represents the {@link Function} function computing the value from the path<br>
+     * @return          the {@link Object} current or computed value, null if the function returned null
+     */
+    public Object computeIfAbsent(String path, Function<String, ?> function) {
+        PathVersions versions = handle.getVersions();
+        char separator = getPathSeparator();
+        while (true) {
+            long version = versions.get(path, separator);
+            Object current = config.get(path, null);
+            if (current != null) return current;
+            Object value = function.apply(path);
+            if (value == null) return null;
+            synchronized (versions) {
+                if (versions.get(path, separator) != version) continue;
+                config.set(path, value);
+                versions.increment(path, separator);
+                handle.getExpiry().cancel(path);
+            }
+            save();
+            return value;
+        }
+    }
+
+    /**
+     * Replaces the value at {@link String} path with the result of {@link UnaryOperator} function.
+     * <br><br>
+     * The function gets the current value, null if it is missing, and is called without holding a lock.
+     * If the path is written by another thread in the meantime, the function is called again with the new value,
+     * so it should not have side effects. A null result removes the value.<br>
+     *
+     * @param path      represents the {@link String} path that is selected as config path<br>
+     * @param function  represents the {@link UnaryOperator} function computing the new value<br>
+     * @param <T>       the type of the value
+     * @return          the new value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T update(String path, UnaryOperator<T> function) {
+        PathVersions versions = handle.getVersions();
+        char separator = getPathSeparator();
+        while (true) {
+            long version = versions.get(path, separator);
+            T value = function.apply((T) config.get(path, null));
+            synchronized (versions) {
+                if (versions.get(path, separator) != version) continue;
+                config.set(path, value);
+                versions.increment(path, separator);
+                handle.getExpiry().cancel(path);
+            }
+            save();
+            return value;
+        }
+    }
+
+    /**
+     * Gets the text at {@link String} path as a compiled {@link ConfigTemplate} template.
+     * <br><br>
+     * The text is parsed once into its literal parts and its placeholders <code>{name}</code> and <code>%name%</code>,
+     * references <code>${other.path}</code> are replaced by the text at the other path. The template is cached until
+     * the path or one of the referenced paths changes. A list of texts is joined with line breaks.<br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link ConfigTemplate} template, null if there is no text at the path
+     */
+    public ConfigTemplate getTemplate(String path) {
+        TemplateCache cache = handle.getTemplates();
+        ConfigTemplate template = cache.get(path);
+        if (template != null) return template;
+
+        synchronized (handle.getVersions()) {
+            template = cache.get(path);
+            if (template != null) return template;
+            String text = getText(path);
+            if (text == null) return null;
+            Set<String> sources = new HashSet<>();
+            sources.add(path);
+            template = ConfigTemplate.compile(text, reference -> {
+                sources.add(reference);
+                return getText(reference);
+            });
+            cache.put(path, template, sources);
+        }
+        return template;
+    }
+
+    /**
+     * Gets the text at {@link String} path for a template, joining a list with line breaks.
+     */
+    private String getText(String path) {
+        Object value = config.get(path);
+        if (value instanceof List) {
+            StringJoiner text = new StringJoiner("\n");
+            for (Object line : (List<?>) value) text.add(String.valueOf(line));
+            return text.toString();
+        }
+        return value == null || value instanceof ConfigurationSection ? null : value.toString();
+    }
+
+    /**
+     * Streams the values of the section at {@link String} sectionPath.
+     * <br><br>
+     * Unlike {@link #getValues(boolean)}, the values are copied once into arrays and the {@link ConfigEntry} entries are
+     * only created while the stream is traversed. The stream works on a snapshot, so it can be used on any thread and
+     * in parallel, a parallel stream splits the work between the child sections. The snapshot is reused until the
+     * section changes. Sections themselves are not streamed.<br>
+     *
+     * @param sectionPath  represents the {@link String} path of the section, empty for the whole config<br>
+     * @param deep         specifies whether the values of all child sections should be streamed too<br>
+     * @return             the {@link Stream} of entries, empty if there is no such section
+     */
+    public Stream<ConfigEntry> stream(String sectionPath, boolean deep) {
+        PathVersions versions = handle.getVersions();
+        char separator = getPathSeparator();
+        ConfigSnapshot current = snapshot;
+        if (current == null || current.deep != deep || !current.section.equals(sectionPath) || current.version != versions.get(sectionPath, separator)) {
+            synchronized (versions) {
+                ConfigurationSection section = sectionPath.isEmpty() ? config : config.getConfigurationSection(sectionPath);
+                current = new ConfigSnapshot(section, sectionPath, deep, versions.get(sectionPath, separator), separator);
+            }
+            snapshot = current;
+        }
+        return StreamSupport.stream(current.spliterator(), false);
+    }
+
+    /**
+     * Estimates the heap retained by the values of the {@link Config} config.
+     * <br><br>
+     * Redirects to {@link #memoryStats(int)} with the 10 largest subtrees.<br>
+     *
+     * @return  the {@link MemoryStats} stats
+     */
+    public MemoryStats memoryStats() {
+        return memoryStats(10);
+    }
+
+    /**
+     * Estimates the heap retained by the values of the {@link Config} config, by kind of node.
+     * <br><br>
+     * The whole tree is walked while the config is locked, so writes on other threads wait until it is done. Meant for
+     * finding out what to shard or intern, not for calling on every tick.<br>
+     *
+     * @param largest  represents the {@link Integer} number of largest subtrees and most copied strings to report<br>
+     * @return         the {@link MemoryStats} stats
+     */
+    public MemoryStats memoryStats(int largest) {
+        synchronized (handle.getVersions()) {
+            return MemoryStats.of(config, getPathSeparator(), largest);
+        }
+    }
+
+    /**
+     * Creates an index over the values of a field of the entries of {@link String} section.
+     * <br><br>
+     * {@link String} pattern describes the field, where every <code>*</code> stands for any key. The index of
+     * <code>createIndex("homes", "*.world")</code> is named <code>homes.*.world</code> and maps the value of
+     * <code>homes.&lt;key&gt;.world</code> to the entries <code>homes.&lt;key&gt;</code>. It is updated with every change of
+     * the config, {@link #findBy(String, Object)} then finds entries without iterating the section.<br>
+     * The index applies to every {@link Config} config of the same file. Creating an existing index does nothing.<br>
+     *
+     * @param section  represents the {@link String} path of the section, empty for the whole config<br>
+     * @param pattern  represents the {@link String} pattern of the field, containing at least one <code>*</code><br>
+     * @return         the {@link String} name of the index
+     * @throws IllegalArgumentException  if the pattern contains no <code>*</code>
+     */
+    public String createIndex(String section, String pattern) {
+        String name = section.isEmpty() ? pattern : section + getPathSeparator() + pattern;
+        PathVersions versions = handle.getVersions();
+        synchronized (versions) {
+            if (handle.getIndexes().containsKey(name)) return name;
+            ConfigIndex index = new ConfigIndex(config, name, getPathSeparator());
+            versions.addListener(index);
+            handle.getIndexes().put(name, index);
+        }
+        return name;
+    }
+
+    /**
+     * Finds the entries whose indexed field equals {@link Object} value.
+     * <br><br>
+     *
+     * @param index  represents the {@link String} name of the index, see {@link #createIndex(String, String)}<br>
+     * @param value  represents the {@link Object} value that is searched<br>
+     * @return       the {@link List<String>} paths of the entries, like <code>homes.Notch</code>
+     * @throws IllegalArgumentException  if the index does not exist
+     */
+    public List<String> findBy(String index, Object value) {
+        ConfigIndex configIndex = handle.getIndexes().get(index);
+        if (configIndex == null) throw new IllegalArgumentException("Unknown index " + index);
+        return configIndex.find(value);
+    }
+
+    /**
+     * Removes the index {@link String} index.
+     * <br><br>
+     *
+     * @param index  represents the {@link String} name of the index
+     */
+    public void dropIndex(String index) {
+        PathVersions versions = handle.getVersions();
+        synchronized (versions) {
+            ConfigIndex removed = handle.getIndexes().remove(index);
+            if (removed != null) versions.removeListener(removed);
+        }
+    }
+
+    /**
+     * Adds {@link Long} delta to the counter at {@link String} path.
+     * <br><br>
+     * Counting does not change the config or write the file, it can be called from any thread at a high rate. The
+     * counted amount is added to the value at the path and saved every 30 seconds, see
+     * {@link #setCounterFlushInterval(long, TimeUnit)}, on {@link #flushCounters()} and when the config is closed.<br>
+     *
+     * @param path   represents the {@link String} path that is selected as config path<br>
+     * @param delta  represents the {@link Long} amount that should be added, may be negative
+     */
+    public void increment(String path, long delta) {
+        CounterCells counters = handle.getCounters();
+        if (counters.add(path, delta)) counters.start(this::scheduleFlush);
+    }
+
+    /**
+     * Gets the current value of the counter at {@link String} path.
+     * <br><br>
+     * The value is the number stored at the path plus everything counted with {@link #increment(String, long)} that was
+     * not flushed yet. Setting the path with {@link #set(String, Object)} changes the base the counter continues from.<br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Long} value of the counter, 0 if the path holds no number
+     */
+    public long getCounter(String path) {
+        return handle.getCounters().get(config, path);
+    }
+
+    /**
+     * Adds everything counted with {@link #increment(String, long)} to the config and saves it, if anything was counted.
+     * <br><br>
+     */
+    public void flushCounters() {
+        handle.lock();
+        try {
+            boolean changed;
+            synchronized (handle.getVersions()) {
+                changed = handle.getCounters().fold(config, handle.getVersions(), getPathSeparator());
+            }
+            if (changed) save();
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Sets the {@link Long} interval in which the counters of the config are flushed.
+     * <br><br>
+     * The interval applies to every {@link Config} config of the same file. The default is 30 seconds.<br>
+     *
+     * @param interval  represents the {@link Long} interval, 0 to only flush with {@link #flushCounters()}<br>
+     * @param unit      represents the {@link TimeUnit} unit of the interval
+     */
+    public void setCounterFlushInterval(long interval, TimeUnit unit) {
+        handle.getCounters().setInterval(this::scheduleFlush, interval, unit);
+    }
+
+    /**
+     * Runs {@link #flushCounters()} on the {@link Executor} executor of the config, so the scheduler is not blocked by
+     * the save.
+     */
+    private void scheduleFlush() {
+        getExecutor().execute(this::flushCounters);
+    }
+
+    /**
+     * Appends {@link Object} value to the list at {@link String} path.
+     * <br><br>
+     * The stored list is changed in place instead of being copied, and only the change is written to the journal of the
+     * config instead of saving the whole file. A missing path becomes a new list.<br>
+     *
+     * @param path   represents the {@link String} path that is selected as config path<br>
+     * @param value  represents the {@link Object} value that should be appended
+     */
+    public void appendToList(String path, Object value) {
+        changeList(ListJournal.APPEND, path, 0, value);
+    }
+
+    /**
+     * Removes the first occurrence of {@link Object} value from the list at {@link String} path.
+     * <br><br>
+     * Works in place like {@link #appendToList(String, Object)}.<br>
+     *
+     * @param path   represents the {@link String} path that is selected as config path<br>
+     * @param value  represents the {@link Object} value that should be removed<br>
+     * @return       true if the value was removed
+     */
+    public Boolean removeFromList(String path, Object value) {
+        return changeList(ListJournal.REMOVE, path, 0, value);
+    }
+
+    /**
+     * Inserts {@link Object} value at {@link Integer} index into the list at {@link String} path.
+     * <br><br>
+     * Works in place like {@link #appendToList(String, Object)}.<br>
+     *
+     * @param path   represents the {@link String} path that is selected as config path<br>
+     * @param index  represents the {@link Integer} index the value should be inserted at<br>
+     * @param value  represents the {@link Object} value that should be inserted
+     * @throws IndexOutOfBoundsException  if the index is negative or greater than the size of the list
+     */
+    public void insertIntoList(String path, int index, Object value) {
+        if (index < 0) throw new IndexOutOfBoundsException("Index: " + index);
+        changeList(ListJournal.INSERT, path, index, value);
+    }
+
+    /**
+     * Removes the oldest elements from the start of the list at {@link String} path until it has at most
+     * {@link Integer} maxSize elements.
+     * <br><br>
+     * Works in place like {@link #appendToList(String, Object)}.<br>
+     *
+     * @param path     represents the {@link String} path that is selected as config path<br>
+     * @param maxSize  represents the {@link Integer} maximum size of the list<br>
+     * @return         true if elements were removed
+     */
+    public Boolean trimList(String path, int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("Negative size " + maxSize);
+        return changeList(ListJournal.TRIM, path, maxSize, null);
+    }
+
+    /**
+     * Applies a list operation and persists it.<br>
+     * The change is written to the {@link ListJournal} journal of the file, unless a batch is running, the file is
+     * shared with other processes or the format stores paths on its own. A full save follows if the journal grew too
+     * large.
+     */
+    private boolean changeList(byte op, String path, int index, Object value) {
+        handle.lock();
+        try {
+            boolean changed;
+            synchronized (handle.getVersions()) {
+                changed = ListJournal.apply(config, op, path, index, value);
+                if (changed) handle.getVersions().increment(path, getPathSeparator());
+            }
+            if (!changed) return false;
+
+            boolean batched;
+            synchronized (batchLock) {
+                batched = batchDepth > 0;
+            }
+            if (batched || handle.getSync() != null || config instanceof PathConfiguration) {
+                save();
+                return true;
+            }
+            try {
+                if (!handle.getJournal().append(op, path, index, value)) writeChecked(file);
+            } catch (InvalidConfigurationException | IOException e) {
+                e.printStackTrace();
+            }
+            return true;
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Gets the {@link Long} write version of {@link String} path.
+     * <br><br>
+     * The version changes with every write that can change the value at the path, including writes to its parents
+     * and children and reloads of the file.<br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Long} version
+     */
+    public Long getPathVersion(String path) {
+        return handle.getVersions().get(path, getPathSeparator());
     }
 
     //Getter
@@ -1753,6 +3083,16 @@ public class Config {
         return config.getName();
     }
 
+    /**
+     * Gets the {@link ConfigFormat} format the config is loaded and saved with.
+     * <br><br>
+     *
+     * @return  the {@link ConfigFormat} format
+     */
+    public ConfigFormat getFormat() {
+        return format;
+    }
+
     /**
      * Gets the {@link FileConfigurationOptions} options.
      * <br><br>
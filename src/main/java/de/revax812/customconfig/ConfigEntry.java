@@ -0,0 +1,95 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 22:25
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.util.Objects;
+
+/**
+ * A value of a config with its path, as streamed by {@link Config#stream(String, boolean)}.<br>
+ * Entries belong to a snapshot of the config and do not change when the config changes.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ConfigEntry {
+
+    /**
+     * The final {@link String} full path
+     */
+    private final String path;
+    /**
+     * The final {@link Integer} start of the key in the path
+     */
+    private final int keyStart;
+    /**
+     * The final {@link Object} value
+     */
+    private final Object value;
+
+    ConfigEntry(String path, int keyStart, Object value) {
+        this.path = path;
+        this.keyStart = keyStart;
+        this.value = value;
+    }
+
+    /**
+     * Gets the full {@link String} path of the entry.
+     * <br><br>
+     *
+     * @return  the {@link String} path, like <code>homes.Notch.world</code>
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the {@link String} key of the entry, the last segment of its path.
+     * <br><br>
+     *
+     * @return  the {@link String} key, like <code>world</code>
+     */
+    public String getKey() {
+        return path.substring(keyStart);
+    }
+
+    /**
+     * Gets the {@link Object} value of the entry.<br>
+     * Lists are unmodifiable copies, sections are never streamed as values.
+     * <br><br>
+     *
+     * @return  the {@link Object} value
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof ConfigEntry)) return false;
+        ConfigEntry entry = (ConfigEntry) other;
+        return path.equals(entry.path) && Objects.equals(value, entry.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode() * 31 + Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return path + "=" + value;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 02:30
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.*;
+import java.util.List;
+
+/**
+ * Describes a storage format that a {@link Config} config delegates loading and saving to.<br>
+ * A format always reads into and writes out of a {@link YamlConfiguration} tree, so every getter and setter
+ * of {@link Config} keeps working regardless of the format on disk.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ * @see ConfigFormats
+ */
+
+public interface ConfigFormat {
+
+    /**
+     * Gets the {@link String} name of the format.
+     * <br><br>
+     *
+     * @return  the {@link String} name
+     */
+    String getName();
+
+    /**
+     * Gets the {@link List<String>} file extensions (without leading dot) handled by the format.
+     * <br><br>
+     *
+     * @return  the {@link List<String>} extensions
+     */
+    List<String> getExtensions();
+
+    /**
+     * Creates the {@link YamlConfiguration} config a {@link Config} config of this format works on.<br>
+     * Formats keeping their values outside of the heap can return their own implementation here.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} file the config is stored in<br>
+     * @return      the {@link YamlConfiguration} config
+     * @throws IOException  if the config could not be created
+     */
+    default YamlConfiguration createConfiguration(File file) throws IOException {
+        return new YamlConfiguration();
+    }
+
+    /**
+     * Loads the content of {@link InputStream} in into the {@link YamlConfiguration} config.<br>
+     * All existing values of the config are replaced.
+     * <br><br>
+     *
+     * @param config  represents the {@link YamlConfiguration} config that should be filled<br>
+     * @param in      represents the {@link InputStream} in that should be read
+     * @throws IOException                    if the stream could not be read
+     * @throws InvalidConfigurationException  if the content is not valid for this format
+     */
+    void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException;
+
+    /**
+     * Saves the {@link YamlConfiguration} config to {@link OutputStream} out.
+     * <br><br>
+     *
+     * @param config  represents the {@link YamlConfiguration} config that should be written<br>
+     * @param out     represents the {@link OutputStream} out that should be written to
+     * @throws IOException  if the stream could not be written
+     */
+    void save(YamlConfiguration config, OutputStream out) throws IOException;
+
+    /**
+     * Loads the {@link File} file into the {@link YamlConfiguration} config.<br>
+     * Files compressed with gzip are decompressed transparently, see {@link CompressedFormat#decompress(InputStream)}.
+     * <br><br>
+     *
+     * @param config  represents the {@link YamlConfiguration} config that should be filled<br>
+     * @param file    represents the {@link File} file that should be read
+     * @throws IOException                    if the file could not be read
+     * @throws InvalidConfigurationException  if the content is not valid for this format
+     */
+    default void load(YamlConfiguration config, File file) throws IOException, InvalidConfigurationException {
+        try (InputStream in = CompressedFormat.decompress(new FileInputStream(file))) {
+            load(config, in);
+        }
+    }
+
+    /**
+     * Saves the {@link YamlConfiguration} config to {@link File} file.<br>
+     * Missing parent directories are created.
+     * <br><br>
+     *
+     * @param config  represents the {@link YamlConfiguration} config that should be written<br>
+     * @param file    represents the {@link File} file that should be written
+     * @throws IOException  if the file could not be written
+     */
+    default void save(YamlConfiguration config, File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) parent.mkdirs();
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            save(config, out);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds the registered {@link ConfigFormat} formats and converts files between them.<br>
+ * YAML, JSON, the binary format and the key-value store are registered by default, further formats can be added
+ * with {@link #register(ConfigFormat)}.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ConfigFormats {
+
+    /**
+     * The final {@link ConfigFormat} YAML format
+     */
+    public static final ConfigFormat YAML = new YamlFormat();
+    /**
+     * The final {@link ConfigFormat} JSON format
+     */
+    public static final ConfigFormat JSON = new JsonFormat();
+    /**
+     * The final {@link ConfigFormat} binary format
+     */
+    public static final ConfigFormat BINARY = new BinaryFormat();
+    /**
+     * The final {@link ConfigFormat} embedded key-value store format
+     */
+    public static final ConfigFormat STORE = new StoreFormat();
+    /**
+     * The final {@link ConfigFormat} read-only memory-mapped format for YAML files
+     */
+    public static final ConfigFormat MAPPED = new MappedFormat();
+    /**
+     * The final {@link ConfigFormat} format for YAML files kept in a compact tree
+     */
+    public static final ConfigFormat COMPACT = new CompactFormat();
+
+    /**
+     * The final {@link List} of registered formats, the first one is the fallback
+     */
+    private static final List<ConfigFormat> FORMATS = new CopyOnWriteArrayList<>(Arrays.asList(YAML, JSON, BINARY, STORE, MAPPED, COMPACT));
+
+    private ConfigFormats() {
+    }
+
+    /**
+     * Registers a new {@link ConfigFormat} format.<br>
+     * Formats registered later take precedence for extensions that are already in use.
+     * <br><br>
+     *
+     * @param format represents the {@link ConfigFormat} format that should be registered
+     */
+    public static void register(ConfigFormat format) {
+        FORMATS.add(1, format);
+    }
+
+    /**
+     * Gets the {@link ConfigFormat} format by its {@link String} name.
+     * <br><br>
+     *
+     * @param name  represents the {@link String} name of the format<br>
+     * @return      the {@link ConfigFormat} format or null if there is none
+     */
+    public static ConfigFormat byName(String name) {
+        for (ConfigFormat format : FORMATS) {
+            if (format.getName().equalsIgnoreCase(name)) return format;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the {@link ConfigFormat} format for the extension of {@link String} fileName.<br>
+     * A trailing compression extension like <code>.gz</code> wraps the format of the remaining name into a
+     * {@link CompressedFormat}. Falls back to {@link #YAML} if no format handles the extension.
+     * <br><br>
+     *
+     * @param fileName  represents the {@link String} fileName<br>
+     * @return          the {@link ConfigFormat} format
+     */
+    public static ConfigFormat byFileName(String fileName) {
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        for (ConfigFormat format : FORMATS) {
+            for (String extension : format.getExtensions()) {
+                if (lowerName.endsWith("." + extension)) return format;
+            }
+        }
+        for (CompressedFormat.Compression compression : CompressedFormat.Compression.values()) {
+            String extension = "." + compression.getExtension();
+            if (lowerName.endsWith(extension)) {
+                return new CompressedFormat(byFileName(fileName.substring(0, fileName.length() - extension.length())), compression);
+            }
+        }
+        return YAML;
+    }
+
+    /**
+     * Gets all registered {@link ConfigFormat} formats.
+     * <br><br>
+     *
+     * @return  the {@link List} of formats
+     */
+    public static List<ConfigFormat> getFormats() {
+        return Collections.unmodifiableList(FORMATS);
+    }
+
+    /**
+     * Converts the {@link File} source into {@link File} target.<br>
+     * Both formats are chosen by the file extension.
+     * <br><br>
+     * Redirects to {@link #convert(File, ConfigFormat, File, ConfigFormat)}.<br>
+     *
+     * @param source  represents the {@link File} source that should be read<br>
+     * @param target  represents the {@link File} target that should be written
+     * @throws IOException                    if one of the files could not be accessed
+     * @throws InvalidConfigurationException  if the source is not valid
+     */
+    public static void convert(File source, File target) throws IOException, InvalidConfigurationException {
+        convert(source, byFileName(source.getName()), target, byFileName(target.getName()));
+    }
+
+    /**
+     * Converts the {@link File} source in {@link ConfigFormat} from into {@link File} target in {@link ConfigFormat} to.
+     * <br><br>
+     *
+     * @param source  represents the {@link File} source that should be read<br>
+     * @param from    represents the {@link ConfigFormat} format of the source<br>
+     * @param target  represents the {@link File} target that should be written<br>
+     * @param to      represents the {@link ConfigFormat} format of the target
+     * @throws IOException                    if one of the files could not be accessed
+     * @throws InvalidConfigurationException  if the source is not valid
+     */
+    public static void convert(File source, ConfigFormat from, File target, ConfigFormat to) throws IOException, InvalidConfigurationException {
+        YamlConfiguration config = from.createConfiguration(source);
+        try {
+            from.load(config, source);
+            to.save(config, target);
+        } finally {
+            if (config instanceof Closeable) ((Closeable) config).close();
+        }
+    }
+
+    /**
+     * Removes every top level value of {@link ConfigurationSection} section.
+     */
+    static void clear(ConfigurationSection section) {
+        for (String key : section.getKeys(false)) section.set(key, null);
+    }
+
+    /**
+     * Copies every value of {@link ConfigurationSection} source into {@link ConfigurationSection} target.<br>
+     * Sections are copied as new sections of the target.
+     */
+    static void copy(ConfigurationSection source, ConfigurationSection target) {
+        for (Map.Entry<String, Object> entry : source.getValues(false).entrySet()) {
+            if (entry.getValue() instanceof ConfigurationSection) copy((ConfigurationSection) entry.getValue(), target.createSection(entry.getKey()));
+            else target.set(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Creates an empty {@link YamlConfiguration} with the options of {@link YamlConfiguration} config, to load a file
+     * or take a snapshot without changing the config.
+     */
+    static YamlConfiguration detached(YamlConfiguration config) {
+        YamlConfiguration detached = new YamlConfiguration();
+        detached.options().pathSeparator(config.options().pathSeparator());
+        detached.options().parseComments(config.options().parseComments());
+        detached.options().indent(config.options().indent());
+        detached.options().width(config.options().width());
+        return detached;
+    }
+
+    /**
+     * Copies {@link YamlConfiguration} config into a new {@link YamlConfiguration}, so it can be written while the
+     * config changes.<br>
+     * The values are shared with the config. Defaults the config copies are copied as values.
+     */
+    static YamlConfiguration snapshot(YamlConfiguration config) {
+        YamlConfiguration snapshot = detached(config);
+        replace(config, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Replaces the values of {@link YamlConfiguration} target with the values of {@link YamlConfiguration} source.<br>
+     * Comments are only copied if the source parses them, header and footer always.
+     */
+    static void replace(YamlConfiguration source, YamlConfiguration target) {
+        clear(target);
+        copy(source, target);
+        if (source.options().parseComments()) {
+            copyComments(source, target);
+        } else {
+            target.options().setHeader(source.options().getHeader());
+            target.options().setFooter(source.options().getFooter());
+        }
+    }
+
+    /**
+     * Copies the header, the footer and the comments of every path of {@link YamlConfiguration} source into
+     * {@link YamlConfiguration} target, which already holds the same paths.
+     */
+    static void copyComments(YamlConfiguration source, YamlConfiguration target) {
+        target.options().setHeader(source.options().getHeader());
+        target.options().setFooter(source.options().getFooter());
+        for (String path : source.getKeys(true)) {
+            List<String> comments = source.getComments(path);
+            if (!comments.isEmpty()) target.setComments(path, comments);
+            List<String> inline = source.getInlineComments(path);
+            if (!inline.isEmpty()) target.setInlineComments(path, inline);
+        }
+    }
+
+    /**
+     * Turns a {@link Map} carrying the serialized type key back into its {@link ConfigurationSerializable}.<br>
+     * Maps without the key or with an unknown type are returned unchanged.
+     */
+    static Object deserialize(Map<String, Object> map) {
+        if (!map.containsKey(ConfigurationSerialization.SERIALIZED_TYPE_KEY)) return map;
+        try {
+            ConfigurationSerializable serializable = ConfigurationSerialization.deserializeObject(map);
+            return serializable == null ? map : serializable;
+        } catch (IllegalArgumentException e) {
+            return map;
+        }
+    }
+}
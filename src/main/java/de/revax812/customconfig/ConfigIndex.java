@@ -0,0 +1,216 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:10
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * A secondary index over the values of a field of many entries, see {@link Config#createIndex(String, String)}.<br>
+ * The index is described by a path pattern like <code>homes.*.world</code>, where every <code>*</code> stands for any
+ * key. The path up to the last <code>*</code> is an entry, like <code>homes.Notch</code>, the rest is the field whose
+ * value is indexed, like <code>world</code>.<br>
+ * The index maps every value to its entries and every entry to its value, both as hash maps, so a lookup costs a
+ * single hash lookup. It listens to the changes of the config and only updates the entries below a changed path,
+ * using the sorted map of entries to find them.<br>
+ * Lists and maps are indexed as unmodifiable copies, since they can be changed in place without a change of the config.
+ * Other values that are neither texts, boxed or big numbers, booleans, characters nor enums, like a
+ * {@link org.bukkit.Location}, are not indexed for the same reason.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class ConfigIndex implements ChangeListener {
+
+    /**
+     * The final {@link ConfigurationSection} config that is indexed
+     */
+    private final ConfigurationSection config;
+    /**
+     * The final {@link String} segments of the pattern
+     */
+    private final String[] segments;
+    /**
+     * The final {@link Integer} number of segments of an entry path
+     */
+    private final int entryDepth;
+    /**
+     * The final {@link String} literal segments before the first <code>*</code>
+     */
+    private final String[] prefix;
+    /**
+     * The final {@link Map} of values and their entries
+     */
+    private final Map<Object, Set<String>> byValue = new HashMap<>();
+    /**
+     * The final {@link NavigableMap} of entries and their values
+     */
+    private final NavigableMap<String, Object> byEntry = new TreeMap<>();
+
+    /**
+     * Creates a new {@link ConfigIndex} index of {@link ConfigurationSection} config and builds it.
+     * <br><br>
+     *
+     * @param config     represents the {@link ConfigurationSection} config that should be indexed<br>
+     * @param pattern    represents the {@link String} pattern of the indexed paths<br>
+     * @param separator  represents the {@link Character} path separator
+     * @throws IllegalArgumentException  if the pattern contains no <code>*</code>
+     */
+    ConfigIndex(ConfigurationSection config, String pattern, char separator) {
+        this.config = config;
+        this.segments = pattern.split(Pattern.quote(String.valueOf(separator)), -1);
+        int lastWildcard = -1, firstWildcard = -1;
+        for (int i = 0; i < segments.length; i++) {
+            if (!segments[i].equals("*")) continue;
+            if (firstWildcard < 0) firstWildcard = i;
+            lastWildcard = i;
+        }
+        if (lastWildcard < 0) throw new IllegalArgumentException("The index pattern " + pattern + " contains no *");
+        this.entryDepth = lastWildcard + 1;
+        this.prefix = Arrays.copyOf(segments, firstWildcard);
+        changedAll();
+    }
+
+    /**
+     * Gets the entries whose field has {@link Object} value.
+     * <br><br>
+     *
+     * @param value  represents the {@link Object} value that is searched<br>
+     * @return       the {@link List<String>} paths of the entries
+     */
+    synchronized List<String> find(Object value) {
+        Set<String> entries = byValue.get(key(value));
+        return entries == null ? new ArrayList<>() : new ArrayList<>(entries);
+    }
+
+    /**
+     * Gets the number of indexed entries.
+     * <br><br>
+     *
+     * @return  the {@link Integer} number of entries
+     */
+    synchronized int size() {
+        return byEntry.size();
+    }
+
+    @Override
+    public synchronized void changed(String path, char separator) {
+        String[] changed = path.isEmpty() ? new String[0] : path.split(Pattern.quote(String.valueOf(separator)), -1);
+        int common = Math.min(prefix.length, changed.length);
+        for (int i = 0; i < common; i++) if (!prefix[i].equals(changed[i])) return;
+        for (int i = prefix.length; i < Math.min(segments.length, changed.length); i++) {
+            if (!segments[i].equals("*") && !segments[i].equals(changed[i])) return;
+        }
+
+        if (changed.length >= entryDepth) {
+            String entry = join(changed, entryDepth, separator);
+            remove(entry);
+            index(entry, separator);
+            return;
+        }
+        SortedMap<String, Object> below = path.isEmpty() ? byEntry : byEntry.subMap(path + separator, path + separator + Character.MAX_VALUE);
+        for (String entry : new ArrayList<>(below.keySet())) remove(entry);
+        collect(path, changed.length, separator);
+    }
+
+    @Override
+    public synchronized void changedAll() {
+        byValue.clear();
+        byEntry.clear();
+        collect("", 0, config.getRoot() == null ? '.' : config.getRoot().options().pathSeparator());
+    }
+
+    /**
+     * Indexes every entry matching the pattern below {@link String} path, which matches the first {@link Integer}
+     * depth segments.
+     */
+    private void collect(String path, int depth, char separator) {
+        if (depth == entryDepth) {
+            index(path, separator);
+            return;
+        }
+        String segment = segments[depth];
+        if (!segment.equals("*")) {
+            collect(path.isEmpty() ? segment : path + separator + segment, depth + 1, separator);
+            return;
+        }
+        Object node = path.isEmpty() ? config : config.get(path, null);
+        if (!(node instanceof ConfigurationSection)) return;
+        for (String key : ((ConfigurationSection) node).getKeys(false)) {
+            collect(path.isEmpty() ? key : path + separator + key, depth + 1, separator);
+        }
+    }
+
+    /**
+     * Adds {@link String} entry with the current value of its field.
+     */
+    private void index(String entry, char separator) {
+        StringBuilder field = new StringBuilder(entry);
+        for (int i = entryDepth; i < segments.length; i++) field.append(separator).append(segments[i]);
+        Object value = key(config.get(field.toString(), null));
+        if (value == null) return;
+        byEntry.put(entry, value);
+        byValue.computeIfAbsent(value, key -> new LinkedHashSet<>()).add(entry);
+    }
+
+    private void remove(String entry) {
+        Object value = byEntry.remove(entry);
+        if (value == null) return;
+        Set<String> entries = byValue.get(value);
+        if (entries == null) return;
+        entries.remove(entry);
+        if (entries.isEmpty()) byValue.remove(value);
+    }
+
+    /**
+     * Gets the key {@link Object} value is indexed by: an unmodifiable copy of lists and maps, the value itself if it
+     * cannot change, or null if it is not indexed.
+     */
+    private static Object key(Object value) {
+        if (value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Double
+                || value instanceof Float || value instanceof Short || value instanceof Byte || value instanceof BigInteger
+                || value instanceof BigDecimal || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum) return value;
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                Object key = key(element);
+                if (key == null && element != null) return null;
+                copy.add(key);
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object key = key(entry.getValue());
+                if (key == null && entry.getValue() != null) return null;
+                copy.put(entry.getKey(), key);
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        return null;
+    }
+
+    private static String join(String[] segments, int length, char separator) {
+        StringBuilder path = new StringBuilder(segments[0]);
+        for (int i = 1; i < length; i++) path.append(separator).append(segments[i]);
+        return path.toString();
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:50
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Traces where the time of creating, reloading and loading {@link Config} configs goes, to find the configs that slow
+ * down the start of a server.<br>
+ * While enabled, every constructor, {@link Config#reload()}, <code>load</code>, <code>loadConfiguration</code> and
+ * <code>setDefaults</code> call records one {@link Trace} trace with the time of its phases: creating the directory,
+ * extracting the bundled file, reading and parsing the file, and writing it back, together with the bytes read, the
+ * number of nodes and the bytes written. Saves outside of these calls are not traced. While a call is traced, its
+ * saves are written on the calling thread instead of being queued on the executor, so the write is part of the trace.<br>
+ * Tracing is off by default and costs a single volatile read per call then. Enable it first thing in
+ * <code>onEnable</code>, print the summary at its end and disable it again:
+ * <pre>
+ * ConfigProfiler.enable();
+ * // create the configs
+ * ConfigProfiler.printSummary(getLogger());
+ * ConfigProfiler.export(new File(getDataFolder(), "config-profile.json"));
+ * ConfigProfiler.disable();
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ConfigProfiler {
+
+    /**
+     * The final {@link Integer} maximum number of kept traces, older ones are dropped
+     */
+    private static final int MAX_TRACES = 10_000;
+    /**
+     * The final {@link ThreadLocal} trace of the call running on every thread
+     */
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+    /**
+     * The final {@link Queue} of the finished traces
+     */
+    private static final Queue<Trace> TRACES = new ConcurrentLinkedQueue<>();
+    /**
+     * The final {@link AtomicInteger} number of the finished traces
+     */
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    /**
+     * The private volatile {@link Boolean} enabled
+     */
+    private static volatile boolean enabled;
+
+    private ConfigProfiler() {
+    }
+
+    /**
+     * The phases of a traced call.
+     */
+    public enum Phase {
+        /**
+         * Creating the directory of the file
+         */
+        DIRECTORY,
+        /**
+         * Extracting the bundled file from the plugin JAR
+         */
+        EXTRACT,
+        /**
+         * Reading and parsing the file, which the formats do in one pass
+         */
+        PARSE,
+        /**
+         * Writing the file back
+         */
+        WRITE
+    }
+
+    /**
+     * Enables the tracing.
+     * <br><br>
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables the tracing, the recorded traces are kept.
+     * <br><br>
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Checks whether the tracing is enabled.
+     * <br><br>
+     *
+     * @return  true if the calls are traced
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Removes the recorded traces.
+     * <br><br>
+     */
+    public static void reset() {
+        TRACES.clear();
+        COUNT.set(0);
+    }
+
+    /**
+     * Gets the recorded {@link List<Trace>} traces.
+     * <br><br>
+     *
+     * @return  the {@link List<Trace>} traces in the order they finished
+     */
+    public static List<Trace> getTraces() {
+        return new ArrayList<>(TRACES);
+    }
+
+    /**
+     * Logs a summary of the recorded traces to {@link Logger} logger, one line per file sorted by the total time.
+     * <br><br>
+     *
+     * @param logger  represents the {@link Logger} logger, like the one of the plugin
+     */
+    public static void printSummary(Logger logger) {
+        for (String line : summary()) logger.info(line);
+    }
+
+    /**
+     * Prints a summary of the recorded traces to {@link PrintStream} out, one line per file sorted by the total time.
+     * <br><br>
+     *
+     * @param out  represents the {@link PrintStream} stream, like {@link System#out}
+     */
+    public static void printSummary(PrintStream out) {
+        for (String line : summary()) out.println(line);
+    }
+
+    /**
+     * Exports the recorded traces as JSON to {@link File} file.
+     * <br><br>
+     * The report contains the summary per file in the order of {@link #printSummary(Logger)} and every trace with
+     * the nanoseconds of its phases.<br>
+     *
+     * @param file  represents the {@link File} file the report is written to
+     * @throws IOException  if the file could not be written
+     */
+    public static void export(File file) throws IOException {
+        List<Trace> traces = getTraces();
+        try (JsonWriter json = new JsonWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))) {
+            json.setIndent("  ");
+            json.beginObject();
+            json.name("files").beginArray();
+            for (Trace total : totals(traces)) {
+                json.beginObject();
+                json.name("file").value(total.file);
+                json.name("calls").value(total.calls);
+                write(json, total);
+                json.endObject();
+            }
+            json.endArray();
+            json.name("traces").beginArray();
+            for (Trace trace : traces) {
+                json.beginObject();
+                json.name("operation").value(trace.operation);
+                json.name("file").value(trace.file);
+                json.name("thread").value(trace.thread);
+                json.name("startedAt").value(trace.startedAt);
+                write(json, trace);
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+        }
+    }
+
+    /**
+     * Starts tracing the call {@link String} operation on {@link File} file, if the tracing is enabled and no call is
+     * traced on this thread yet.
+     * <br><br>
+     *
+     * @param operation  represents the {@link String} name of the call, like <code>reload</code><br>
+     * @param file       represents the {@link File} file of the config<br>
+     * @return           the started {@link Trace} trace, null if nothing is traced
+     */
+    static Trace begin(String operation, File file) {
+        if (!enabled || CURRENT.get() != null) return null;
+        Trace trace = new Trace(operation, file == null ? null : file.getPath());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Finishes {@link Trace} trace and records it.
+     * <br><br>
+     *
+     * @param trace  represents the {@link Trace} trace returned by {@link #begin(String, File)}, may be null
+     */
+    static void end(Trace trace) {
+        if (trace == null) return;
+        CURRENT.remove();
+        trace.total = System.nanoTime() - trace.start;
+        TRACES.add(trace);
+        if (COUNT.incrementAndGet() > MAX_TRACES && TRACES.poll() != null) COUNT.decrementAndGet();
+    }
+
+    /**
+     * Gets the {@link Trace} trace of the call running on this thread.
+     * <br><br>
+     *
+     * @return  the {@link Trace} trace, null if nothing is traced
+     */
+    static Trace current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    /**
+     * Gets the summary lines, the headers first.
+     */
+    private static List<String> summary() {
+        List<Trace> totals = totals(getTraces());
+        List<String> lines = new ArrayList<>(totals.size() + 2);
+        lines.add(String.format("Config profile of %d files, sorted by total time:", totals.size()));
+        lines.add(String.format("%-40s %9s %9s %9s %9s %9s %10s %8s %10s",
+                "calls file", "total ms", "dir ms", "extract", "parse ms", "write ms", "read B", "nodes", "written B"));
+        for (Trace total : totals) {
+            lines.add(String.format("%4dx %-34s %9.2f %9.2f %9.2f %9.2f %9.2f %10d %8d %10d",
+                    total.calls, shorten(total.file, 34), total.total / 1e6,
+                    total.phases[0] / 1e6, total.phases[1] / 1e6, total.phases[2] / 1e6, total.phases[3] / 1e6,
+                    total.bytesRead, total.nodes, total.bytesWritten));
+        }
+        return lines;
+    }
+
+    /**
+     * Sums {@link List} traces per file, sorted by the total time descending.
+     */
+    private static List<Trace> totals(List<Trace> traces) {
+        Map<String, Trace> totals = new HashMap<>();
+        for (Trace trace : traces) {
+            Trace total = totals.computeIfAbsent(String.valueOf(trace.file), file -> new Trace("total", file));
+            total.calls++;
+            total.total += trace.total;
+            for (int i = 0; i < total.phases.length; i++) total.phases[i] += trace.phases[i];
+            total.bytesRead += trace.bytesRead;
+            total.nodes = Math.max(total.nodes, trace.nodes);
+            total.bytesWritten += trace.bytesWritten;
+        }
+        List<Trace> sorted = new ArrayList<>(totals.values());
+        sorted.sort((a, b) -> Long.compare(b.total, a.total));
+        return sorted;
+    }
+
+    private static void write(JsonWriter json, Trace trace) throws IOException {
+        json.name("totalNanos").value(trace.total);
+        json.name("phases").beginObject();
+        for (Phase phase : Phase.values()) json.name(phase.name().toLowerCase(Locale.ROOT) + "Nanos").value(trace.phases[phase.ordinal()]);
+        json.endObject();
+        json.name("bytesRead").value(trace.bytesRead);
+        json.name("nodes").value(trace.nodes);
+        json.name("bytesWritten").value(trace.bytesWritten);
+    }
+
+    private static String shorten(String text, int length) {
+        return text.length() <= length ? text : "..." + text.substring(text.length() - length + 3);
+    }
+
+    /**
+     * One traced call on a config.
+     */
+    public static final class Trace {
+
+        private final String operation;
+        private final String file;
+        private final String thread = Thread.currentThread().getName();
+        private final long startedAt = System.currentTimeMillis();
+        private final long start = System.nanoTime();
+        private final long[] phases = new long[Phase.values().length];
+        private int calls;
+        private long total;
+        private long bytesRead;
+        private long nodes;
+        private long bytesWritten;
+
+        private Trace(String operation, String file) {
+            this.operation = operation;
+            this.file = file;
+        }
+
+        /**
+         * Adds the time since {@link Long} start to {@link Phase} phase.
+         * <br><br>
+         *
+         * @param phase  represents the {@link Phase} phase<br>
+         * @param start  represents the {@link Long} start of the phase, from {@link System#nanoTime()}
+         */
+        void phase(Phase phase, long start) {
+            phases[phase.ordinal()] += System.nanoTime() - start;
+        }
+
+        /**
+         * Records a read of {@link Long} bytes with {@link Long} nodes.
+         */
+        void read(long bytes, long nodes) {
+            bytesRead += bytes;
+            this.nodes = nodes;
+        }
+
+        /**
+         * Records a write of {@link Long} bytes.
+         */
+        void written(long bytes) {
+            bytesWritten += bytes;
+        }
+
+        /**
+         * Gets the {@link String} name of the traced call, like <code>reload</code>.
+         * <br><br>
+         *
+         * @return  the {@link String} operation
+         */
+        public String getOperation() {
+            return operation;
+        }
+
+        /**
+         * Gets the {@link String} path of the file of the config.
+         * <br><br>
+         *
+         * @return  the {@link String} path
+         */
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * Gets the {@link Long} nanoseconds of the whole call.
+         * <br><br>
+         *
+         * @return  the {@link Long} nanoseconds
+         */
+        public long getTotalNanos() {
+            return total;
+        }
+
+        /**
+         * Gets the {@link Long} nanoseconds spent in {@link Phase} phase.
+         * <br><br>
+         *
+         * @param phase  represents the {@link Phase} phase<br>
+         * @return       the {@link Long} nanoseconds
+         */
+        public long getNanos(Phase phase) {
+            return phases[phase.ordinal()];
+        }
+
+        /**
+         * Gets the {@link Long} bytes read, the characters for configs loaded from a string.
+         * <br><br>
+         *
+         * @return  the {@link Long} bytes
+         */
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        /**
+         * Gets the {@link Long} number of paths of the config after the last read, sections included.
+         * <br><br>
+         *
+         * @return  the {@link Long} nodes
+         */
+        public long getNodes() {
+            return nodes;
+        }
+
+        /**
+         * Gets the {@link Long} bytes written.
+         * <br><br>
+         *
+         * @return  the {@link Long} bytes
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+    }
+}
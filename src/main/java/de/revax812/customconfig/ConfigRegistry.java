@@ -0,0 +1,323 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 04:50
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds one shared {@link YamlConfiguration} tree per config file of the process.<br>
+ * Every {@link Config} config of the same file works on the same {@link Handle} handle, so the file is parsed once,
+ * kept in memory once and written by one writer. The handle is released when the last config using it is closed.<br>
+ * Files are identified by their canonical path.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ConfigRegistry {
+
+    /**
+     * The final {@link Map} of canonical files and their handles
+     */
+    private static final Map<File, Handle> HANDLES = new HashMap<>();
+
+    private ConfigRegistry() {
+    }
+
+    /**
+     * Gets the {@link Handle} handle of {@link File} file and adds a reference to it.<br>
+     * A new handle with the {@link ConfigFormat} format is created if the file is not used yet, otherwise the format of
+     * the existing handle is kept.
+     * <br><br>
+     *
+     * @param file    represents the {@link File} file of the config<br>
+     * @param format  represents the {@link ConfigFormat} format the file is stored in<br>
+     * @return        the {@link Handle} handle
+     */
+    static synchronized Handle acquire(File file, ConfigFormat format) {
+        File key = canonical(file);
+        Handle handle = HANDLES.get(key);
+        if (handle == null) {
+            handle = new Handle(key, format);
+            HANDLES.put(key, handle);
+        }
+        handle.references++;
+        return handle;
+    }
+
+    /**
+     * Removes a reference from the {@link Handle} handle.<br>
+     * The handle is removed and its config is closed when no reference is left.
+     * <br><br>
+     *
+     * @param handle  represents the {@link Handle} handle that should be released
+     */
+    static void release(Handle handle) {
+        synchronized (ConfigRegistry.class) {
+            if (--handle.references > 0) return;
+            HANDLES.remove(handle.file, handle);
+        }
+        handle.counters.cancel();
+        handle.expiry.cancel();
+        handle.lock();
+        try {
+            if (handle.sync != null) handle.sync.close();
+            if (handle.journal != null) handle.journal.close();
+            if (handle.config instanceof Closeable) ((Closeable) handle.config).close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    /**
+     * Checks whether {@link File} file is used by an open {@link Config} config.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} file that should be checked<br>
+     * @return      true if the file is in use
+     */
+    public static synchronized boolean isOpen(File file) {
+        return HANDLES.containsKey(canonical(file));
+    }
+
+    /**
+     * Gets the {@link Integer} number of open {@link Config} configs of {@link File} file.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} file that should be checked<br>
+     * @return      the {@link Integer} number of configs
+     */
+    public static synchronized int getReferences(File file) {
+        Handle handle = HANDLES.get(canonical(file));
+        return handle == null ? 0 : handle.references;
+    }
+
+    /**
+     * Gets the {@link Integer} number of files in use.
+     * <br><br>
+     *
+     * @return  the {@link Integer} number of files
+     */
+    public static synchronized int size() {
+        return HANDLES.size();
+    }
+
+    /**
+     * Resolves the canonical {@link File} file of {@link File} file, falling back to the absolute file.
+     */
+    static File canonical(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+    /**
+     * The shared tree and persistence state of one config file.<br>
+     * Loading and saving hold the lock of the handle, see {@link #lock()}.
+     */
+    static final class Handle {
+
+        /**
+         * The final {@link File} canonical file
+         */
+        private final File file;
+        /**
+         * The final {@link ConfigFormat} format
+         */
+        private final ConfigFormat format;
+        /**
+         * The final {@link YamlConfiguration} shared config
+         */
+        private final YamlConfiguration config;
+        /**
+         * The private {@link Integer} number of configs using the handle
+         */
+        private int references;
+        /**
+         * The private {@link Boolean} loaded, true once the file was read
+         */
+        private boolean loaded;
+        /**
+         * The private {@link FileSync} sync with other processes, null if the file is not shared
+         */
+        private FileSync sync;
+        /**
+         * The final {@link PathVersions} write versions of the paths
+         */
+        private final PathVersions versions;
+        /**
+         * The final {@link CounterCells} counters of the paths
+         */
+        private final CounterCells counters = new CounterCells();
+        /**
+         * The final {@link ExpiryWheel} expiry times of the paths
+         */
+        private final ExpiryWheel expiry;
+        /**
+         * The final {@link Map} of index names and their indexes
+         */
+        private final Map<String, ConfigIndex> indexes = new ConcurrentHashMap<>();
+        /**
+         * The private volatile {@link TemplateCache} compiled templates, created on first use
+         */
+        private volatile TemplateCache templates;
+        /**
+         * The private {@link ConfigSchema} schema applied when the file is read, null if there is none
+         */
+        private ConfigSchema schema;
+        /**
+         * The private volatile {@link Boolean} dataMode, true if comments are ignored
+         */
+        private volatile boolean dataMode;
+        /**
+         * The private {@link ListJournal} journal of list changes, created on first use
+         */
+        private ListJournal journal;
+        /**
+         * The final {@link ReentrantLock} lock held while the file is read or written. Unlike a monitor, a virtual
+         * thread waiting for it does not pin its carrier thread
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+        /**
+         * The final {@link AtomicBoolean} saveQueued, true while a save is queued on an executor
+         */
+        private final AtomicBoolean saveQueued = new AtomicBoolean();
+
+        private Handle(File file, ConfigFormat format) {
+            this.file = file;
+            this.expiry = new ExpiryWheel(file);
+            this.format = format;
+            this.config = create(file, format);
+            this.versions = new PathVersions(path -> config.get(path, null) != null);
+        }
+
+        private static YamlConfiguration create(File file, ConfigFormat format) {
+            try {
+                return format.createConfiguration(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return new YamlConfiguration();
+            }
+        }
+
+        /**
+         * Acquires the lock of the handle, which is taken before the monitor of its {@link PathVersions} versions.
+         */
+        void lock() {
+            lock.lock();
+        }
+
+        void unlock() {
+            lock.unlock();
+        }
+
+        AtomicBoolean getSaveQueued() {
+            return saveQueued;
+        }
+
+        File getFile() {
+            return file;
+        }
+
+        ConfigFormat getFormat() {
+            return format;
+        }
+
+        YamlConfiguration getConfig() {
+            return config;
+        }
+
+        boolean isLoaded() {
+            return loaded;
+        }
+
+        void setLoaded() {
+            loaded = true;
+        }
+
+        FileSync getSync() {
+            return sync;
+        }
+
+        void setSync(FileSync sync) {
+            this.sync = sync;
+        }
+
+        PathVersions getVersions() {
+            return versions;
+        }
+
+        ConfigSchema getSchema() {
+            return schema;
+        }
+
+        void setSchema(ConfigSchema schema) {
+            this.schema = schema;
+        }
+
+        boolean isDataMode() {
+            return dataMode;
+        }
+
+        void setDataMode(boolean dataMode) {
+            this.dataMode = dataMode;
+        }
+
+        TemplateCache getTemplates() {
+            TemplateCache cache = templates;
+            if (cache != null) return cache;
+            synchronized (versions) {
+                if (templates == null) {
+                    templates = new TemplateCache();
+                    versions.addListener(templates);
+                }
+                return templates;
+            }
+        }
+
+        Map<String, ConfigIndex> getIndexes() {
+            return indexes;
+        }
+
+        ExpiryWheel getExpiry() {
+            return expiry;
+        }
+
+        CounterCells getCounters() {
+            return counters;
+        }
+
+        ListJournal getJournal() {
+            if (journal == null) journal = new ListJournal(file);
+            return journal;
+        }
+
+        boolean isFile(File other) {
+            return file.equals(canonical(other));
+        }
+    }
+}
@@ -0,0 +1,449 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 02:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.*;
+
+/**
+ * Describes the paths a config must or may contain, with their types, ranges, allowed values and defaults.<br>
+ * A schema is built once with {@link #builder()} and compiled into a sorted list of rules. Applying it checks and
+ * converts every path in one pass, for example the text <code>"5"</code> of an integer path becomes the
+ * {@link Integer} 5, so the getters of {@link Config} find the right type afterwards. Missing paths get their
+ * default.<br>
+ * All errors are collected and thrown together as a {@link SchemaException}.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ * @see Config#setSchema(ConfigSchema)
+ */
+
+public final class ConfigSchema {
+
+    /**
+     * The final {@link Rule} rules sorted by path
+     */
+    private final Rule[] rules;
+
+    private ConfigSchema(Rule[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Creates a new {@link Builder} builder for a {@link ConfigSchema} schema.
+     * <br><br>
+     *
+     * @return  the {@link Builder} builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks and converts every path of {@link ConfigurationSection} section.<br>
+     * The section is changed even if errors are found, so it should be a copy of the live config.
+     * <br><br>
+     *
+     * @param section  represents the {@link ConfigurationSection} section that should be checked
+     * @throws SchemaException  if at least one path does not match the schema
+     */
+    public void apply(ConfigurationSection section) throws SchemaException {
+        List<String> errors = new ArrayList<>();
+        for (Rule rule : rules) rule.apply(section, errors);
+        if (!errors.isEmpty()) throw new SchemaException(errors);
+    }
+
+    /**
+     * Checks every path of {@link ConfigurationSection} section without changing it.
+     * <br><br>
+     *
+     * @param section  represents the {@link ConfigurationSection} section that should be checked<br>
+     * @return         the {@link List<String>} errors, empty if the section matches the schema
+     */
+    public List<String> validate(ConfigurationSection section) {
+        List<String> errors = new ArrayList<>();
+        for (Rule rule : rules) rule.check(section.get(rule.path, null), errors);
+        return errors;
+    }
+
+    /**
+     * Gets the {@link Set<String>} paths described by the schema.
+     * <br><br>
+     *
+     * @return  the {@link Set<String>} paths in ascending order
+     */
+    public Set<String> getPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Rule rule : rules) paths.add(rule.path);
+        return paths;
+    }
+
+    /**
+     * The types a path of a {@link ConfigSchema} schema can have.
+     */
+    public enum Type {
+
+        /**
+         * A text, numbers and booleans are converted to their text
+         */
+        STRING {
+            @Override
+            Object coerce(Object value) {
+                if (value instanceof String) return value;
+                if (value instanceof Number || value instanceof Boolean || value instanceof Character) return value.toString();
+                return null;
+            }
+        },
+        /**
+         * An {@link Integer} integer, whole numbers and texts are converted
+         */
+        INTEGER {
+            @Override
+            Object coerce(Object value) {
+                if (value instanceof Integer) return value;
+                Long number = toLong(value);
+                return number == null || number != number.intValue() ? null : number.intValue();
+            }
+        },
+        /**
+         * A {@link Long} long, whole numbers and texts are converted
+         */
+        LONG {
+            @Override
+            Object coerce(Object value) {
+                return value instanceof Long ? value : toLong(value);
+            }
+        },
+        /**
+         * A {@link Double} double, numbers and texts are converted
+         */
+        DOUBLE {
+            @Override
+            Object coerce(Object value) {
+                if (value instanceof Double) return value;
+                if (value instanceof Number) return ((Number) value).doubleValue();
+                if (!(value instanceof String)) return null;
+                try {
+                    return Double.parseDouble(((String) value).trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        },
+        /**
+         * A {@link Boolean} boolean, the texts true and false are converted
+         */
+        BOOLEAN {
+            @Override
+            Object coerce(Object value) {
+                if (value instanceof Boolean) return value;
+                if (!(value instanceof String)) return null;
+                String text = ((String) value).trim();
+                if (text.equalsIgnoreCase("true")) return true;
+                if (text.equalsIgnoreCase("false")) return false;
+                return null;
+            }
+        },
+        /**
+         * A {@link List} list of any values
+         */
+        LIST {
+            @Override
+            Object coerce(Object value) {
+                return value instanceof List ? value : null;
+            }
+        },
+        /**
+         * A {@link List<String>} list of texts, other elements are converted to their text
+         */
+        STRING_LIST {
+            @Override
+            Object coerce(Object value) {
+                if (!(value instanceof List)) return null;
+                List<String> list = new ArrayList<>(((List<?>) value).size());
+                for (Object element : (List<?>) value) {
+                    Object text = STRING.coerce(element);
+                    if (text == null) return null;
+                    list.add((String) text);
+                }
+                return list;
+            }
+        },
+        /**
+         * A {@link ConfigurationSection} section
+         */
+        SECTION {
+            @Override
+            Object coerce(Object value) {
+                return value instanceof ConfigurationSection ? value : null;
+            }
+        };
+
+        /**
+         * Converts {@link Object} value to the type.
+         *
+         * @return  the converted value or null if it can not be converted
+         */
+        abstract Object coerce(Object value);
+
+        private static Long toLong(Object value) {
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) return ((Number) value).longValue();
+            if (value instanceof Number) {
+                double number = ((Number) value).doubleValue();
+                return number == Math.rint(number) && Math.abs(number) < 0x1p63 ? (long) number : null;
+            }
+            if (!(value instanceof String)) return null;
+            try {
+                return Long.parseLong(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The compiled check of one path.
+     */
+    private static final class Rule {
+
+        private final String path;
+        private final Type type;
+        private final boolean required;
+        private final Object def;
+        private final double min;
+        private final double max;
+        private final Map<String, String> allowed;
+
+        private Rule(RuleBuilder builder) {
+            this.path = builder.path;
+            this.type = builder.type;
+            this.required = builder.required;
+            this.def = builder.def;
+            this.min = builder.min;
+            this.max = builder.max;
+            this.allowed = builder.allowed;
+        }
+
+        /**
+         * Checks and converts the value of the path in {@link ConfigurationSection} section, setting the default if it
+         * is missing.
+         */
+        private void apply(ConfigurationSection section, List<String> errors) {
+            Object value = section.get(path, null);
+            Object coerced = check(value, errors);
+            if (coerced != null && coerced != value) section.set(path, coerced);
+        }
+
+        /**
+         * Checks {@link Object} value, adding every problem to {@link List} errors.
+         *
+         * @return  the converted value, the default for a missing value or null
+         */
+        private Object check(Object value, List<String> errors) {
+            if (value == null) {
+                // every config gets its own copy, lists and maps of the default are not shared
+                if (def != null) return copy(def);
+                if (required) errors.add(path + ": missing required value");
+                return null;
+            }
+
+            Object coerced = type.coerce(value);
+            if (coerced == null) {
+                errors.add(path + ": expected " + type.name().toLowerCase(Locale.ROOT).replace('_', ' ') + " but was '" + value + "'");
+                return null;
+            }
+            if (coerced instanceof Number) {
+                double number = ((Number) coerced).doubleValue();
+                if (number < min) errors.add(path + ": " + coerced + " is less than the minimum " + format(min));
+                if (number > max) errors.add(path + ": " + coerced + " is greater than the maximum " + format(max));
+            }
+            if (allowed != null && coerced instanceof String) {
+                String canonical = allowed.get(((String) coerced).toLowerCase(Locale.ROOT));
+                if (canonical == null) errors.add(path + ": '" + coerced + "' is not one of " + allowed.values());
+                else coerced = canonical;
+            }
+            return coerced;
+        }
+
+        /**
+         * Copies {@link Object} value if it is a {@link List} or {@link Map}, including the lists and maps inside.
+         */
+        private static Object copy(Object value) {
+            if (value instanceof List) {
+                List<Object> copy = new ArrayList<>(((List<?>) value).size());
+                for (Object element : (List<?>) value) copy.add(copy(element));
+                return copy;
+            }
+            if (value instanceof Map) {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) copy.put(entry.getKey(), copy(entry.getValue()));
+                return copy;
+            }
+            return value;
+        }
+
+        private static String format(double number) {
+            return number == Math.rint(number) ? Long.toString((long) number) : Double.toString(number);
+        }
+    }
+
+    /**
+     * The settings of one path while the schema is built.
+     */
+    private static final class RuleBuilder {
+
+        private final String path;
+        private final Type type;
+        private boolean required;
+        private Object def;
+        private double min = Double.NEGATIVE_INFINITY;
+        private double max = Double.POSITIVE_INFINITY;
+        private Map<String, String> allowed;
+
+        private RuleBuilder(String path, Type type) {
+            this.path = path;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Builds a {@link ConfigSchema} schema.<br>
+     * Every path is declared with its type, the following calls like {@link #required()} or {@link #range(double, double)}
+     * refer to the path declared last:
+     * <pre>
+     * ConfigSchema schema = ConfigSchema.builder()
+     *         .path("max-players", ConfigSchema.Type.INTEGER).required().range(1, 500)
+     *         .path("mode", ConfigSchema.Type.STRING).oneOf(GameMode.class).defaultValue("SURVIVAL")
+     *         .build();
+     * </pre>
+     */
+    public static final class Builder {
+
+        /**
+         * The final {@link Map} of paths and their settings
+         */
+        private final Map<String, RuleBuilder> rules = new LinkedHashMap<>();
+        /**
+         * The private {@link RuleBuilder} settings of the path declared last
+         */
+        private RuleBuilder current;
+
+        private Builder() {
+        }
+
+        /**
+         * Declares {@link String} path with {@link Type} type.<br>
+         * Declaring a path again replaces its previous settings.
+         * <br><br>
+         *
+         * @param path  represents the {@link String} path<br>
+         * @param type  represents the {@link Type} type of the value<br>
+         * @return      the {@link Builder} builder
+         */
+        public Builder path(String path, Type type) {
+            current = new RuleBuilder(path, type);
+            rules.put(path, current);
+            return this;
+        }
+
+        /**
+         * Marks the current path as required, a missing value without default is an error.
+         * <br><br>
+         *
+         * @return  the {@link Builder} builder
+         */
+        public Builder required() {
+            current().required = true;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Object} default of the current path, which is set if the path is missing.
+         * <br><br>
+         *
+         * @param value  represents the {@link Object} default value, converted to the type of the path<br>
+         * @return       the {@link Builder} builder
+         */
+        public Builder defaultValue(Object value) {
+            RuleBuilder rule = current();
+            Object coerced = rule.type.coerce(value);
+            if (coerced == null) throw new IllegalArgumentException("Default of " + rule.path + " is not a " + rule.type);
+            rule.def = coerced;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Double} minimum and maximum of the current numeric path, both inclusive.
+         * <br><br>
+         *
+         * @param min  represents the {@link Double} minimum<br>
+         * @param max  represents the {@link Double} maximum<br>
+         * @return     the {@link Builder} builder
+         */
+        public Builder range(double min, double max) {
+            RuleBuilder rule = current();
+            rule.min = min;
+            rule.max = max;
+            return this;
+        }
+
+        /**
+         * Restricts the current text path to {@link String} values, ignoring case.<br>
+         * The value is stored in the spelling given here.
+         * <br><br>
+         *
+         * @param values  represents the {@link String} allowed values<br>
+         * @return        the {@link Builder} builder
+         */
+        public Builder oneOf(String... values) {
+            Map<String, String> allowed = new LinkedHashMap<>();
+            for (String value : values) allowed.put(value.toLowerCase(Locale.ROOT), value);
+            current().allowed = allowed;
+            return this;
+        }
+
+        /**
+         * Restricts the current text path to the constant names of {@link Class} type, ignoring case.
+         * <br><br>
+         *
+         * @param type  represents the {@link Class} enum type<br>
+         * @return      the {@link Builder} builder
+         */
+        public Builder oneOf(Class<? extends Enum<?>> type) {
+            Enum<?>[] constants = type.getEnumConstants();
+            String[] names = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) names[i] = constants[i].name();
+            return oneOf(names);
+        }
+
+        /**
+         * Compiles the {@link ConfigSchema} schema.
+         * <br><br>
+         *
+         * @return  the {@link ConfigSchema} schema
+         */
+        public ConfigSchema build() {
+            List<Rule> compiled = new ArrayList<>(rules.size());
+            for (RuleBuilder rule : rules.values()) compiled.add(new Rule(rule));
+            compiled.sort(Comparator.comparing(rule -> rule.path));
+            return new ConfigSchema(compiled.toArray(new Rule[0]));
+        }
+
+        private RuleBuilder current() {
+            if (current == null) throw new IllegalStateException("No path declared");
+            return current;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 22:25
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * An immutable copy of the values of a section, streamed by {@link Config#stream(String, boolean)}.<br>
+ * The paths and values are kept in two arrays in the order of the section, the values of every child section in one
+ * block. The {@link Spliterator} spliterator splits them at the borders of these blocks if possible, so the work of a
+ * parallel stream is divided by child sections, and creates the {@link ConfigEntry} entries only while traversing.<br>
+ * A snapshot is reused as long as the version of its section does not change.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class ConfigSnapshot {
+
+    /**
+     * The final {@link String} path of the section
+     */
+    final String section;
+    /**
+     * The final {@link Boolean} deep, true if the values of all child sections are included
+     */
+    final boolean deep;
+    /**
+     * The final {@link Long} version of the section the snapshot was taken at
+     */
+    final long version;
+    /**
+     * The final {@link Character} path separator
+     */
+    private final char separator;
+    /**
+     * The final {@link String} full paths of the values
+     */
+    private final String[] paths;
+    /**
+     * The final {@link Object} values
+     */
+    private final Object[] values;
+    /**
+     * The final {@link Integer} start index of the block of every direct child, in ascending order
+     */
+    private final int[] blocks;
+
+    /**
+     * Copies the values of {@link ConfigurationSection} section.<br>
+     * The caller has to hold the lock of the versions of the config.
+     * <br><br>
+     *
+     * @param section    represents the {@link ConfigurationSection} section that should be copied, may be null<br>
+     * @param path       represents the {@link String} path of the section<br>
+     * @param deep       specifies whether the values of all child sections should be copied<br>
+     * @param version    represents the {@link Long} version of the section<br>
+     * @param separator  represents the {@link Character} path separator
+     */
+    ConfigSnapshot(ConfigurationSection section, String path, boolean deep, long version, char separator) {
+        this.section = path;
+        this.deep = deep;
+        this.version = version;
+        this.separator = separator;
+
+        List<String> paths = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        int[] blocks = new int[8];
+        int count = 0;
+        if (section != null) {
+            for (Map.Entry<String, Object> child : section.getValues(false).entrySet()) {
+                if (count == blocks.length) blocks = Arrays.copyOf(blocks, count * 2);
+                blocks[count++] = paths.size();
+                String childPath = path.isEmpty() ? child.getKey() : path + separator + child.getKey();
+                copy(childPath, child.getValue(), paths, values);
+            }
+        }
+        this.paths = paths.toArray(new String[0]);
+        this.values = values.toArray();
+        this.blocks = Arrays.copyOf(blocks, count);
+    }
+
+    /**
+     * Creates a new {@link Spliterator} spliterator over all values.
+     * <br><br>
+     *
+     * @return  the {@link Spliterator} spliterator
+     */
+    Spliterator<ConfigEntry> spliterator() {
+        return new EntrySpliterator(0, paths.length);
+    }
+
+    private void copy(String path, Object value, List<String> paths, List<Object> values) {
+        if (value instanceof ConfigurationSection) {
+            if (!deep) return;
+            for (Map.Entry<String, Object> child : ((ConfigurationSection) value).getValues(false).entrySet()) {
+                copy(path + separator + child.getKey(), child.getValue(), paths, values);
+            }
+            return;
+        }
+        paths.add(path);
+        values.add(value instanceof List ? Collections.unmodifiableList(new ArrayList<>((List<?>) value)) : value);
+    }
+
+    private ConfigEntry entry(int index) {
+        String path = paths[index];
+        return new ConfigEntry(path, path.lastIndexOf(separator) + 1, values[index]);
+    }
+
+    /**
+     * Traverses the values from index {@link #index} up to {@link #end}.
+     */
+    private final class EntrySpliterator implements Spliterator<ConfigEntry> {
+
+        private int index;
+        private final int end;
+
+        private EntrySpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ConfigEntry> action) {
+            if (index >= end) return false;
+            action.accept(entry(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super ConfigEntry> action) {
+            int i = index;
+            index = end;
+            for (; i < end; i++) action.accept(entry(i));
+        }
+
+        @Override
+        public Spliterator<ConfigEntry> trySplit() {
+            if (end - index < 2) return null;
+            int middle = (index + end) >>> 1;
+            int block = Arrays.binarySearch(blocks, middle);
+            if (block < 0) {
+                // the nearest block border inside the range, the middle if there is none
+                int insertion = -block - 1;
+                int before = insertion > 0 ? blocks[insertion - 1] : -1;
+                int after = insertion < blocks.length ? blocks[insertion] : -1;
+                int border = -1;
+                if (before > index) border = before;
+                if (after > index && after < end && (border < 0 || after - middle < middle - border)) border = after;
+                if (border > 0) middle = border;
+            }
+            Spliterator<ConfigEntry> prefix = new EntrySpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | IMMUTABLE | NONNULL;
+        }
+    }
+}
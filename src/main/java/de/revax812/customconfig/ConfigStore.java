@@ -0,0 +1,524 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:00
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * An embedded, file based key-value store for config paths.<br>
+ * Changes are appended to the file as checksummed frames, one frame per {@link #commit()}. After a crash every
+ * frame that was not completely written is cut off when the store is opened again, so the store always reflects
+ * the last successful commit.<br>
+ * Only the sorted key index lives on the heap, values stay in the file and are read on demand. Range scans over
+ * key prefixes are served from the index. Once the file holds mostly overwritten values it is compacted into a
+ * new file which atomically replaces the old one.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class ConfigStore implements Closeable {
+
+    /**
+     * The final magic bytes every store file starts with
+     */
+    private static final byte[] MAGIC = {'C', 'C', 'K', 'V'};
+    /**
+     * The final {@link Byte} version of the file layout
+     */
+    private static final byte VERSION = 1;
+    /**
+     * The final {@link Integer} size of the file header
+     */
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+    /**
+     * The final {@link Byte} marker every frame starts with
+     */
+    private static final byte FRAME = (byte) 0xF7;
+    /**
+     * The final {@link Integer} size of a frame header: marker, payload length and checksum
+     */
+    private static final int FRAME_HEADER_SIZE = 9;
+    /**
+     * The final {@link Integer} payload size after which compaction starts a new frame
+     */
+    private static final int COMPACT_FRAME_SIZE = 1 << 20;
+    /**
+     * The final {@link Long} file size below which the store is never compacted
+     */
+    private static final long COMPACT_MIN_SIZE = 1 << 22;
+
+    private static final byte PUT = 1;
+    private static final byte PUT_SECTION = 2;
+    private static final byte REMOVE = 3;
+    private static final byte REMOVE_PREFIX = 4;
+
+    /**
+     * The final {@link File} file of the store
+     */
+    private final File file;
+    /**
+     * The final sorted {@link TreeMap} index of all keys
+     */
+    private final TreeMap<String, Entry> index = new TreeMap<>();
+    /**
+     * The final {@link List} of entries written since the last commit
+     */
+    private final List<Entry> pendingEntries = new ArrayList<>();
+    /**
+     * The final {@link ByteArrayOutputStream} payload of the next frame
+     */
+    private final ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream();
+    /**
+     * The final {@link DataOutputStream} writing to the payload of the next frame
+     */
+    private final DataOutputStream pending = new DataOutputStream(pendingBytes);
+    /**
+     * The final {@link ByteArrayOutputStream} reused to encode single values
+     */
+    private final ByteArrayOutputStream valueBytes = new ByteArrayOutputStream();
+    /**
+     * The private {@link FileChannel} channel of the store file
+     */
+    private FileChannel channel;
+    /**
+     * The private {@link Long} end of the last committed frame
+     */
+    private long end;
+    /**
+     * The private {@link Long} amount of value bytes still referenced by the index
+     */
+    private long liveBytes;
+
+    /**
+     * Opens the store in {@link File} file, creating it if needed.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} file of the store
+     * @throws IOException  if the file could not be opened or is not a store
+     */
+    public ConfigStore(File file) throws IOException {
+        this.file = file;
+        open();
+    }
+
+    /**
+     * Gets the {@link File} file of the store.
+     * <br><br>
+     *
+     * @return  the {@link File} file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the value of {@link String} key.
+     * <br><br>
+     *
+     * @param key  represents the {@link String} key<br>
+     * @return     the value, {@link PathConfiguration#SECTION} for sections or null if the key is not set
+     * @throws IOException  if the value could not be read
+     */
+    public synchronized Object get(String key) throws IOException {
+        Entry entry = index.get(key);
+        if (entry == null) return null;
+        if (entry.section) return PathConfiguration.SECTION;
+        if (entry.offset < 0) return BinaryFormat.readValue(new DataInputStream(new ByteArrayInputStream(entry.value)));
+
+        ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+        readFully(channel, buffer, entry.offset);
+        return BinaryFormat.readValue(new DataInputStream(new ByteArrayInputStream(buffer.array())));
+    }
+
+    /**
+     * Checks if {@link String} key is set.
+     * <br><br>
+     *
+     * @param key  represents the {@link String} key<br>
+     * @return     whether or not the key is set
+     */
+    public synchronized boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Sets {@link String} key to {@link Object} value until the next {@link #commit()}.<br>
+     * The value is encoded right away, so changing a list or map afterwards does not change the pending write.
+     * <br><br>
+     *
+     * @param key    represents the {@link String} key<br>
+     * @param value  represents the value or {@link PathConfiguration#SECTION}
+     * @throws IOException  if the value could not be encoded
+     */
+    public synchronized void put(String key, Object value) throws IOException {
+        Entry entry = new Entry();
+        if (value == PathConfiguration.SECTION) {
+            entry.section = true;
+            pending.writeByte(PUT_SECTION);
+            BinaryFormat.writeString(pending, key);
+        } else {
+            valueBytes.reset();
+            BinaryFormat.writeValue(new DataOutputStream(valueBytes), value);
+            pending.writeByte(PUT);
+            BinaryFormat.writeString(pending, key);
+            BinaryFormat.writeVarInt(pending, valueBytes.size());
+            entry.offset = -1 - pendingBytes.size();
+            entry.length = valueBytes.size();
+            entry.value = valueBytes.toByteArray();
+            valueBytes.writeTo(pending);
+            pendingEntries.add(entry);
+        }
+        release(index.put(key, entry));
+        liveBytes += entry.length;
+    }
+
+    /**
+     * Removes {@link String} key until the next {@link #commit()}.
+     * <br><br>
+     *
+     * @param key represents the {@link String} key
+     * @throws IOException  if the change could not be recorded
+     */
+    public synchronized void remove(String key) throws IOException {
+        if (!index.containsKey(key)) return;
+        pending.writeByte(REMOVE);
+        BinaryFormat.writeString(pending, key);
+        release(index.remove(key));
+    }
+
+    /**
+     * Removes every key starting with {@link String} prefix until the next {@link #commit()}.
+     * <br><br>
+     *
+     * @param prefix represents the {@link String} prefix
+     * @throws IOException  if the change could not be recorded
+     */
+    public synchronized void removePrefix(String prefix) throws IOException {
+        SortedMap<String, Entry> range = range(prefix);
+        if (range.isEmpty()) return;
+        pending.writeByte(REMOVE_PREFIX);
+        BinaryFormat.writeString(pending, prefix);
+        for (Entry entry : range.values()) release(entry);
+        range.clear();
+    }
+
+    /**
+     * Gets all keys starting with {@link String} prefix in ascending order.
+     * <br><br>
+     *
+     * @param prefix  represents the {@link String} prefix<br>
+     * @return        the {@link List<String>} keys
+     */
+    public synchronized List<String> keys(String prefix) {
+        return new ArrayList<>(range(prefix).keySet());
+    }
+
+    /**
+     * Checks if any key starts with {@link String} prefix.
+     * <br><br>
+     *
+     * @param prefix  represents the {@link String} prefix<br>
+     * @return        whether or not such a key exists
+     */
+    public synchronized boolean hasKeys(String prefix) {
+        String key = index.ceilingKey(prefix);
+        return key != null && key.startsWith(prefix);
+    }
+
+    /**
+     * Gets all values whose key starts with {@link String} prefix in ascending key order.<br>
+     * Only the values of the range are read from the file.
+     * <br><br>
+     *
+     * @param prefix  represents the {@link String} prefix<br>
+     * @return        the {@link SortedMap} of keys and values
+     * @throws IOException  if a value could not be read
+     */
+    public synchronized SortedMap<String, Object> scan(String prefix) throws IOException {
+        SortedMap<String, Object> values = new TreeMap<>();
+        for (String key : range(prefix).keySet()) values.put(key, get(key));
+        return values;
+    }
+
+    /**
+     * Gets the {@link Integer} amount of keys in the store.
+     * <br><br>
+     *
+     * @return  the {@link Integer} size
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Writes all changes since the last commit as one frame and forces it to disk.<br>
+     * Compacts the file afterwards if most of it is no longer referenced.
+     * <br><br>
+     *
+     * @throws IOException  if the frame could not be written
+     */
+    public synchronized void commit() throws IOException {
+        if (pendingBytes.size() == 0) return;
+        pending.flush();
+        long start = end;
+        writeFrame(channel, start, pendingBytes.toByteArray());
+        channel.force(false);
+        end = channel.position();
+
+        for (Entry entry : pendingEntries) {
+            if (entry.offset < 0) {
+                entry.offset = start + FRAME_HEADER_SIZE + (-1 - entry.offset);
+                entry.value = null;
+            }
+        }
+        pendingEntries.clear();
+        pendingBytes.reset();
+
+        if (end > COMPACT_MIN_SIZE && end > 2 * (liveBytes + HEADER_SIZE)) compact();
+    }
+
+    /**
+     * Discards all changes since the last commit by reading the index again.
+     * <br><br>
+     *
+     * @throws IOException  if the file could not be read
+     */
+    public synchronized void rollback() throws IOException {
+        close();
+        open();
+    }
+
+    /**
+     * Rewrites the store into a new file that only contains the current values and replaces the old file with it.
+     * <br><br>
+     *
+     * @throws IOException  if the store could not be compacted
+     */
+    public synchronized void compact() throws IOException {
+        commit();
+        File temp = new File(file.getPath() + ".compact");
+        try (FileChannel target = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            target.write(ByteBuffer.wrap(header()));
+            ByteArrayOutputStream frameBytes = new ByteArrayOutputStream();
+            DataOutputStream frame = new DataOutputStream(frameBytes);
+            long position = HEADER_SIZE;
+            for (Map.Entry<String, Entry> mapEntry : index.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                if (entry.section) {
+                    frame.writeByte(PUT_SECTION);
+                    BinaryFormat.writeString(frame, mapEntry.getKey());
+                } else {
+                    ByteBuffer value = ByteBuffer.allocate(entry.length);
+                    readFully(channel, value, entry.offset);
+                    frame.writeByte(PUT);
+                    BinaryFormat.writeString(frame, mapEntry.getKey());
+                    BinaryFormat.writeVarInt(frame, entry.length);
+                    frame.write(value.array());
+                }
+                if (frameBytes.size() >= COMPACT_FRAME_SIZE) {
+                    position = writeFrame(target, position, frameBytes.toByteArray());
+                    frameBytes.reset();
+                }
+            }
+            if (frameBytes.size() > 0) writeFrame(target, position, frameBytes.toByteArray());
+            target.force(true);
+        }
+        channel.close();
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(file);
+        open();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null && channel.isOpen()) channel.close();
+    }
+
+    /**
+     * Opens the file and rebuilds the index from all complete frames.<br>
+     * A torn frame at the end of the file is cut off.
+     */
+    private void open() throws IOException {
+        index.clear();
+        pendingEntries.clear();
+        pendingBytes.reset();
+        liveBytes = 0;
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) parent.mkdirs();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(header()), 0);
+            channel.force(true);
+            end = HEADER_SIZE;
+            channel.position(end);
+            return;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header, 0);
+        if (!Arrays.equals(header.array(), header())) {
+            channel.close();
+            throw new IOException(file + " is not a config store");
+        }
+
+        long position = HEADER_SIZE;
+        ByteBuffer frameHeader = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        while (position + FRAME_HEADER_SIZE <= size) {
+            frameHeader.clear();
+            readFully(channel, frameHeader, position);
+            frameHeader.flip();
+            if (frameHeader.get() != FRAME) break;
+            int length = frameHeader.getInt();
+            int checksum = frameHeader.getInt();
+            if (length < 0 || position + FRAME_HEADER_SIZE + length > size) break;
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + FRAME_HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array(), 0, length);
+            if ((int) crc.getValue() != checksum) break;
+
+            replay(payload.array(), position + FRAME_HEADER_SIZE);
+            position += FRAME_HEADER_SIZE + length;
+        }
+        if (position < size) {
+            channel.truncate(position);
+            channel.force(true);
+        }
+        end = position;
+        channel.position(end);
+    }
+
+    /**
+     * Applies all operations of one frame payload to the index.
+     */
+    private void replay(byte[] payload, long payloadOffset) throws IOException {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(payload);
+        DataInputStream in = new DataInputStream(bytes);
+        while (bytes.available() > 0) {
+            byte operation = in.readByte();
+            String key = BinaryFormat.readString(in);
+            switch (operation) {
+                case PUT:
+                    Entry entry = new Entry();
+                    entry.length = BinaryFormat.readVarInt(in);
+                    entry.offset = payloadOffset + (payload.length - bytes.available());
+                    in.skipBytes(entry.length);
+                    release(index.put(key, entry));
+                    liveBytes += entry.length;
+                    break;
+                case PUT_SECTION:
+                    Entry section = new Entry();
+                    section.section = true;
+                    release(index.put(key, section));
+                    break;
+                case REMOVE:
+                    release(index.remove(key));
+                    break;
+                case REMOVE_PREFIX:
+                    SortedMap<String, Entry> range = range(key);
+                    for (Entry removed : range.values()) release(removed);
+                    range.clear();
+                    break;
+                default:
+                    throw new IOException("Unknown store operation " + operation);
+            }
+        }
+    }
+
+    private SortedMap<String, Entry> range(String prefix) {
+        if (prefix.isEmpty()) return index;
+        return index.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private void release(Entry entry) {
+        if (entry != null) liveBytes -= entry.length;
+    }
+
+    private static byte[] header() {
+        byte[] header = Arrays.copyOf(MAGIC, HEADER_SIZE);
+        header[MAGIC.length] = VERSION;
+        return header;
+    }
+
+    /**
+     * Writes one frame at {@link Long} position and returns the position after it.
+     */
+    private static long writeFrame(FileChannel channel, long position, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length);
+        frame.put(FRAME).putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        frame.flip();
+        long next = position;
+        while (frame.hasRemaining()) next += channel.write(frame, next);
+        channel.position(next);
+        return next;
+    }
+
+    /**
+     * Forces the directory of {@link File} file to disk, so a rename into it survives a crash.<br>
+     * Windows cannot open directories and makes the rename durable on its own.
+     */
+    private static void forceDirectory(File file) {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent == null || File.separatorChar == '\\') return;
+        try (FileChannel directory = FileChannel.open(parent.toPath(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read == -1) throw new EOFException();
+        }
+    }
+
+    /**
+     * The location of one value in the store file, or the value itself while it is not committed.
+     */
+    private static final class Entry {
+
+        /**
+         * The private {@link Long} offset of the value bytes, negative while the value is only pending
+         */
+        private long offset;
+        /**
+         * The private {@link Integer} length of the value bytes
+         */
+        private int length;
+        /**
+         * The private encoded value while it is only pending
+         */
+        private byte[] value;
+        /**
+         * The private {@link Boolean} whether or not the entry marks a section
+         */
+        private boolean section;
+    }
+}
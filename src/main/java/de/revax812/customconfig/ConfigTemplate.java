@@ -0,0 +1,211 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 23:20
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A text with placeholders, parsed once into its literal parts and placeholders, see {@link Config#getTemplate(String)}.<br>
+ * Placeholders are written as <code>{name}</code> or <code>%name%</code> and replaced when the template is rendered.
+ * References to other paths of the config, written as <code>${path}</code>, are replaced by the text at that path when
+ * the template is compiled, so they cost nothing when rendering. A placeholder without value is kept as it is.<br>
+ * Rendering appends the parts to a {@link StringBuilder} builder, the methods returning a {@link String} string reuse
+ * one builder per thread.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ConfigTemplate {
+
+    /**
+     * The final {@link Integer} maximum depth of nested references
+     */
+    private static final int MAX_DEPTH = 16;
+    /**
+     * The final {@link ThreadLocal} builder reused by the rendering methods of every thread
+     */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    /**
+     * The final {@link String} text after resolving the references
+     */
+    private final String text;
+    /**
+     * The final {@link String} parts, the literals at even and the placeholder names at odd indexes
+     */
+    private final String[] parts;
+    /**
+     * The final {@link String} placeholders as written in the text, at the same indexes as their names
+     */
+    private final String[] raw;
+
+    private ConfigTemplate(String text, String[] parts, String[] raw) {
+        this.text = text;
+        this.parts = parts;
+        this.raw = raw;
+    }
+
+    /**
+     * Compiles {@link String} text into a {@link ConfigTemplate} template without references to a config.
+     * <br><br>
+     *
+     * @param text  represents the {@link String} text that should be compiled<br>
+     * @return      the {@link ConfigTemplate} template
+     */
+    public static ConfigTemplate of(String text) {
+        return compile(text, path -> null);
+    }
+
+    /**
+     * Compiles {@link String} text, replacing every reference <code>${path}</code> with the text returned by
+     * {@link Function} references, which are compiled the same way.
+     * <br><br>
+     *
+     * @param text        represents the {@link String} text that should be compiled<br>
+     * @param references  represents the {@link Function} returning the text at a path, null keeps the reference<br>
+     * @return            the {@link ConfigTemplate} template
+     */
+    static ConfigTemplate compile(String text, Function<String, String> references) {
+        StringBuilder resolved = new StringBuilder(text.length());
+        resolve(text, references, resolved, 0);
+        String source = resolved.toString();
+
+        List<String> parts = new ArrayList<>();
+        List<String> raw = new ArrayList<>();
+        int literal = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c != '{' && c != '%') continue;
+            int end = source.indexOf(c == '{' ? '}' : '%', i + 1);
+            if (end < 0 || !isName(source, i + 1, end)) continue;
+            parts.add(source.substring(literal, i));
+            parts.add(source.substring(i + 1, end));
+            raw.add(null);
+            raw.add(source.substring(i, end + 1));
+            literal = end + 1;
+            i = end;
+        }
+        parts.add(source.substring(literal));
+        raw.add(null);
+        return new ConfigTemplate(source, parts.toArray(new String[0]), raw.toArray(new String[0]));
+    }
+
+    /**
+     * Renders the template with the placeholder values of {@link Map} values.
+     * <br><br>
+     *
+     * @param values  represents the {@link Map} of placeholder names and their values<br>
+     * @return        the rendered {@link String} text
+     */
+    public String render(Map<String, ?> values) {
+        if (parts.length == 1) return text;
+        StringBuilder out = BUILDER.get();
+        out.setLength(0);
+        return appendTo(out, values::get).toString();
+    }
+
+    /**
+     * Renders the template with placeholder names and values given in turns, like
+     * <code>render("player", name, "kills", kills)</code>.
+     * <br><br>
+     *
+     * @param namesAndValues  represents the {@link Object} names and values<br>
+     * @return                the rendered {@link String} text
+     */
+    public String render(Object... namesAndValues) {
+        if (parts.length == 1) return text;
+        StringBuilder out = BUILDER.get();
+        out.setLength(0);
+        return appendTo(out, name -> {
+            for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+                if (name.equals(namesAndValues[i])) return namesAndValues[i + 1];
+            }
+            return null;
+        }).toString();
+    }
+
+    /**
+     * Renders the template into {@link StringBuilder} out, taking the placeholder values from {@link Function} values.
+     * <br><br>
+     *
+     * @param out     represents the {@link StringBuilder} builder the text is appended to<br>
+     * @param values  represents the {@link Function} returning the value of a placeholder, null if it has none<br>
+     * @return        the {@link StringBuilder} builder
+     */
+    public StringBuilder appendTo(StringBuilder out, Function<String, ?> values) {
+        out.append(parts[0]);
+        for (int i = 1; i < parts.length; i += 2) {
+            Object value = values.apply(parts[i]);
+            out.append(value == null ? raw[i] : value);
+            out.append(parts[i + 1]);
+        }
+        return out;
+    }
+
+    /**
+     * Gets the {@link Set<String>} names of the placeholders of the template.
+     * <br><br>
+     *
+     * @return  the {@link Set<String>} names in the order they appear
+     */
+    public Set<String> getPlaceholders() {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 1; i < parts.length; i += 2) names.add(parts[i]);
+        return names;
+    }
+
+    /**
+     * Gets the {@link String} text of the template, with its references resolved and its placeholders unchanged.
+     * <br><br>
+     *
+     * @return  the {@link String} text
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * Appends {@link String} text to {@link StringBuilder} out, replacing the references recursively.
+     */
+    private static void resolve(String text, Function<String, String> references, StringBuilder out, int depth) {
+        int start = 0;
+        int reference = text.indexOf("${");
+        while (reference >= 0) {
+            int end = text.indexOf('}', reference + 2);
+            if (end < 0) break;
+            String target = depth < MAX_DEPTH ? references.apply(text.substring(reference + 2, end)) : null;
+            out.append(text, start, reference);
+            if (target == null) out.append(text, reference, end + 1);
+            else resolve(target, references, out, depth + 1);
+            start = end + 1;
+            reference = text.indexOf("${", start);
+        }
+        out.append(text, start, text.length());
+    }
+
+    /**
+     * Checks whether the characters from {@link Integer} start to {@link Integer} end form a placeholder name.
+     */
+    private static boolean isName(String text, int start, int end) {
+        if (start == end) return false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 21:05
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of a config, see {@link Config#increment(String, long)}.<br>
+ * Every counter is a {@link LongAdder} adder, so threads counting at the same time do not block each other. The
+ * counted amount is only added to the value in the config when the counters are folded, which happens periodically on
+ * the scheduler of {@link ConfigExecutors} and on {@link Config#flushCounters()}.<br>
+ * A counter remembers how much of its sum was already folded, its current value is the value in the config plus the
+ * amount counted since then.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class CounterCells {
+
+    /**
+     * The final {@link Long} default interval between two flushes in milliseconds
+     */
+    static final long DEFAULT_FLUSH_INTERVAL = 30_000;
+
+    /**
+     * The final {@link Map} of paths and their counters
+     */
+    private final Map<String, Cell> cells = new ConcurrentHashMap<>();
+    /**
+     * The private {@link Long} interval between two flushes in milliseconds, 0 if the counters are only flushed manually
+     */
+    private long interval = DEFAULT_FLUSH_INTERVAL;
+    /**
+     * The private {@link ScheduledFuture} task flushing the counters, null if none is scheduled
+     */
+    private ScheduledFuture<?> task;
+
+    /**
+     * Adds {@link Long} delta to the counter of {@link String} path.
+     * <br><br>
+     *
+     * @param path   represents the {@link String} path of the counter<br>
+     * @param delta  represents the {@link Long} amount that should be added<br>
+     * @return       true if the counter was created by this call
+     */
+    boolean add(String path, long delta) {
+        Cell cell = cells.get(path);
+        boolean created = false;
+        if (cell == null) {
+            Cell fresh = new Cell();
+            cell = cells.putIfAbsent(path, fresh);
+            if (cell == null) {
+                cell = fresh;
+                created = true;
+            }
+        }
+        cell.adder.add(delta);
+        return created;
+    }
+
+    /**
+     * Gets the current value of the counter of {@link String} path.
+     * <br><br>
+     *
+     * @param config  represents the {@link ConfigurationSection} config the counter is folded into<br>
+     * @param path    represents the {@link String} path of the counter<br>
+     * @return        the {@link Long} value in the config plus the amount that was not folded yet
+     */
+    long get(ConfigurationSection config, String path) {
+        Cell cell = cells.get(path);
+        if (cell == null) return value(config.get(path, null));
+        synchronized (cell) {
+            return value(config.get(path, null)) + cell.adder.sum() - cell.folded;
+        }
+    }
+
+    /**
+     * Adds the amount counted since the last fold to the values in {@link ConfigurationSection} config.<br>
+     * The caller has to hold the lock of {@link PathVersions} versions.
+     * <br><br>
+     *
+     * @param config     represents the {@link ConfigurationSection} config the counters are folded into<br>
+     * @param versions   represents the {@link PathVersions} versions of the paths<br>
+     * @param separator  represents the {@link Character} path separator<br>
+     * @return           true if at least one value changed
+     */
+    boolean fold(ConfigurationSection config, PathVersions versions, char separator) {
+        boolean changed = false;
+        for (Map.Entry<String, Cell> entry : cells.entrySet()) {
+            Cell cell = entry.getValue();
+            synchronized (cell) {
+                long sum = cell.adder.sum();
+                long delta = sum - cell.folded;
+                if (delta == 0) continue;
+                cell.folded = sum;
+                config.set(entry.getKey(), value(config.get(entry.getKey(), null)) + delta);
+            }
+            versions.increment(entry.getKey(), separator);
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Sets the interval between two flushes and schedules {@link Runnable} flush with it.
+     * <br><br>
+     *
+     * @param flush     represents the {@link Runnable} flush that should be scheduled<br>
+     * @param interval  represents the {@link Long} interval, 0 to only flush manually<br>
+     * @param unit      represents the {@link TimeUnit} unit of the interval
+     */
+    synchronized void setInterval(Runnable flush, long interval, TimeUnit unit) {
+        if (interval < 0) throw new IllegalArgumentException("Negative interval " + interval);
+        this.interval = unit.toMillis(interval);
+        cancel();
+        if (!cells.isEmpty()) start(flush);
+    }
+
+    /**
+     * Schedules {@link Runnable} flush with the current interval, unless it is already scheduled.
+     * <br><br>
+     *
+     * @param flush  represents the {@link Runnable} flush that should be scheduled
+     */
+    synchronized void start(Runnable flush) {
+        if (task != null || interval == 0) return;
+        task = ConfigExecutors.scheduler().scheduleWithFixedDelay(flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic flush.
+     */
+    synchronized void cancel() {
+        if (task == null) return;
+        task.cancel(false);
+        task = null;
+    }
+
+    private static long value(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    /**
+     * A counter with the part of its sum that was already folded into the config.
+     */
+    private static final class Cell {
+
+        private final LongAdder adder = new LongAdder();
+        private long folded;
+    }
+}
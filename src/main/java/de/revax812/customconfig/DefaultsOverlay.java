@@ -0,0 +1,133 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:30
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The defaults of a {@link Config} config.<br>
+ * Bukkit looks up the default of every path that is read, walking the defaults tree section by section. This
+ * configuration keeps a flat map of all its paths next to the tree, so such a lookup is a single hash lookup.
+ * Setting a value below an existing section updates the map in place. Replacing or removing a section drops it, and
+ * it is rebuilt on the next read from outside, so adding many defaults costs no rebuild per default.<br>
+ * Changes have to be made on the overlay itself, for example through {@link Config#addDefault(String, Object)};
+ * changes made through one of its sections are only seen after {@link #invalidate()}.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class DefaultsOverlay extends MemoryConfiguration {
+
+    /**
+     * The private volatile {@link Map} of all paths and their values, null if it has to be rebuilt
+     */
+    private volatile Map<String, Object> flat;
+
+    /**
+     * Creates a new {@link DefaultsOverlay} overlay with the values of {@link Configuration} defaults.
+     * <br><br>
+     *
+     * @param defaults  represents the {@link Configuration} defaults that should be copied, may be null
+     */
+    DefaultsOverlay(Configuration defaults) {
+        options().pathSeparator(defaults == null ? '.' : defaults.options().pathSeparator());
+        if (defaults != null) ConfigFormats.copy(defaults, this);
+    }
+
+    @Override
+    public Object get(String path) {
+        return get(path, null);
+    }
+
+    @Override
+    public Object get(String path, Object def) {
+        if (path.isEmpty()) return this;
+        Map<String, Object> values = flat;
+        if (values == null) {
+            // the tree reads its sections through this method while it is changed, those reads walk the tree
+            if (Thread.holdsLock(this)) return super.get(path, def);
+            values = rebuild();
+        }
+        Object value = values.get(path);
+        return value == null ? def : value;
+    }
+
+    @Override
+    public synchronized void set(String path, Object value) {
+        Map<String, Object> values = flat;
+        boolean leaf = values != null && !(values.get(path) instanceof ConfigurationSection)
+                && !(value instanceof ConfigurationSection) && hasParent(values, path);
+        super.set(path, value);
+        if (!leaf) flat = null;
+        else if (value == null) values.remove(path);
+        else values.put(path, value);
+    }
+
+    @Override
+    public synchronized ConfigurationSection createSection(String path) {
+        flat = null;
+        return super.createSection(path);
+    }
+
+    @Override
+    public synchronized ConfigurationSection createSection(String path, Map<?, ?> map) {
+        flat = null;
+        return super.createSection(path, map);
+    }
+
+    @Override
+    public void addDefault(String path, Object value) {
+        set(path, value);
+    }
+
+    @Override
+    public void addDefaults(Map<String, Object> defaults) {
+        for (Map.Entry<String, Object> entry : defaults.entrySet()) set(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public void addDefaults(Configuration defaults) {
+        ConfigFormats.copy(defaults, this);
+    }
+
+    /**
+     * Drops the flat map, so it is rebuilt on the next read.
+     */
+    synchronized void invalidate() {
+        flat = null;
+    }
+
+    private synchronized Map<String, Object> rebuild() {
+        Map<String, Object> values = flat;
+        if (values != null) return values;
+        values = new ConcurrentHashMap<>(getValues(true));
+        flat = values;
+        return values;
+    }
+
+    /**
+     * Checks whether the parent section of {@link String} path is in {@link Map} values, so setting the path creates no
+     * section.
+     */
+    private boolean hasParent(Map<String, Object> values, String path) {
+        int end = path.lastIndexOf(options().pathSeparator());
+        return end < 0 || values.get(path.substring(0, end)) instanceof ConfigurationSection;
+    }
+}
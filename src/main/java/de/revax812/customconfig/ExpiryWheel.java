@@ -0,0 +1,361 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:20
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Tracks the paths of a config that expire, see {@link Config#set(String, Object, java.time.Duration)}.<br>
+ * The paths are kept in a hierarchical timing wheel with {@link #LEVELS} levels of {@link #SLOTS} slots. A slot of
+ * the lowest level covers one tick of {@link #TICK} milliseconds, a slot of every higher level covers a whole turn of
+ * the level below. Scheduling and cancelling a path costs the same for any number of paths, and every tick only looks
+ * at the paths that are due, instead of scanning the whole config. Paths expiring further in the future than the
+ * wheel reaches are parked in the last slot and scheduled again when it is reached. The wheel only ticks while paths are
+ * scheduled.<br>
+ * The expiry times are saved as milliseconds since the epoch in the file <code>name.ttl</code> next to the config
+ * file, so they survive restarts.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class ExpiryWheel {
+
+    /**
+     * The final {@link String} extension of the expiry file
+     */
+    static final String EXTENSION = ".ttl";
+    /**
+     * The final {@link Long} length of a tick in milliseconds
+     */
+    static final long TICK = 100;
+    /**
+     * The final {@link Integer} number of levels
+     */
+    static final int LEVELS = 4;
+    /**
+     * The final {@link Integer} number of slots per level, a power of two
+     */
+    static final int SLOTS = 64;
+
+    /**
+     * The final {@link Integer} number of bits of a slot index
+     */
+    private static final int BITS = Integer.numberOfTrailingZeros(SLOTS);
+    /**
+     * The final {@link Long} number of ticks the wheel reaches
+     */
+    private static final long SPAN = 1L << (BITS * LEVELS);
+
+    /**
+     * The final {@link File} expiry file
+     */
+    private final File expiryFile;
+    /**
+     * The final {@link Map} of paths and their entries
+     */
+    private final Map<String, Entry> entries = new HashMap<>();
+    /**
+     * The final {@link List} of listeners called for every expired path
+     */
+    private final List<BiConsumer<String, Object>> listeners = new CopyOnWriteArrayList<>();
+    /**
+     * The private volatile {@link Entry} slots of every level, null until the first path is scheduled
+     */
+    private volatile Entry[][] slots;
+    /**
+     * The private {@link List} of entries that were already due when they were scheduled
+     */
+    private List<Entry> due = new ArrayList<>();
+    /**
+     * The private {@link Long} tick the wheel has reached
+     */
+    private long currentTick;
+    /**
+     * The private {@link Boolean} dirty, true if the expiry file is outdated
+     */
+    private boolean dirty;
+    /**
+     * The private {@link ScheduledFuture} task advancing the wheel, null if none is scheduled
+     */
+    private ScheduledFuture<?> task;
+
+    /**
+     * Creates a new {@link ExpiryWheel} wheel for {@link File} file.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} config file
+     */
+    ExpiryWheel(File file) {
+        this.expiryFile = new File(file.getPath() + EXTENSION);
+    }
+
+    /**
+     * Schedules {@link String} path to expire at {@link Long} deadline, replacing an earlier expiry of the path.
+     * <br><br>
+     *
+     * @param path      represents the {@link String} path that should expire<br>
+     * @param deadline  represents the {@link Long} time in milliseconds since the epoch<br>
+     * @param tick      represents the {@link Runnable} tick started if the wheel is not running yet
+     */
+    synchronized void schedule(String path, long deadline, Runnable tick) {
+        if (slots == null) slots = new Entry[LEVELS][SLOTS];
+        // an empty wheel does not tick, so it starts again from now
+        if (entries.isEmpty()) currentTick = System.currentTimeMillis() / TICK;
+        Entry entry = entries.remove(path);
+        if (entry != null) unlink(entry);
+        entry = new Entry(path, deadline);
+        entries.put(path, entry);
+        insert(entry);
+        dirty = true;
+        start(tick);
+    }
+
+    /**
+     * Cancels the expiry of {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that should not expire anymore
+     */
+    void cancel(String path) {
+        if (slots == null) return;
+        synchronized (this) {
+            Entry entry = entries.remove(path);
+            if (entry == null) return;
+            unlink(entry);
+            dirty = true;
+            if (entries.isEmpty()) cancel();
+        }
+    }
+
+    /**
+     * Gets the expiry time of {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path<br>
+     * @return      the {@link Long} time in milliseconds since the epoch, null if the path does not expire
+     */
+    synchronized Long getDeadline(String path) {
+        Entry entry = entries.get(path);
+        return entry == null ? null : entry.deadline;
+    }
+
+    /**
+     * Advances the wheel to {@link Long} now and removes the paths that are due.
+     * <br><br>
+     *
+     * @param now  represents the {@link Long} current time in milliseconds since the epoch<br>
+     * @return     the {@link List} of expired paths
+     */
+    synchronized List<String> advance(long now) {
+        if (slots == null) return Collections.emptyList();
+        long nowTick = now / TICK;
+        List<Entry> expired = due;
+        due = new ArrayList<>();
+
+        if (nowTick - currentTick >= SPAN) {
+            // the clock jumped further than the wheel reaches, so every path is placed again
+            List<Entry> all = new ArrayList<>(entries.values());
+            expired.clear();
+            slots = new Entry[LEVELS][SLOTS];
+            currentTick = nowTick;
+            for (Entry entry : all) {
+                entry.next = entry.prev = null;
+                insert(entry);
+            }
+            expired.addAll(due);
+            due.clear();
+        }
+
+        while (currentTick < nowTick) {
+            currentTick++;
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) break;
+                Entry entry = detach(level, (int) (currentTick >>> (BITS * level)) & (SLOTS - 1));
+                while (entry != null) {
+                    Entry next = entry.next;
+                    entry.next = entry.prev = null;
+                    insert(entry);
+                    entry = next;
+                }
+            }
+            Entry entry = detach(0, (int) currentTick & (SLOTS - 1));
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = entry.prev = null;
+                if (entry.deadline / TICK <= currentTick) expired.add(entry);
+                else insert(entry);
+                entry = next;
+            }
+            expired.addAll(due);
+            due.clear();
+        }
+
+        if (expired.isEmpty()) return Collections.emptyList();
+        List<String> paths = new ArrayList<>(expired.size());
+        for (Entry entry : expired) {
+            entries.remove(entry.path);
+            paths.add(entry.path);
+        }
+        dirty = true;
+        if (entries.isEmpty()) cancel();
+        return paths;
+    }
+
+    /**
+     * Reads the expiry file, replacing every scheduled path.
+     * <br><br>
+     *
+     * @param tick  represents the {@link Runnable} tick started if paths were read
+     * @throws IOException  if the file could not be read
+     */
+    synchronized void load(Runnable tick) throws IOException {
+        entries.clear();
+        slots = null;
+        due.clear();
+        dirty = false;
+        cancel();
+        if (!expiryFile.isFile()) return;
+
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(expiryFile)) {
+            properties.load(in);
+        }
+        for (String path : properties.stringPropertyNames()) {
+            try {
+                schedule(path, Long.parseLong(properties.getProperty(path)), tick);
+            } catch (NumberFormatException e) {
+                e.printStackTrace();
+            }
+        }
+        dirty = false;
+    }
+
+    /**
+     * Writes the expiry file if it is outdated, deleting it if no path expires.
+     * <br><br>
+     *
+     * @throws IOException  if the file could not be written
+     */
+    synchronized void store() throws IOException {
+        if (!dirty) return;
+        dirty = false;
+        if (entries.isEmpty()) {
+            if (expiryFile.exists() && !expiryFile.delete()) throw new IOException("Could not delete " + expiryFile);
+            return;
+        }
+        Properties properties = new Properties();
+        for (Entry entry : entries.values()) properties.setProperty(entry.path, Long.toString(entry.deadline));
+        try (OutputStream out = new FileOutputStream(expiryFile)) {
+            properties.store(out, "CustomConfig expiry times");
+        }
+    }
+
+    /**
+     * Gets the {@link List} of listeners called for every expired path with the path and its last value.
+     * <br><br>
+     *
+     * @return  the {@link List} of listeners
+     */
+    List<BiConsumer<String, Object>> getListeners() {
+        return listeners;
+    }
+
+    /**
+     * Stops advancing the wheel, until the next path is scheduled.
+     */
+    synchronized void cancel() {
+        if (task == null) return;
+        task.cancel(false);
+        task = null;
+    }
+
+    private void start(Runnable tick) {
+        if (task != null) return;
+        task = ConfigExecutors.scheduler().scheduleWithFixedDelay(tick, TICK, TICK, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds {@link Entry} entry to the slot of its expiry time, or to the due entries.
+     */
+    private void insert(Entry entry) {
+        long deadlineTick = entry.deadline / TICK;
+        long ticks = deadlineTick - currentTick;
+        if (ticks <= 0) {
+            entry.level = -1;
+            due.add(entry);
+            return;
+        }
+        if (ticks >= SPAN) deadlineTick = currentTick + SPAN - 1;
+        ticks = deadlineTick - currentTick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && ticks >= 1L << (BITS * (level + 1))) level++;
+        int slot = (int) (deadlineTick >>> (BITS * level)) & (SLOTS - 1);
+        entry.level = level;
+        entry.slot = slot;
+        Entry head = slots[level][slot];
+        entry.next = head;
+        if (head != null) head.prev = entry;
+        slots[level][slot] = entry;
+    }
+
+    /**
+     * Removes {@link Entry} entry from its slot.
+     */
+    private void unlink(Entry entry) {
+        if (entry.level < 0) {
+            due.remove(entry);
+            return;
+        }
+        if (entry.prev != null) entry.prev.next = entry.next;
+        else slots[entry.level][entry.slot] = entry.next;
+        if (entry.next != null) entry.next.prev = entry.prev;
+        entry.next = entry.prev = null;
+    }
+
+    /**
+     * Empties a slot.
+     *
+     * @return  the first {@link Entry} entry of the slot, the others are linked by {@link Entry#next}
+     */
+    private Entry detach(int level, int slot) {
+        Entry head = slots[level][slot];
+        slots[level][slot] = null;
+        return head;
+    }
+
+    /**
+     * A path with its expiry time, linked with the other paths of its slot.
+     */
+    private static final class Entry {
+
+        private final String path;
+        private final long deadline;
+        private int level;
+        private int slot;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(String path, long deadline) {
+            this.path = path;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Synchronizes a config file between several processes.<br>
+ * Every access locks the lock file <code>name.lock</code> next to the config file with {@link FileChannel#lock()}.
+ * The lock file also holds a version stamp which is increased by every save, so a process detects changes of other
+ * processes by reading eight bytes instead of the whole file.<br>
+ * When the file was changed by another process since it was read, saving merges both sides path by path against
+ * the values of the last read. Paths only changed by one side keep that change, paths changed by both sides get the
+ * local value. A section removed or replaced by the other side is kept if values below it were set locally.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class FileSync implements Closeable {
+
+    /**
+     * The final {@link String} extension of the lock file
+     */
+    static final String LOCK_EXTENSION = ".lock";
+    /**
+     * The final {@link Object} marker for sections in snapshots
+     */
+    private static final Object SECTION = new Object();
+
+    /**
+     * The final {@link File} config file
+     */
+    private final File file;
+    /**
+     * The final {@link ConfigFormat} format of the file
+     */
+    private final ConfigFormat format;
+    /**
+     * The final {@link FileChannel} channel of the lock file
+     */
+    private final FileChannel channel;
+    /**
+     * The final {@link ByteBuffer} buffer for the version stamp
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+    /**
+     * The private {@link Long} version of the last read or write
+     */
+    private long version = -1;
+    /**
+     * The private {@link Map} of paths and values at the last read or write
+     */
+    private Map<String, Object> base = Collections.emptyMap();
+
+    /**
+     * Creates a new {@link FileSync} sync for {@link File} file in {@link ConfigFormat} format.
+     * <br><br>
+     *
+     * @param file    represents the {@link File} file of the config<br>
+     * @param format  represents the {@link ConfigFormat} format of the file
+     * @throws IOException  if the lock file could not be opened
+     */
+    FileSync(File file, ConfigFormat format) throws IOException {
+        this.file = file;
+        this.format = format;
+        this.channel = FileChannel.open(new File(file.getPath() + LOCK_EXTENSION).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Gets the {@link Long} version of the last read or write.
+     * <br><br>
+     *
+     * @return  the {@link Long} version
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks whether {@link File} other is the synchronized file.
+     */
+    boolean isFor(File other) {
+        try {
+            return file.equals(other.getCanonicalFile());
+        } catch (IOException e) {
+            return file.equals(other.getAbsoluteFile());
+        }
+    }
+
+    /**
+     * Reads the file into the {@link YamlConfiguration} config, replacing all its values.
+     * <br><br>
+     *
+     * @param config  represents the {@link YamlConfiguration} config that should be filled
+     * @throws IOException                    if the file could not be read
+     * @throws InvalidConfigurationException  if the file is not valid
+     */
+    void load(YamlConfiguration config) throws IOException, InvalidConfigurationException {
+        try (FileLock ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+            format.load(config, file);
+            version = readVersion();
+            base = snapshot(config);
+        }
+    }
+
+    /**
+     * Takes over the changes of other processes if the version stamp changed since the last read or write.<br>
+     * Local changes that were not saved yet are kept. The file is read without holding the monitor of
+     * {@link PathVersions} versions, only the merge holds it and increases every version.
+     * <br><br>
+     *
+     * @param config    represents the {@link YamlConfiguration} config that should be updated<br>
+     * @param versions  represents the {@link PathVersions} versions of the config, whose monitor guards it<br>
+     * @return          true if the file was changed by another process
+     * @throws IOException                    if the file could not be read
+     * @throws InvalidConfigurationException  if the file is not valid
+     */
+    boolean refresh(YamlConfiguration config, PathVersions versions) throws IOException, InvalidConfigurationException {
+        try (FileLock ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+            long current = readVersion();
+            if (current == version) return false;
+            Map<String, Object> theirs = read();
+            synchronized (versions) {
+                merge(config, theirs);
+                versions.incrementAll();
+            }
+            version = current;
+            base = theirs;
+            return true;
+        }
+    }
+
+    /**
+     * Writes the {@link YamlConfiguration} config to the file and increases the version stamp.<br>
+     * If another process saved since the last read or write, its changes are merged into the config first. Only the
+     * merge and taking the copy that is written hold the monitor of {@link PathVersions} versions, reading and
+     * writing the file do not.
+     * <br><br>
+     *
+     * @param config    represents the {@link YamlConfiguration} config that should be written<br>
+     * @param versions  represents the {@link PathVersions} versions of the config, whose monitor guards it<br>
+     * @return          true if changes of another process were merged into the config
+     * @throws IOException                    if the file could not be written
+     * @throws InvalidConfigurationException  if the file of another process is not valid
+     */
+    boolean save(YamlConfiguration config, PathVersions versions) throws IOException, InvalidConfigurationException {
+        try (FileLock ignored = channel.lock()) {
+            long current = readVersion();
+            boolean merged = current != version;
+            Map<String, Object> theirs = merged ? read() : null;
+            YamlConfiguration written;
+            synchronized (versions) {
+                if (merged) {
+                    merge(config, theirs);
+                    versions.incrementAll();
+                }
+                written = ConfigFormats.snapshot(config);
+            }
+            // the stamp goes first, if the process dies while writing the file the others still read it again
+            writeVersion(current + 1);
+            format.save(written, file);
+            version = current + 1;
+            base = snapshot(written);
+            return merged;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Applies every path that was changed by the other side but not locally to the {@link YamlConfiguration} config.
+     * Parents are visited before their children.
+     */
+    private void merge(YamlConfiguration config, Map<String, Object> theirs) {
+        Map<String, Object> mine = snapshot(config);
+        SortedSet<String> paths = new TreeSet<>(base.keySet());
+        paths.addAll(mine.keySet());
+        paths.addAll(theirs.keySet());
+        // the paths set locally, a section holding one of them is not removed or replaced
+        NavigableSet<String> local = new TreeSet<>();
+        for (Map.Entry<String, Object> entry : mine.entrySet()) {
+            if (!Objects.equals(entry.getValue(), base.get(entry.getKey()))) local.add(entry.getKey());
+        }
+        char separator = config.options().pathSeparator();
+
+        for (String path : paths) {
+            Object original = base.get(path);
+            Object their = theirs.get(path);
+            if (!Objects.equals(mine.get(path), original) || Objects.equals(their, original)) continue;
+            if (original == SECTION && their != SECTION) {
+                String below = local.ceiling(path + separator);
+                // the children are merged one by one instead
+                if (below != null && below.startsWith(path + separator)) continue;
+            }
+
+            if (their == null) {
+                if (config.contains(path)) config.set(path, null);
+            } else if (their == SECTION) {
+                if (!config.isConfigurationSection(path)) config.createSection(path);
+            } else {
+                config.set(path, their);
+            }
+        }
+    }
+
+    /**
+     * Reads the file into a new snapshot.
+     */
+    private Map<String, Object> read() throws IOException, InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        if (file.length() > 0) format.load(config, file);
+        return snapshot(config);
+    }
+
+    /**
+     * Gets every path of {@link ConfigurationSection} section with its value, sections are replaced by a marker and
+     * lists are copied.
+     */
+    private static Map<String, Object> snapshot(ConfigurationSection section) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<String, Object> entry : section.getValues(true).entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof ConfigurationSection) value = SECTION;
+            else if (value instanceof List) value = new ArrayList<>((List<?>) value);
+            values.put(entry.getKey(), value);
+        }
+        return values;
+    }
+
+    private long readVersion() throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) return 0;
+        }
+        buffer.flip();
+        return buffer.getLong();
+    }
+
+    private void writeVersion(long version) throws IOException {
+        buffer.clear();
+        buffer.putLong(version).flip();
+        while (buffer.hasRemaining()) channel.write(buffer, buffer.position());
+        channel.force(false);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 09:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A {@link ConfigFormat} format which stores the config as JSON.<br>
+ * Reading and writing is streamed through Gson's {@link JsonReader} and {@link JsonWriter}, so no intermediate
+ * document tree is built.<br>
+ * {@link ConfigurationSerializable} values are written as objects carrying the
+ * {@link ConfigurationSerialization#SERIALIZED_TYPE_KEY} like in YAML.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class JsonFormat implements ConfigFormat {
+
+    /**
+     * The final {@link List<String>} extensions
+     */
+    private static final List<String> EXTENSIONS = Collections.singletonList("json");
+
+    @Override
+    public String getName() {
+        return "json";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+        ConfigFormats.clear(config);
+        PushbackReader reader = new PushbackReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        int c;
+        do {
+            c = reader.read();
+        } while (c != -1 && Character.isWhitespace(c));
+        if (c == -1) return;
+        reader.unread(c);
+
+        JsonReader json = new JsonReader(reader);
+        json.setLenient(true);
+        try {
+            if (json.peek() != JsonToken.BEGIN_OBJECT) throw new InvalidConfigurationException("Top level is not an object");
+            json.beginObject();
+            readSection(json, config);
+            json.endObject();
+        } catch (IllegalStateException | NumberFormatException | MalformedJsonException | EOFException e) {
+            throw new InvalidConfigurationException(e);
+        }
+    }
+
+    @Override
+    public void save(YamlConfiguration config, OutputStream out) throws IOException {
+        JsonWriter json = new JsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        json.setLenient(true);
+        json.setIndent(indentOf(config.options().indent()));
+        writeSection(json, config);
+        json.flush();
+    }
+
+    /**
+     * Reads all remaining members of the current object into {@link ConfigurationSection} section.
+     */
+    private void readSection(JsonReader json, ConfigurationSection section) throws IOException {
+        while (json.hasNext()) readEntry(json, section, json.nextName());
+    }
+
+    /**
+     * Reads one member value and stores it as {@link String} key in {@link ConfigurationSection} section.<br>
+     * Objects become sections unless their first member is the serialized type key.
+     */
+    private void readEntry(JsonReader json, ConfigurationSection section, String key) throws IOException {
+        if (json.peek() != JsonToken.BEGIN_OBJECT) {
+            section.set(key, readValue(json));
+            return;
+        }
+        json.beginObject();
+        if (!json.hasNext()) {
+            json.endObject();
+            section.createSection(key);
+            return;
+        }
+        String first = json.nextName();
+        if (ConfigurationSerialization.SERIALIZED_TYPE_KEY.equals(first)) {
+            section.set(key, readObject(json, first));
+            return;
+        }
+        ConfigurationSection child = section.createSection(key);
+        readEntry(json, child, first);
+        readSection(json, child);
+        json.endObject();
+    }
+
+    /**
+     * Reads the remaining members of an object whose {@link String} first name was already consumed.
+     */
+    private Object readObject(JsonReader json, String first) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(first, readValue(json));
+        while (json.hasNext()) map.put(json.nextName(), readValue(json));
+        json.endObject();
+        return ConfigFormats.deserialize(map);
+    }
+
+    private Object readValue(JsonReader json) throws IOException {
+        switch (json.peek()) {
+            case BEGIN_OBJECT:
+                json.beginObject();
+                if (!json.hasNext()) {
+                    json.endObject();
+                    return new LinkedHashMap<String, Object>();
+                }
+                return readObject(json, json.nextName());
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                json.beginArray();
+                while (json.hasNext()) list.add(readValue(json));
+                json.endArray();
+                return list;
+            case NUMBER:
+                return parseNumber(json.nextString());
+            case BOOLEAN:
+                return json.nextBoolean();
+            case NULL:
+                json.nextNull();
+                return null;
+            default:
+                return json.nextString();
+        }
+    }
+
+    /**
+     * Parses a JSON number the way the YAML constructor would type it: {@link Integer} if it fits,
+     * {@link Long} or {@link BigInteger} otherwise and {@link Double} for fractions.
+     */
+    private Number parseNumber(String number) {
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E' || c == 'N' || c == 'I') return Double.valueOf(number);
+        }
+        try {
+            long value = Long.parseLong(number);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) return (int) value;
+            return value;
+        } catch (NumberFormatException e) {
+            return new BigInteger(number);
+        }
+    }
+
+    private void writeSection(JsonWriter json, ConfigurationSection section) throws IOException {
+        json.beginObject();
+        for (Map.Entry<String, Object> entry : section.getValues(false).entrySet()) {
+            json.name(entry.getKey());
+            writeValue(json, entry.getValue());
+        }
+        json.endObject();
+    }
+
+    private void writeValue(JsonWriter json, Object value) throws IOException {
+        if (value == null) {
+            json.nullValue();
+        } else if (value instanceof ConfigurationSection) {
+            writeSection(json, (ConfigurationSection) value);
+        } else if (value instanceof ConfigurationSerializable) {
+            ConfigurationSerializable serializable = (ConfigurationSerializable) value;
+            json.beginObject();
+            json.name(ConfigurationSerialization.SERIALIZED_TYPE_KEY);
+            json.value(ConfigurationSerialization.getAlias(serializable.getClass()));
+            for (Map.Entry<String, Object> entry : serializable.serialize().entrySet()) {
+                json.name(entry.getKey());
+                writeValue(json, entry.getValue());
+            }
+            json.endObject();
+        } else if (value instanceof Map) {
+            json.beginObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                json.name(String.valueOf(entry.getKey()));
+                writeValue(json, entry.getValue());
+            }
+            json.endObject();
+        } else if (value instanceof Collection) {
+            json.beginArray();
+            for (Object element : (Collection<?>) value) writeValue(json, element);
+            json.endArray();
+        } else if (value instanceof Boolean) {
+            json.value((Boolean) value);
+        } else if (value instanceof Double) {
+            json.value((double) (Double) value);
+        } else if (value instanceof Number) {
+            json.value((Number) value);
+        } else {
+            json.value(String.valueOf(value));
+        }
+    }
+
+    private String indentOf(int indent) {
+        char[] spaces = new char[Math.max(0, indent)];
+        Arrays.fill(spaces, ' ');
+        return new String(spaces);
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:00
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A read-only view of several {@link Config} configs stacked as layers, like a global config, a per-world config and
+ * a per-server config.<br>
+ * Later layers override earlier ones: a value of a later layer replaces the value at the same path of every earlier
+ * layer, a value replaces a whole section and a section replaces a value. The merged values are kept in one map, so
+ * reading a path is a single lookup no matter how many layers there are.<br>
+ * The view follows the changes of its layers. A change of a layer only marks its path, which is merged again on the
+ * next read, a reload of a layer merges everything again. Changes made directly on a {@link ConfigurationSection}
+ * section of a layer are not seen.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class LayeredConfig implements Closeable {
+
+    /**
+     * The final {@link Config} layers, from the lowest to the highest
+     */
+    private final Config[] layers;
+    /**
+     * The final {@link ChangeListener} listeners registered on the layers
+     */
+    private final ChangeListener[] listeners;
+    /**
+     * The final {@link Character} path separator
+     */
+    private final char separator;
+    /**
+     * The final {@link Map} of the merged paths and their values
+     */
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+    /**
+     * The final {@link NavigableSet} merged paths in order, guarded by the view
+     */
+    private final NavigableSet<String> paths = new TreeSet<>();
+    /**
+     * The final {@link Set} of paths that have to be merged again, guarded by itself
+     */
+    private final Set<String> pending = new HashSet<>();
+    /**
+     * The private volatile {@link Boolean} dirty, true if there are pending paths
+     */
+    private volatile boolean dirty = true;
+
+    private LayeredConfig(Config[] layers) {
+        this.layers = layers;
+        this.listeners = new ChangeListener[layers.length];
+        this.separator = layers[0].getPathSeparator();
+        pending.add("");
+        for (int i = 0; i < layers.length; i++) {
+            listeners[i] = new ChangeListener() {
+                @Override
+                public void changed(String path, char separator) {
+                    invalidate(path);
+                }
+
+                @Override
+                public void changedAll() {
+                    invalidate("");
+                }
+            };
+            layers[i].getHandle().getVersions().addListener(listeners[i]);
+        }
+    }
+
+    /**
+     * Creates a new {@link LayeredConfig} view of {@link Config} layers.
+     * <br><br>
+     *
+     * @param layers  represents the {@link Config} layers, from the lowest to the highest<br>
+     * @return        the {@link LayeredConfig} view
+     * @throws IllegalArgumentException  if no layer is given or the layers use different path separators
+     */
+    public static LayeredConfig of(Config... layers) {
+        if (layers.length == 0) throw new IllegalArgumentException("No layers");
+        for (Config layer : layers) {
+            if (layer.getPathSeparator() != layers[0].getPathSeparator()) throw new IllegalArgumentException("The layers use different path separators");
+        }
+        return new LayeredConfig(layers.clone());
+    }
+
+    /**
+     * Gets the {@link List<Config>} layers of the view.
+     * <br><br>
+     *
+     * @return  the {@link List<Config>} layers, from the lowest to the highest
+     */
+    public List<Config> getLayers() {
+        return Collections.unmodifiableList(Arrays.asList(layers));
+    }
+
+    /**
+     * Gets the requested {@link Object} object by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Object} value of the highest layer containing the path, null for sections and missing paths
+     */
+    public Object get(String path) {
+        if (dirty) merge();
+        return values.get(path);
+    }
+
+    /**
+     * Gets the requested {@link Object} object by {@link String} path, returning a default value if not found.
+     * <br><br>
+     *
+     * @param path   represents the {@link String} path that is selected as config path<br>
+     * @param value  represents the {@link Object} value that is returned by default<br>
+     * @return       the {@link Object} object
+     */
+    public Object get(String path, Object value) {
+        Object found = get(path);
+        return found == null ? value : found;
+    }
+
+    /**
+     * Checks if the view contains a value or section at {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      true if the path exists in one of the layers
+     */
+    public Boolean contains(String path) {
+        if (get(path) != null) return true;
+        synchronized (this) {
+            String below = paths.ceiling(path + separator);
+            return below != null && below.startsWith(path + separator);
+        }
+    }
+
+    /**
+     * Gets the requested {@link String} string by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link String} string
+     */
+    public String getString(String path) {
+        Object value = get(path);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Gets the requested {@link Integer} integer by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Integer} integer
+     */
+    public Integer getInt(String path) {
+        Object value = get(path);
+        return value instanceof Number ? (Integer) ((Number) value).intValue() : null;
+    }
+
+    /**
+     * Gets the requested {@link Long} long by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Long} long
+     */
+    public Long getLong(String path) {
+        Object value = get(path);
+        return value instanceof Number ? (Long) ((Number) value).longValue() : null;
+    }
+
+    /**
+     * Gets the requested {@link Double} double by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Double} double
+     */
+    public Double getDouble(String path) {
+        Object value = get(path);
+        return value instanceof Number ? (Double) ((Number) value).doubleValue() : null;
+    }
+
+    /**
+     * Gets the requested {@link Boolean} boolean by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link Boolean} boolean
+     */
+    public Boolean getBoolean(String path) {
+        Object value = get(path);
+        return value instanceof Boolean ? (Boolean) value : null;
+    }
+
+    /**
+     * Gets the requested {@link List} list by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link List} list
+     */
+    public List<?> getList(String path) {
+        Object value = get(path);
+        return value instanceof List ? (List<?>) value : null;
+    }
+
+    /**
+     * Gets the requested {@link List<String>} string list by {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path that is selected as config path<br>
+     * @return      the {@link List<String>} string list
+     */
+    public List<String> getStringList(String path) {
+        List<?> list = getList(path);
+        if (list == null) return null;
+        List<String> strings = new ArrayList<>(list.size());
+        for (Object element : list) if (element != null) strings.add(element.toString());
+        return strings;
+    }
+
+    /**
+     * Gets the {@link Set<String>} keys of the section at {@link String} path, merged over all layers.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path of the section, empty for the whole view<br>
+     * @return      the {@link Set<String>} keys of the direct children in ascending order
+     */
+    public Set<String> getKeys(String path) {
+        if (dirty) merge();
+        Set<String> keys = new LinkedHashSet<>();
+        String start = path.isEmpty() ? "" : path + separator;
+        synchronized (this) {
+            for (String merged : paths.tailSet(start, true)) {
+                if (!merged.startsWith(start)) break;
+                int end = merged.indexOf(separator, start.length());
+                keys.add(merged.substring(start.length(), end < 0 ? merged.length() : end));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Stops following the changes of the layers.
+     * <br><br>
+     * The layers themselves are not closed.<br>
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < layers.length; i++) layers[i].getHandle().getVersions().removeListener(listeners[i]);
+    }
+
+    /**
+     * Marks {@link String} path to be merged again.
+     */
+    private void invalidate(String path) {
+        synchronized (pending) {
+            pending.add(path);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Merges the pending paths again.
+     */
+    private synchronized void merge() {
+        Set<String> changed;
+        synchronized (pending) {
+            if (!dirty) return;
+            changed = new HashSet<>(pending);
+            pending.clear();
+        }
+        if (changed.contains("")) mergeBelow("");
+        else for (String path : changed) mergeBelow(scope(path));
+        synchronized (pending) {
+            dirty = !pending.isEmpty();
+        }
+    }
+
+    /**
+     * Gets the path that has to be merged again if {@link String} path changed: the path itself, or its highest parent
+     * that holds a value in a layer or in the view, as the change can turn that value into a section or back.
+     */
+    private String scope(String path) {
+        int end = path.indexOf(separator);
+        while (end > 0) {
+            String parent = path.substring(0, end);
+            if (values.containsKey(parent)) return parent;
+            for (Config layer : layers) {
+                Object value = layer.getHandle().getConfig().get(parent, null);
+                if (value != null && !(value instanceof ConfigurationSection)) return parent;
+            }
+            end = path.indexOf(separator, end + 1);
+        }
+        return path;
+    }
+
+    /**
+     * Merges {@link String} path and every path below it again, layer by layer.<br>
+     * The result is merged aside first and then written over the old values, so a concurrent read of a path that
+     * exists before and after sees either value, never none.
+     */
+    private void mergeBelow(String path) {
+        String start = path + separator;
+        NavigableMap<String, Object> merged = new TreeMap<>();
+        for (Config layer : layers) {
+            ConfigRegistry.Handle handle = layer.getHandle();
+            Map<String, Object> leaves = new LinkedHashMap<>();
+            synchronized (handle.getVersions()) {
+                Object node = path.isEmpty() ? handle.getConfig() : handle.getConfig().get(path, null);
+                if (node instanceof ConfigurationSection) {
+                    for (Map.Entry<String, Object> entry : ((ConfigurationSection) node).getValues(true).entrySet()) {
+                        if (entry.getValue() instanceof ConfigurationSection) continue;
+                        leaves.put(path.isEmpty() ? entry.getKey() : start + entry.getKey(), entry.getValue());
+                    }
+                } else if (node != null) {
+                    leaves.put(path, node);
+                }
+            }
+            for (Map.Entry<String, Object> leaf : leaves.entrySet()) put(merged, leaf.getKey(), leaf.getValue());
+        }
+
+        for (Map.Entry<String, Object> entry : merged.entrySet()) {
+            values.put(entry.getKey(), entry.getValue());
+            paths.add(entry.getKey());
+        }
+        // siblings like "a-b" sort between "a" and "a.b", so the path itself and the paths below it are removed apart
+        if (!path.isEmpty() && !merged.containsKey(path) && paths.remove(path)) values.remove(path);
+        Iterator<String> old = (path.isEmpty() ? paths : paths.subSet(start, true, start + Character.MAX_VALUE, true)).iterator();
+        while (old.hasNext()) {
+            String oldPath = old.next();
+            if (merged.containsKey(oldPath)) continue;
+            values.remove(oldPath);
+            old.remove();
+        }
+    }
+
+    /**
+     * Puts {@link Object} value at {@link String} path of {@link NavigableMap} merged, replacing the values below it and
+     * the values of its parents.
+     */
+    private void put(NavigableMap<String, Object> merged, String path, Object value) {
+        String start = path + separator;
+        merged.subMap(start, true, start + Character.MAX_VALUE, true).clear();
+        int end = path.indexOf(separator);
+        while (end > 0) {
+            merged.remove(path.substring(0, end));
+            end = path.indexOf(separator, end + 1);
+        }
+        merged.put(path, value);
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 20:45
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Records list changes of a config in the journal file <code>name.journal</code> next to the config file.<br>
+ * Appending to a list then costs one small record instead of writing the whole file. The journal starts with the size
+ * and modification time of the config file it belongs to and is replayed after that file is loaded. A full save of
+ * the config deletes the journal, a journal left over from an older version of the file is ignored.<br>
+ * Every record is stored as <code>[int length][int crc32][payload]</code>, a torn record at the end is skipped.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class ListJournal implements Closeable {
+
+    /**
+     * The final {@link String} extension of the journal file
+     */
+    static final String EXTENSION = ".journal";
+    /**
+     * The final {@link Byte} operations of the records
+     */
+    static final byte APPEND = 1, REMOVE = 2, INSERT = 3, TRIM = 4;
+
+    /**
+     * The final {@link Byte} magic bytes at the start of the journal
+     */
+    private static final byte[] MAGIC = {'C', 'C', 'L', 'J'};
+    /**
+     * The final {@link Integer} version of the journal layout
+     */
+    private static final int VERSION = 1;
+    /**
+     * The final {@link Long} size up to which the journal may grow regardless of the size of the config file
+     */
+    private static final long MIN_COMPACT_SIZE = 64 * 1024;
+
+    /**
+     * The final {@link File} config file
+     */
+    private final File file;
+    /**
+     * The final {@link File} journal file
+     */
+    private final File journalFile;
+    /**
+     * The final {@link ByteArrayOutputStream} buffer of the record that is written
+     */
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    /**
+     * The private {@link DataOutputStream} out of the journal file, null if it is not open
+     */
+    private DataOutputStream out;
+    /**
+     * The private {@link Long} size of the journal file
+     */
+    private long size;
+
+    /**
+     * Creates a new {@link ListJournal} journal for {@link File} file.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} config file
+     */
+    ListJournal(File file) {
+        this.file = file;
+        this.journalFile = new File(file.getPath() + EXTENSION);
+    }
+
+    /**
+     * Applies the list operation to {@link ConfigurationSection} config, changing the stored list in place.<br>
+     * A path without list becomes a new list for {@link #APPEND} and {@link #INSERT}.
+     * <br><br>
+     *
+     * @param config  represents the {@link ConfigurationSection} config that should be changed<br>
+     * @param op      represents the {@link Byte} operation<br>
+     * @param path    represents the {@link String} path of the list<br>
+     * @param index   represents the {@link Integer} index of an insert or the maximum size of a trim<br>
+     * @param value   represents the {@link Object} value that should be added or removed<br>
+     * @return        true if the list was changed
+     */
+    @SuppressWarnings("unchecked")
+    static boolean apply(ConfigurationSection config, byte op, String path, int index, Object value) {
+        Object current = config.get(path, null);
+        if (!(current instanceof List) && (op == REMOVE || op == TRIM)) return false;
+
+        List<Object> list;
+        if (current instanceof ArrayList) {
+            list = (List<Object>) current;
+        } else {
+            list = current instanceof List ? new ArrayList<>((List<Object>) current) : new ArrayList<>();
+            if (!(config instanceof PathConfiguration)) config.set(path, list);
+        }
+
+        boolean changed;
+        switch (op) {
+            case APPEND:
+                changed = list.add(value);
+                break;
+            case REMOVE:
+                changed = list.remove(value);
+                break;
+            case INSERT:
+                list.add(index, value);
+                changed = true;
+                break;
+            case TRIM:
+                int excess = list.size() - index;
+                changed = excess > 0;
+                if (changed) list.subList(0, excess).clear();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown list operation " + op);
+        }
+        if (changed && config instanceof PathConfiguration) config.set(path, list);
+        return changed;
+    }
+
+    /**
+     * Appends a record of the list operation to the journal.
+     * <br><br>
+     *
+     * @param op     represents the {@link Byte} operation<br>
+     * @param path   represents the {@link String} path of the list<br>
+     * @param index  represents the {@link Integer} index of an insert or the maximum size of a trim<br>
+     * @param value  represents the {@link Object} value that was added or removed<br>
+     * @return       false if the journal grew too large and the config should be saved completely
+     * @throws IOException  if the journal could not be written
+     */
+    boolean append(byte op, String path, int index, Object value) throws IOException {
+        if (out == null) open();
+
+        record.reset();
+        DataOutputStream payload = new DataOutputStream(record);
+        payload.writeByte(op);
+        BinaryFormat.writeString(payload, path);
+        BinaryFormat.writeVarInt(payload, index);
+        BinaryFormat.writeValue(payload, value);
+
+        CRC32 crc = new CRC32();
+        crc.update(record.toByteArray(), 0, record.size());
+        out.writeInt(record.size());
+        out.writeInt((int) crc.getValue());
+        record.writeTo(out);
+        out.flush();
+        size += 8 + record.size();
+        return size < Math.max(MIN_COMPACT_SIZE, file.length());
+    }
+
+    /**
+     * Applies every record of the journal to {@link ConfigurationSection} config, if the journal belongs to the current
+     * version of the config file.
+     * <br><br>
+     *
+     * @param config  represents the {@link ConfigurationSection} config the file was loaded into<br>
+     * @return        the {@link Integer} number of applied records
+     * @throws IOException  if the journal could not be read
+     */
+    int replay(ConfigurationSection config) throws IOException {
+        if (!journalFile.isFile()) return 0;
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            try {
+                if (!readHeader(in)) return 0;
+            } catch (EOFException e) {
+                return 0;
+            }
+            while (true) {
+                byte[] bytes;
+                try {
+                    int length = in.readInt();
+                    int checksum = in.readInt();
+                    if (length < 0 || length > journalFile.length()) break;
+                    bytes = new byte[length];
+                    in.readFully(bytes);
+                    CRC32 crc = new CRC32();
+                    crc.update(bytes, 0, length);
+                    if ((int) crc.getValue() != checksum) break;
+                } catch (EOFException e) {
+                    break;
+                }
+
+                DataInputStream payload = new DataInputStream(new ByteArrayInputStream(bytes));
+                byte op = payload.readByte();
+                String path = BinaryFormat.readString(payload);
+                int index = BinaryFormat.readVarInt(payload);
+                Object value = BinaryFormat.readValue(payload);
+                try {
+                    apply(config, op, path, index, value);
+                    count++;
+                } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Deletes the journal after the config file was saved completely.
+     * <br><br>
+     *
+     * @throws IOException  if the journal could not be closed
+     */
+    void reset() throws IOException {
+        close();
+        if (journalFile.exists() && !journalFile.delete()) throw new IOException("Could not delete " + journalFile);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out == null) return;
+        out.close();
+        out = null;
+    }
+
+    /**
+     * Opens the journal for appending, starting a new one if there is none for the current config file.
+     */
+    private void open() throws IOException {
+        boolean current = false;
+        if (journalFile.isFile()) {
+            try (DataInputStream in = new DataInputStream(new FileInputStream(journalFile))) {
+                current = readHeader(in);
+            } catch (EOFException e) {
+                current = false;
+            }
+        }
+        if (!current) {
+            try (DataOutputStream header = new DataOutputStream(new FileOutputStream(journalFile))) {
+                header.write(MAGIC);
+                header.writeByte(VERSION);
+                header.writeLong(file.length());
+                header.writeLong(file.lastModified());
+            }
+        }
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalFile, true)));
+        size = journalFile.length();
+    }
+
+    /**
+     * Reads the header of the journal.
+     *
+     * @return  true if the journal belongs to the current version of the config file
+     */
+    private boolean readHeader(DataInputStream in) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC) || in.readUnsignedByte() != VERSION) return false;
+        return in.readLong() == file.length() && in.readLong() == file.lastModified();
+    }
+}
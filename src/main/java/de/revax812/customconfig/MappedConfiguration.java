@@ -0,0 +1,405 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 13:30
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A read-only {@link PathConfiguration} served directly from a memory-mapped index file.<br>
+ * The index is compiled once from a config with {@link #compile(ConfigurationSection, File, long, long)}. It holds
+ * every path sorted by its UTF-8 bytes together with a table of entry offsets, so a value is found by a binary
+ * search in the mapped file and decoded on demand. Apart from the mapping nothing of the config is kept on the
+ * heap.<br>
+ * All setters throw an {@link UnsupportedOperationException}. Index files are limited to 2 GB.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class MappedConfiguration extends PathConfiguration {
+
+    /**
+     * The final magic bytes every index file starts with
+     */
+    private static final byte[] MAGIC = {'C', 'C', 'M', 'P'};
+    /**
+     * The final {@link Byte} version of the file layout
+     */
+    private static final byte VERSION = 1;
+    /**
+     * The final {@link Integer} size of the file header: magic, version, source length, source date and count
+     */
+    private static final int HEADER_SIZE = MAGIC.length + 1 + 8 + 8 + 4;
+    /**
+     * The final {@link Byte} tag marking a section entry
+     */
+    private static final byte SECTION_TAG = 0x7F;
+
+    /**
+     * The final {@link File} index file
+     */
+    private final File file;
+    /**
+     * The private {@link ByteBuffer} mapped index
+     */
+    private ByteBuffer buffer;
+    /**
+     * The private {@link Integer} amount of entries
+     */
+    private int count;
+
+    /**
+     * Creates a new {@link MappedConfiguration} configuration on the index in {@link File} file.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} index file
+     * @throws IOException  if the file could not be mapped or is not an index
+     */
+    public MappedConfiguration(File file) throws IOException {
+        this.file = file;
+        map();
+    }
+
+    /**
+     * Gets the {@link File} index file.
+     * <br><br>
+     *
+     * @return  the {@link File} file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Maps the index file again, for example after it was compiled anew.
+     * <br><br>
+     *
+     * @throws IOException  if the file could not be mapped or is not an index
+     */
+    public void map() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] magic = new byte[MAGIC.length];
+            mapped.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || mapped.get() != VERSION) throw new IOException(file + " is not a config index");
+            mapped.position(HEADER_SIZE - 4);
+            count = mapped.getInt();
+            buffer = mapped;
+        }
+    }
+
+    /**
+     * Gets the {@link Integer} amount of paths in the index.
+     * <br><br>
+     *
+     * @return  the {@link Integer} size
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Checks if the index in {@link File} file was compiled from a source with {@link Long} sourceLength
+     * and {@link Long} sourceModified.
+     * <br><br>
+     *
+     * @param file            represents the {@link File} index file<br>
+     * @param sourceLength    represents the {@link Long} length of the source file<br>
+     * @param sourceModified  represents the {@link Long} last modification date of the source file<br>
+     * @return                whether or not the index is up to date
+     */
+    public static boolean isCurrent(File file, long sourceLength, long sourceModified) {
+        if (!file.isFile() || file.length() < HEADER_SIZE) return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            return Arrays.equals(magic, MAGIC) && in.readByte() == VERSION
+                    && in.readLong() == sourceLength && in.readLong() == sourceModified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compiles every value of {@link ConfigurationSection} section into an index in {@link File} file.<br>
+     * The file is written to a temporary file first and then moved into place.
+     * <br><br>
+     *
+     * @param section         represents the {@link ConfigurationSection} section that should be compiled<br>
+     * @param file            represents the {@link File} index file<br>
+     * @param sourceLength    represents the {@link Long} length of the source file<br>
+     * @param sourceModified  represents the {@link Long} last modification date of the source file
+     * @throws IOException  if the index could not be written
+     */
+    public static void compile(ConfigurationSection section, File file, long sourceLength, long sourceModified) throws IOException {
+        Map<String, Object> values = section.getValues(true);
+        List<byte[]> keys = new ArrayList<>(values.size());
+        Map<byte[], Object> entries = new IdentityHashMap<>(values.size());
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            keys.add(key);
+            entries.put(key, entry.getValue());
+        }
+        keys.sort(MappedConfiguration::compare);
+
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(sourceLength);
+            out.writeLong(sourceModified);
+            out.writeInt(keys.size());
+
+            ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+            DataOutputStream entryOut = new DataOutputStream(entryBytes);
+            int[] offsets = new int[keys.size()];
+            long position = HEADER_SIZE + 4L * keys.size();
+            for (int i = 0; i < keys.size(); i++) {
+                if (position + entryBytes.size() > Integer.MAX_VALUE) throw new IOException("Config is too large for an index");
+                offsets[i] = (int) (position + entryBytes.size());
+                byte[] key = keys.get(i);
+                BinaryFormat.writeVarInt(entryOut, key.length);
+                entryOut.write(key);
+                Object value = entries.get(key);
+                if (value instanceof ConfigurationSection) entryOut.writeByte(SECTION_TAG);
+                else BinaryFormat.writeValue(entryOut, value);
+            }
+            for (int offset : offsets) out.writeInt(offset);
+            entryBytes.writeTo(out);
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    protected Object getValue(String path) {
+        ByteBuffer view = buffer.duplicate();
+        int index = find(view, path.getBytes(StandardCharsets.UTF_8));
+        if (index < 0) return null;
+
+        view.position(offset(view, index));
+        int length = readVarInt(view);
+        view.position(view.position() + length);
+        byte tag = view.get(view.position());
+        switch (tag) {
+            case SECTION_TAG:
+                return SECTION;
+            case BinaryFormat.STRING:
+                view.get();
+                byte[] bytes = new byte[readVarInt(view)];
+                view.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            case BinaryFormat.INT:
+                return view.getInt(view.position() + 1);
+            case BinaryFormat.LONG:
+                return view.getLong(view.position() + 1);
+            case BinaryFormat.DOUBLE:
+                return view.getDouble(view.position() + 1);
+            case BinaryFormat.TRUE:
+                return Boolean.TRUE;
+            case BinaryFormat.FALSE:
+                return Boolean.FALSE;
+        }
+        try {
+            return BinaryFormat.readValue(new DataInputStream(new BufferInput(view)));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    @Override
+    protected Collection<String> getPaths(String prefix) {
+        ByteBuffer view = buffer.duplicate();
+        byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+        List<String> paths = new ArrayList<>();
+        for (int i = lowerBound(view, bytes); i < count; i++) {
+            view.position(offset(view, i));
+            int length = readVarInt(view);
+            if (!startsWith(view, length, bytes)) break;
+            byte[] key = new byte[length];
+            view.get(key);
+            paths.add(new String(key, StandardCharsets.UTF_8));
+        }
+        return paths;
+    }
+
+    @Override
+    protected boolean hasPaths(String prefix) {
+        ByteBuffer view = buffer.duplicate();
+        byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+        int index = lowerBound(view, bytes);
+        if (index >= count) return false;
+        view.position(offset(view, index));
+        int length = readVarInt(view);
+        return startsWith(view, length, bytes);
+    }
+
+    @Override
+    Set<String> keys(String path, boolean deep) {
+        if (deep) return super.keys(path, true);
+        ByteBuffer view = buffer.duplicate();
+        String prefix = childPrefix(path);
+        byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+        byte separator = (byte) separator();
+        Set<String> keys = new LinkedHashSet<>();
+        int index = lowerBound(view, bytes);
+        while (index < count) {
+            view.position(offset(view, index));
+            int length = readVarInt(view);
+            if (!startsWith(view, length, bytes)) break;
+            byte[] key = new byte[length];
+            view.get(key);
+            int end = bytes.length;
+            while (end < length && key[end] != separator) end++;
+            if (end > bytes.length) keys.add(new String(key, bytes.length, end - bytes.length, StandardCharsets.UTF_8));
+            if (end == length) {
+                index++;
+                continue;
+            }
+            byte[] next = Arrays.copyOf(key, end + 1);
+            next[end] = (byte) (separator + 1);
+            index = lowerBound(view, next);
+        }
+        return keys;
+    }
+
+    @Override
+    protected void putValue(String path, Object value) {
+        throw new UnsupportedOperationException("A mapped config is read-only");
+    }
+
+    @Override
+    protected void removeValue(String path) {
+        throw new UnsupportedOperationException("A mapped config is read-only");
+    }
+
+    @Override
+    protected void removePrefix(String prefix) {
+        throw new UnsupportedOperationException("A mapped config is read-only");
+    }
+
+    /**
+     * Gets the index of the entry with exactly the key {@link Byte} key or a negative value.
+     */
+    private int find(ByteBuffer view, byte[] key) {
+        int index = lowerBound(view, key);
+        if (index >= count) return -1;
+        view.position(offset(view, index));
+        int length = readVarInt(view);
+        return length == key.length && startsWith(view, length, key) ? index : -1;
+    }
+
+    /**
+     * Gets the index of the first entry whose key is not smaller than {@link Byte} key.
+     */
+    private int lowerBound(ByteBuffer view, byte[] key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            view.position(offset(view, middle));
+            int length = readVarInt(view);
+            if (compare(view, length, key) < 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    private int offset(ByteBuffer view, int index) {
+        return view.getInt(HEADER_SIZE + 4 * index);
+    }
+
+    /**
+     * Compares the stored key of {@link Integer} length at the current position with {@link Byte} key.
+     * The position is not changed.
+     */
+    private static int compare(ByteBuffer view, int length, byte[] key) {
+        int start = view.position();
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (view.get(start + i) & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) return difference;
+        }
+        return length - key.length;
+    }
+
+    /**
+     * Checks if the stored key of {@link Integer} length at the current position starts with {@link Byte} prefix.
+     * The position is not changed.
+     */
+    private static boolean startsWith(ByteBuffer view, int length, byte[] prefix) {
+        if (length < prefix.length) return false;
+        int start = view.position();
+        for (int i = 0; i < prefix.length; i++) {
+            if (view.get(start + i) != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private static int compare(byte[] first, byte[] second) {
+        int common = Math.min(first.length, second.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (first[i] & 0xFF) - (second[i] & 0xFF);
+            if (difference != 0) return difference;
+        }
+        return first.length - second.length;
+    }
+
+    private static int readVarInt(ByteBuffer view) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = view.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+
+    /**
+     * An {@link InputStream} reading from a {@link ByteBuffer} without copying it.
+     */
+    private static final class BufferInput extends InputStream {
+
+        /**
+         * The final {@link ByteBuffer} buffer
+         */
+        private final ByteBuffer buffer;
+
+        BufferInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) return -1;
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 13:30
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only {@link ConfigFormat} format for large static configs.<br>
+ * The source file is parsed with the source {@link ConfigFormat} format once and compiled into an index next to it
+ * (<code>name.yml.ccmap</code>). As long as the source file does not change, later starts only map the index,
+ * so a {@link Config} config of this format neither parses nor keeps its values on the heap.<br>
+ * Saving the config to its own file does nothing, saving it to another file writes the source format.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ * @see MappedConfiguration
+ */
+
+public class MappedFormat implements ConfigFormat {
+
+    /**
+     * The final {@link String} extension of compiled index files
+     */
+    public static final String INDEX_EXTENSION = ".ccmap";
+
+    /**
+     * The final {@link ConfigFormat} format of the source files
+     */
+    private final ConfigFormat source;
+
+    /**
+     * Creates a new {@link MappedFormat} format compiling YAML source files.
+     */
+    public MappedFormat() {
+        this(ConfigFormats.YAML);
+    }
+
+    /**
+     * Creates a new {@link MappedFormat} format compiling source files of {@link ConfigFormat} source.
+     * <br><br>
+     *
+     * @param source represents the {@link ConfigFormat} format of the source files
+     */
+    public MappedFormat(ConfigFormat source) {
+        this.source = source;
+    }
+
+    @Override
+    public String getName() {
+        return "mapped";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public YamlConfiguration createConfiguration(File file) throws IOException {
+        File index = indexOf(file);
+        compileIfChanged(file, index);
+        return new MappedConfiguration(index);
+    }
+
+    @Override
+    public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+        source.load(config, in);
+    }
+
+    @Override
+    public void save(YamlConfiguration config, OutputStream out) throws IOException {
+        source.save(config, out);
+    }
+
+    @Override
+    public void load(YamlConfiguration config, File file) throws IOException, InvalidConfigurationException {
+        if (!isIndexOf(config, file)) {
+            source.load(config, file);
+            return;
+        }
+        try {
+            if (compileIfChanged(file, indexOf(file))) ((MappedConfiguration) config).map();
+        } catch (IOException e) {
+            if (e.getCause() instanceof InvalidConfigurationException) throw (InvalidConfigurationException) e.getCause();
+            throw e;
+        }
+    }
+
+    @Override
+    public void save(YamlConfiguration config, File file) throws IOException {
+        if (isIndexOf(config, file)) return;
+        source.save(config, file);
+    }
+
+    /**
+     * Gets the {@link File} index file belonging to {@link File} file.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} source file<br>
+     * @return      the {@link File} index file
+     */
+    public static File indexOf(File file) {
+        return new File(file.getPath() + INDEX_EXTENSION);
+    }
+
+    /**
+     * Compiles {@link File} file into {@link File} index if the index was not built from the current source.
+     */
+    private boolean compileIfChanged(File file, File index) throws IOException {
+        long length = file.length();
+        long modified = file.lastModified();
+        if (MappedConfiguration.isCurrent(index, length, modified)) return false;
+
+        YamlConfiguration parsed = new YamlConfiguration();
+        if (file.exists()) {
+            try {
+                source.load(parsed, file);
+            } catch (InvalidConfigurationException e) {
+                throw new IOException("Could not compile " + file, e);
+            }
+        }
+        MappedConfiguration.compile(parsed, index, length, modified);
+        return true;
+    }
+
+    private boolean isIndexOf(YamlConfiguration config, File file) {
+        return config instanceof MappedConfiguration
+                && ((MappedConfiguration) config).getFile().getAbsoluteFile().equals(indexOf(file).getAbsoluteFile());
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 01:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * An estimate of the heap retained by the values of a {@link Config} config, see {@link Config#memoryStats()}.<br>
+ * The tree is walked once and the size of every node is estimated for a 64-bit JVM with compressed references and
+ * compact strings, which is what servers run on: a {@link MemorySection} section with its {@link LinkedHashMap} map,
+ * table and entries, the keys, the strings, the lists, the boxed numbers and the serializable objects through their
+ * serialized values. Objects the JVM caches, like booleans and small integers, and strings already counted as the
+ * same instance cost nothing. The result is an estimate, not a measurement, but good enough to compare sections and
+ * to find the ones worth sharding or interning.<br>
+ * Equal strings held as different instances are counted as duplicates, with the bytes an interning would save.<br>
+ * For configs stored in a flat storage like {@link MappedConfiguration} sections are only views, so only their values
+ * are counted. For a {@link CompactConfiguration} the nodes of the tree are counted as sections and the numbers it
+ * keeps unboxed cost nothing beyond them.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class MemoryStats {
+
+    /**
+     * The kinds of nodes the heap is accounted to.
+     */
+    public enum Kind {
+        /**
+         * Sections with their maps and full paths
+         */
+        SECTION,
+        /**
+         * Keys of the sections
+         */
+        KEY,
+        /**
+         * String values
+         */
+        STRING,
+        /**
+         * Lists, without their elements
+         */
+        LIST,
+        /**
+         * Boxed numbers, characters and booleans
+         */
+        NUMBER,
+        /**
+         * Serializable objects with their serialized values
+         */
+        SERIALIZABLE,
+        /**
+         * Maps and every other value
+         */
+        OTHER
+    }
+
+    /**
+     * The final {@link Long} estimated bytes of every kind
+     */
+    private final long[] bytes;
+    /**
+     * The final {@link Long} number of nodes of every kind
+     */
+    private final long[] counts;
+    /**
+     * The final {@link List} largest subtrees, the largest first
+     */
+    private final List<Subtree> largest;
+    /**
+     * The final {@link Long} number of duplicate strings
+     */
+    private final long duplicates;
+    /**
+     * The final {@link Long} estimated bytes of the duplicate strings
+     */
+    private final long duplicateBytes;
+    /**
+     * The final {@link Map} of the most copied strings and their number of duplicates
+     */
+    private final Map<String, Long> mostCopied;
+
+    private MemoryStats(Walker walker, int limit) {
+        this.bytes = walker.bytes;
+        this.counts = walker.counts;
+        List<Subtree> largest = new ArrayList<>(walker.largest);
+        largest.sort((a, b) -> Long.compare(b.bytes, a.bytes));
+        this.largest = Collections.unmodifiableList(largest);
+        this.duplicates = walker.duplicates;
+        this.duplicateBytes = walker.duplicateBytes;
+
+        List<Map.Entry<String, long[]>> copied = new ArrayList<>(walker.copies.entrySet());
+        copied.sort((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]));
+        Map<String, Long> mostCopied = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : copied.subList(0, Math.min(limit, copied.size()))) {
+            mostCopied.put(entry.getKey(), entry.getValue()[0]);
+        }
+        this.mostCopied = Collections.unmodifiableMap(mostCopied);
+    }
+
+    /**
+     * Walks {@link ConfigurationSection} root and estimates the heap retained by it.<br>
+     * The caller has to hold the lock of the versions of the config.
+     * <br><br>
+     *
+     * @param root       represents the {@link ConfigurationSection} root of the config<br>
+     * @param separator  represents the {@link Character} path separator<br>
+     * @param limit      represents the {@link Integer} number of subtrees and strings to report<br>
+     * @return           the {@link MemoryStats} stats
+     */
+    static MemoryStats of(ConfigurationSection root, char separator, int limit) {
+        Walker walker = new Walker(separator, limit, !(root instanceof PathConfiguration),
+                root instanceof CompactConfiguration ? (CompactConfiguration) root : null);
+        walker.section(root, "");
+        return new MemoryStats(walker, limit);
+    }
+
+    /**
+     * Gets the {@link Long} estimated bytes retained by all nodes.
+     * <br><br>
+     *
+     * @return  the {@link Long} bytes
+     */
+    public long getTotalBytes() {
+        long total = 0;
+        for (long kind : bytes) total += kind;
+        return total;
+    }
+
+    /**
+     * Gets the {@link Long} estimated bytes of the nodes of {@link Kind} kind.
+     * <br><br>
+     *
+     * @param kind  represents the {@link Kind} kind<br>
+     * @return      the {@link Long} bytes
+     */
+    public long getBytes(Kind kind) {
+        return bytes[kind.ordinal()];
+    }
+
+    /**
+     * Gets the {@link Long} number of nodes of {@link Kind} kind.
+     * <br><br>
+     *
+     * @param kind  represents the {@link Kind} kind<br>
+     * @return      the {@link Long} number, strings shared by several nodes counted once
+     */
+    public long getCount(Kind kind) {
+        return counts[kind.ordinal()];
+    }
+
+    /**
+     * Gets the {@link List<Subtree>} largest sections below the root, which may contain each other.
+     * <br><br>
+     *
+     * @return  the {@link List<Subtree>} subtrees, the largest first
+     */
+    public List<Subtree> getLargest() {
+        return largest;
+    }
+
+    /**
+     * Gets the {@link Long} number of strings that equal a string held as another instance.
+     * <br><br>
+     *
+     * @return  the {@link Long} number of duplicates
+     */
+    public long getDuplicateStrings() {
+        return duplicates;
+    }
+
+    /**
+     * Gets the {@link Long} estimated bytes of the duplicate strings, which sharing one instance would save.
+     * <br><br>
+     *
+     * @return  the {@link Long} bytes
+     */
+    public long getDuplicateBytes() {
+        return duplicateBytes;
+    }
+
+    /**
+     * Gets the {@link Map} of the strings whose duplicates retain the most bytes.
+     * <br><br>
+     *
+     * @return  the {@link Map} of the strings and their number of duplicates, the most bytes first
+     */
+    public Map<String, Long> getMostCopied() {
+        return mostCopied;
+    }
+
+    /**
+     * Gets the {@link String} report of the stats, one line per entry.
+     * <br><br>
+     *
+     * @return  the {@link String} report
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Estimated heap: %s%n", size(getTotalBytes())));
+        for (Kind kind : Kind.values()) {
+            out.append(String.format("  %-13s %10d nodes %10s%n", kind.name().toLowerCase(Locale.ROOT), getCount(kind), size(getBytes(kind))));
+        }
+        out.append(String.format("Largest subtrees:%n"));
+        for (Subtree subtree : largest) {
+            out.append(String.format("  %-40s %10d nodes %10s%n", subtree.path, subtree.nodes, size(subtree.bytes)));
+        }
+        out.append(String.format("Duplicate strings: %d, %s%n", duplicates, size(duplicateBytes)));
+        for (Map.Entry<String, Long> entry : mostCopied.entrySet()) {
+            String text = entry.getKey().length() > 40 ? entry.getKey().substring(0, 37) + "..." : entry.getKey();
+            out.append(String.format("  %-40s %10d copies%n", '"' + text + '"', entry.getValue()));
+        }
+        return out.toString();
+    }
+
+    private static String size(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * A section with the estimated bytes retained by it.
+     */
+    public static final class Subtree {
+
+        private final String path;
+        private final long bytes;
+        private final long nodes;
+
+        private Subtree(String path, long bytes, long nodes) {
+            this.path = path;
+            this.bytes = bytes;
+            this.nodes = nodes;
+        }
+
+        /**
+         * Gets the {@link String} path of the section.
+         * <br><br>
+         *
+         * @return  the {@link String} path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Gets the {@link Long} estimated bytes retained by the section.
+         * <br><br>
+         *
+         * @return  the {@link Long} bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Gets the {@link Long} number of paths below the section.
+         * <br><br>
+         *
+         * @return  the {@link Long} nodes
+         */
+        public long getNodes() {
+            return nodes;
+        }
+
+        @Override
+        public String toString() {
+            return path + " (" + nodes + " nodes, " + size(bytes) + ")";
+        }
+    }
+
+    /**
+     * Walks a tree once and sums the estimated sizes.
+     */
+    private static final class Walker {
+
+        // object header, reference and array header of a 64-bit JVM with compressed references
+        private static final int HEADER = 12;
+        private static final int REFERENCE = 4;
+        private static final int ARRAY = 16;
+
+        private final char separator;
+        private final int limit;
+        private final boolean tree;
+        private final CompactConfiguration compact;
+        private final long[] bytes = new long[Kind.values().length];
+        private final long[] counts = new long[Kind.values().length];
+        private final PriorityQueue<Subtree> largest = new PriorityQueue<>(Comparator.comparingLong(subtree -> subtree.bytes));
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<String, long[]> copies = new HashMap<>();
+        private final Map<Object, Boolean> seen = new IdentityHashMap<>();
+        private long nodes;
+        private long duplicates;
+        private long duplicateBytes;
+
+        private Walker(char separator, int limit, boolean tree, CompactConfiguration compact) {
+            this.separator = separator;
+            this.limit = limit;
+            this.tree = tree;
+            this.compact = compact;
+        }
+
+        /**
+         * Walks {@link ConfigurationSection} section at {@link String} path.
+         *
+         * @return  the estimated bytes retained by the section
+         */
+        private long section(ConfigurationSection section, String path) {
+            Map<String, Object> values = section.getValues(false);
+            long size = 0;
+            if (tree) {
+                size = HEADER + 5 * REFERENCE + map(values.size());
+                if (!path.isEmpty()) size += stringSize(path);
+                add(Kind.SECTION, size);
+            } else if (compact != null) {
+                size = add(Kind.SECTION, compact.nodeBytes(path));
+            }
+            long before = nodes;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                nodes++;
+                size += string(Kind.KEY, entry.getKey());
+                Object value = entry.getValue();
+                if (value instanceof ConfigurationSection) {
+                    size += section((ConfigurationSection) value, path.isEmpty() ? entry.getKey() : path + separator + entry.getKey());
+                } else {
+                    size += value(value, null);
+                }
+            }
+            if (!path.isEmpty()) offer(new Subtree(path, size, nodes - before));
+            return size;
+        }
+
+        /**
+         * Estimates the bytes retained by {@link Object} value and accounts them to its kind, or to {@link Kind} owner
+         * if it is not null.
+         */
+        private long value(Object value, Kind owner) {
+            if (value == null) return 0;
+            if (value instanceof String) return string(owner == null ? Kind.STRING : owner, (String) value);
+            if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+                boolean unboxed = compact != null && owner == null && (value instanceof Integer || value instanceof Long || value instanceof Double);
+                return add(owner == null ? Kind.NUMBER : owner, unboxed ? 0 : boxed(value));
+            }
+            if (value instanceof ConfigurationSection) return section((ConfigurationSection) value, "");
+            if (seen.put(value, Boolean.TRUE) != null) return 0;
+            if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                long size = add(owner == null ? Kind.LIST : owner, align(HEADER + 3 * REFERENCE) + align(ARRAY + (long) REFERENCE * list.size()));
+                for (Object element : list) size += value(element, owner);
+                return size;
+            }
+            if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                long size = add(owner == null ? Kind.OTHER : owner, map(map.size()));
+                for (Map.Entry<?, ?> entry : map.entrySet()) size += value(entry.getKey(), owner) + value(entry.getValue(), owner);
+                return size;
+            }
+            if (value instanceof ConfigurationSerializable) {
+                Kind kind = owner == null ? Kind.SERIALIZABLE : owner;
+                long size = add(kind, align(HEADER + 4L * REFERENCE));
+                for (Object field : ((ConfigurationSerializable) value).serialize().values()) size += value(field, kind);
+                return size;
+            }
+            return add(owner == null ? Kind.OTHER : owner, align(HEADER + 4L * REFERENCE));
+        }
+
+        /**
+         * Estimates the bytes of {@link String} text, nothing if the same instance was counted before.
+         */
+        private long string(Kind kind, String text) {
+            String first = strings.putIfAbsent(text, text);
+            if (first == text) return 0;
+            long size = stringSize(text);
+            if (first != null) {
+                duplicates++;
+                duplicateBytes += size;
+                long[] copy = copies.computeIfAbsent(text, key -> new long[2]);
+                copy[0]++;
+                copy[1] += size;
+            }
+            return add(kind, size);
+        }
+
+        private long add(Kind kind, long size) {
+            bytes[kind.ordinal()] += size;
+            counts[kind.ordinal()]++;
+            return size;
+        }
+
+        private void offer(Subtree subtree) {
+            if (limit <= 0) return;
+            if (largest.size() < limit) largest.add(subtree);
+            else if (largest.peek().bytes < subtree.bytes) {
+                largest.poll();
+                largest.add(subtree);
+            }
+        }
+
+        /**
+         * Estimates the bytes of a {@link LinkedHashMap} map with {@link Integer} size entries, without keys and values.
+         */
+        private static long map(int size) {
+            long bytes = align(HEADER + 6 * REFERENCE + 4 * 4 + 1);
+            if (size == 0) return bytes;
+            int capacity = 16;
+            while (size > capacity * 3 / 4) capacity <<= 1;
+            // the table and one linked entry with hash, key, value, next, before and after per mapping
+            return bytes + align(ARRAY + (long) REFERENCE * capacity) + (long) size * align(HEADER + 4 + 5 * REFERENCE);
+        }
+
+        private static long stringSize(String text) {
+            boolean latin = true;
+            for (int i = 0; i < text.length() && latin; i++) latin = text.charAt(i) < 256;
+            return align(HEADER + REFERENCE + 4 + 2) + align(ARRAY + (long) text.length() * (latin ? 1 : 2));
+        }
+
+        /**
+         * Estimates the bytes of a boxed {@link Object} value, nothing for the values the JVM caches.
+         */
+        private static long boxed(Object value) {
+            if (value instanceof Boolean) return 0;
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof Long) {
+                long number = ((Number) value).longValue();
+                if (number >= -128 && number <= 127) return 0;
+                return value instanceof Long ? 24 : 16;
+            }
+            if (value instanceof Character) return (Character) value <= 127 ? 0 : 16;
+            if (value instanceof Double) return 24;
+            if (value instanceof BigInteger) return align(HEADER + 5 * 4 + REFERENCE) + align(ARRAY + ((BigInteger) value).bitLength() / 8 + 4);
+            if (value instanceof BigDecimal) return 40 + boxed(((BigDecimal) value).unscaledValue());
+            return 16;
+        }
+
+        private static long align(long size) {
+            return (size + 7) & ~7L;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 06:05
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * The translations of a plugin, one {@link Config} config per locale in a folder like <code>lang/en.yml</code> and
+ * <code>lang/de_de.yml</code>.<br>
+ * A locale is only loaded when a message is first requested in it. Bundled files of the plugin JAR are extracted then.
+ * A message missing in a locale is taken from the next locale of its fallback chain: <code>de_AT</code> falls back to
+ * <code>de</code> and then to the fallback locale of the bundle.<br>
+ * Messages use the {@link MessageFormat} syntax, like <code>{0} joined the game</code>. Every message is compiled once
+ * per locale and cached until its path changes in the config. Messages without a numbered argument are returned as
+ * they are, so <code>Don't {panic}</code> stays unchanged. In messages with arguments a single apostrophe starts a
+ * quoted part, as in {@link MessageFormat}, and has to be doubled to be shown: <code>{0}''s home</code>. A message
+ * that is not valid, like <code>{0</code>, is logged with its key and locale once and then returned as it is.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class MessageBundle implements Closeable {
+
+    /**
+     * The final {@link Object} marker of a message that is missing in a locale
+     */
+    private static final Object MISSING = new Object();
+
+    /**
+     * The final {@link Plugin} plugin
+     */
+    private final Plugin plugin;
+    /**
+     * The final {@link String} folder of the files, relative to the data folder of the plugin
+     */
+    private final String folder;
+    /**
+     * The final {@link Locale} fallback locale
+     */
+    private final Locale fallback;
+    /**
+     * The final {@link Map} of file names and their loaded locales
+     */
+    private final Map<String, Translation> translations = new ConcurrentHashMap<>();
+    /**
+     * The final {@link Map} of locales and their fallback chains
+     */
+    private final Map<Locale, Translation[]> chains = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link MessageBundle} bundle for the files in {@link String} folder.
+     * <br><br>
+     *
+     * @param plugin    represents the {@link Plugin} plugin like the Main class<br>
+     * @param folder    represents the {@link String} folder of the files, relative to the data folder, like <code>lang</code><br>
+     * @param fallback  represents the {@link Locale} locale used if a message is missing in the requested one
+     */
+    public MessageBundle(Plugin plugin, String folder, Locale fallback) {
+        this.plugin = plugin;
+        this.folder = folder;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Gets the message {@link String} key in {@link Locale} locale, formatted with {@link Object} args.
+     * <br><br>
+     *
+     * @param locale  represents the {@link Locale} locale of the message<br>
+     * @param key     represents the {@link String} path of the message<br>
+     * @param args    represents the {@link Object} arguments of the message<br>
+     * @return        the formatted {@link String} message, the key if no locale of the chain contains it
+     */
+    public String message(Locale locale, String key, Object... args) {
+        for (Translation translation : chain(locale)) {
+            Object format = translation.format(key);
+            if (format == MISSING) continue;
+            if (format instanceof String) return (String) format;
+            MessageFormat messageFormat = (MessageFormat) format;
+            synchronized (messageFormat) {
+                return messageFormat.format(args);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Gets the message {@link String} key in the fallback locale, formatted with {@link Object} args.
+     * <br><br>
+     *
+     * @param key   represents the {@link String} path of the message<br>
+     * @param args  represents the {@link Object} arguments of the message<br>
+     * @return      the formatted {@link String} message
+     */
+    public String message(String key, Object... args) {
+        return message(fallback, key, args);
+    }
+
+    /**
+     * Gets the message {@link String} key in the locale with the Minecraft tag {@link String} tag, like
+     * <code>de_de</code> as returned by <code>Player#getLocale()</code>.
+     * <br><br>
+     *
+     * @param tag   represents the {@link String} tag of the locale<br>
+     * @param key   represents the {@link String} path of the message<br>
+     * @param args  represents the {@link Object} arguments of the message<br>
+     * @return      the formatted {@link String} message
+     */
+    public String messageFor(String tag, String key, Object... args) {
+        return message(toLocale(tag), key, args);
+    }
+
+    /**
+     * Gets the {@link Set<String>} names of the files that are loaded.
+     * <br><br>
+     *
+     * @return  the {@link Set<String>} file names without extension
+     */
+    public Set<String> getLoaded() {
+        Set<String> loaded = new TreeSet<>();
+        for (Map.Entry<String, Translation> entry : translations.entrySet()) if (entry.getValue().config != null) loaded.add(entry.getKey());
+        return loaded;
+    }
+
+    /**
+     * Reloads every loaded locale.
+     * <br><br>
+     * Files of locales that were missing so far are looked for again on their next use.<br>
+     */
+    public void reload() {
+        translations.values().removeIf(translation -> translation.config == null);
+        chains.clear();
+        for (Translation translation : translations.values()) translation.config.reload();
+    }
+
+    /**
+     * Closes the configs of every loaded locale.
+     * <br><br>
+     */
+    @Override
+    public void close() {
+        for (Translation translation : translations.values()) translation.close();
+        translations.clear();
+        chains.clear();
+    }
+
+    /**
+     * Converts the Minecraft tag {@link String} tag into a {@link Locale} locale.
+     * <br><br>
+     *
+     * @param tag  represents the {@link String} tag like <code>de_de</code> or <code>en-US</code><br>
+     * @return     the {@link Locale} locale
+     */
+    public static Locale toLocale(String tag) {
+        String[] parts = tag.split("[_-]", 3);
+        if (parts.length == 1) return new Locale(parts[0]);
+        if (parts.length == 2) return new Locale(parts[0], parts[1].toUpperCase(Locale.ROOT));
+        return new Locale(parts[0], parts[1].toUpperCase(Locale.ROOT), parts[2]);
+    }
+
+    /**
+     * Gets the existing {@link Translation} translations of the fallback chain of {@link Locale} locale.
+     */
+    private Translation[] chain(Locale locale) {
+        Translation[] chain = chains.get(locale);
+        if (chain != null) return chain;
+
+        Set<String> names = new LinkedHashSet<>();
+        names(locale, names);
+        names(fallback, names);
+        List<Translation> found = new ArrayList<>(names.size());
+        for (String name : names) {
+            Translation translation = translations.computeIfAbsent(name, this::load);
+            if (translation.config != null) found.add(translation);
+        }
+        chain = found.toArray(new Translation[0]);
+        chains.put(locale, chain);
+        return chain;
+    }
+
+    private static void names(Locale locale, Set<String> names) {
+        if (!locale.getCountry().isEmpty()) {
+            names.add(locale.getLanguage() + '_' + locale.getCountry());
+            names.add(locale.getLanguage() + '_' + locale.getCountry().toLowerCase(Locale.ROOT));
+        }
+        names.add(locale.getLanguage());
+    }
+
+    /**
+     * Loads the file {@link String} name, extracting it from the plugin JAR if it is bundled.
+     *
+     * @return  the {@link Translation} translation, without config if the file does not exist
+     */
+    private Translation load(String name) {
+        String fileName = name + ".yml";
+        File parent = new File(plugin.getDataFolder(), folder);
+        File file = new File(parent, fileName);
+        String resource = folder + '/' + fileName;
+        if (!file.exists() && isBundled(resource)) ResourceExtractor.extract(plugin, resource, false);
+        if (!file.exists()) return new Translation(null, null, null);
+        return new Translation(new Config(plugin, fileName, parent), toLocale(name), plugin.getLogger());
+    }
+
+    private boolean isBundled(String resource) {
+        try (InputStream in = plugin.getResource(resource)) {
+            return in != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A loaded locale with its compiled messages, which are dropped when their path changes.
+     */
+    private static final class Translation implements ChangeListener {
+
+        private final Config config;
+        private final Locale locale;
+        private final Logger logger;
+        private final Map<String, Object> formats = new ConcurrentHashMap<>();
+
+        private Translation(Config config, Locale locale, Logger logger) {
+            this.config = config;
+            this.locale = locale;
+            this.logger = logger;
+            if (config != null) config.getHandle().getVersions().addListener(this);
+        }
+
+        /**
+         * Gets the compiled message {@link String} key.
+         *
+         * @return  the {@link MessageFormat} format, the {@link String} text if it has no arguments or is not valid, or
+         *          {@link #MISSING}
+         */
+        private Object format(String key) {
+            Object format = formats.get(key);
+            if (format != null) return format;
+            long version = config.getPathVersion(key);
+            String text = config.getString(key);
+            if (text == null) format = MISSING;
+            else if (!hasArgument(text)) format = text;
+            else format = compile(key, text);
+            // a change after the version was read either removes the entry through changed() once it is put, or has
+            // already changed the version, then the entry is removed here and compiled again next time
+            formats.put(key, format);
+            if (config.getPathVersion(key) != version) formats.remove(key, format);
+            return format;
+        }
+
+        /**
+         * Compiles {@link String} text of the message {@link String} key.<br>
+         * Text that is not valid is logged and returned as it is, it is cached like a format, so it is only logged
+         * again once the message changes.
+         */
+        private Object compile(String key, String text) {
+            try {
+                return new MessageFormat(text, locale);
+            } catch (IllegalArgumentException e) {
+                logger.warning("The message " + key + " in locale " + locale + " is not valid and is shown as it is: " + e.getMessage());
+                return text;
+            }
+        }
+
+        /**
+         * Checks if {@link String} text contains a numbered argument like <code>{0}</code> or <code>{1,number}</code>.
+         */
+        private static boolean hasArgument(String text) {
+            for (int i = text.indexOf('{'); i >= 0 && i + 1 < text.length(); i = text.indexOf('{', i + 1)) {
+                if (Character.isDigit(text.charAt(i + 1))) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void changed(String path, char separator) {
+            formats.remove(path);
+            String start = path + separator;
+            formats.keySet().removeIf(key -> key.startsWith(start) || path.startsWith(key + separator));
+        }
+
+        @Override
+        public void changedAll() {
+            formats.clear();
+        }
+
+        private void close() {
+            if (config == null) return;
+            config.getHandle().getVersions().removeListener(this);
+            config.close();
+        }
+    }
+}
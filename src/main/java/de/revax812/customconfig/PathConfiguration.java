@@ -0,0 +1,321 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 01:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.*;
+
+/**
+ * A {@link YamlConfiguration} whose values are not kept in a {@link MemorySection} tree but in a flat storage
+ * keyed by the full path of every value.<br>
+ * Sections are only views on a path prefix and are created on demand, so the storage decides how much of the
+ * config has to live on the heap. Implementations only provide the flat operations, everything else of the
+ * {@link ConfigurationSection} API including the typed getters works on top of them.<br>
+ * Comments are not kept by flat storages.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public abstract class PathConfiguration extends YamlConfiguration {
+
+    /**
+     * The final marker value stored for paths that are a section
+     */
+    protected static final Object SECTION = new Object();
+
+    /**
+     * Gets the stored value of {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the full {@link String} path<br>
+     * @return      the value, {@link #SECTION} for an explicit section or null if nothing is stored
+     */
+    protected abstract Object getValue(String path);
+
+    /**
+     * Stores {@link Object} value under {@link String} path.
+     * <br><br>
+     *
+     * @param path   represents the full {@link String} path<br>
+     * @param value  represents the value or {@link #SECTION}
+     */
+    protected abstract void putValue(String path, Object value);
+
+    /**
+     * Removes the value stored under exactly {@link String} path.
+     * <br><br>
+     *
+     * @param path represents the full {@link String} path
+     */
+    protected abstract void removeValue(String path);
+
+    /**
+     * Removes every value whose path starts with {@link String} prefix.
+     * <br><br>
+     *
+     * @param prefix represents the {@link String} prefix, an empty prefix removes everything
+     */
+    protected abstract void removePrefix(String prefix);
+
+    /**
+     * Gets all stored paths starting with {@link String} prefix in ascending order, or in the order of the storage
+     * if it keeps one, with every path before the paths below it.
+     * <br><br>
+     *
+     * @param prefix  represents the {@link String} prefix, an empty prefix selects everything<br>
+     * @return        the {@link Collection<String>} paths
+     */
+    protected abstract Collection<String> getPaths(String prefix);
+
+    /**
+     * Checks if any stored path starts with {@link String} prefix.
+     * <br><br>
+     *
+     * @param prefix  represents the {@link String} prefix<br>
+     * @return        whether or not such a path exists
+     */
+    protected abstract boolean hasPaths(String prefix);
+
+    @Override
+    public void loadFromString(String contents) throws InvalidConfigurationException {
+        removePrefix("");
+        super.loadFromString(contents);
+    }
+
+    @Override
+    public Set<String> getKeys(boolean deep) {
+        return keys("", deep);
+    }
+
+    @Override
+    public Map<String, Object> getValues(boolean deep) {
+        return values("", deep);
+    }
+
+    @Override
+    public Object get(String path, Object def) {
+        return lookup(path, def);
+    }
+
+    @Override
+    public void set(String path, Object value) {
+        store(path, value);
+    }
+
+    @Override
+    public ConfigurationSection createSection(String path) {
+        return create(path);
+    }
+
+    @Override
+    public List<String> getComments(String path) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<String> getInlineComments(String path) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void setComments(String path, List<String> comments) {
+    }
+
+    @Override
+    public void setInlineComments(String path, List<String> comments) {
+    }
+
+    /**
+     * Gets the {@link Character} path separator.
+     */
+    char separator() {
+        return options().pathSeparator();
+    }
+
+    /**
+     * Joins the {@link String} base path of a section and a relative {@link String} path.
+     */
+    String join(String base, String path) {
+        if (base.isEmpty()) return path;
+        if (path.isEmpty()) return base;
+        return base + separator() + path;
+    }
+
+    /**
+     * Gets the {@link String} prefix selecting all children of {@link String} path.
+     */
+    String childPrefix(String path) {
+        return path.isEmpty() ? "" : path + separator();
+    }
+
+    Object lookup(String path, Object def) {
+        if (path.isEmpty()) return this;
+        Object value = getValue(path);
+        if (value == SECTION || (value == null && hasPaths(childPrefix(path)))) return new PathSection(this, path);
+        return value == null ? def : value;
+    }
+
+    void store(String path, Object value) {
+        Map<String, Object> section = value instanceof ConfigurationSection ? ((ConfigurationSection) value).getValues(true) : null;
+        removeValue(path);
+        removePrefix(childPrefix(path));
+        if (value == null) return;
+        clearAncestors(path);
+        if (section == null) {
+            putValue(path, value);
+            return;
+        }
+        putValue(path, SECTION);
+        for (Map.Entry<String, Object> entry : section.entrySet()) {
+            Object child = entry.getValue();
+            putValue(join(path, entry.getKey()), child instanceof ConfigurationSection ? SECTION : child);
+        }
+    }
+
+    ConfigurationSection create(String path) {
+        store(path, null);
+        clearAncestors(path);
+        putValue(path, SECTION);
+        return new PathSection(this, path);
+    }
+
+    /**
+     * Removes plain values stored on a parent of {@link String} path, as a section replaces them.
+     */
+    private void clearAncestors(String path) {
+        char separator = separator();
+        for (int i = path.indexOf(separator); i != -1; i = path.indexOf(separator, i + 1)) {
+            String parent = path.substring(0, i);
+            Object value = getValue(parent);
+            if (value != null && value != SECTION) removeValue(parent);
+        }
+    }
+
+    Set<String> keys(String path, boolean deep) {
+        String prefix = childPrefix(path);
+        char separator = separator();
+        Set<String> keys = new LinkedHashSet<>();
+        for (String stored : getPaths(prefix)) {
+            if (stored.length() == prefix.length()) continue;
+            String relative = stored.substring(prefix.length());
+            int index = relative.indexOf(separator);
+            if (!deep) {
+                keys.add(index == -1 ? relative : relative.substring(0, index));
+                continue;
+            }
+            for (; index != -1; index = relative.indexOf(separator, index + 1)) keys.add(relative.substring(0, index));
+            keys.add(relative);
+        }
+        return keys;
+    }
+
+    Map<String, Object> values(String path, boolean deep) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String key : keys(path, deep)) values.put(key, lookup(join(path, key), null));
+        return values;
+    }
+
+    /**
+     * A {@link ConfigurationSection} view on all values below a path of a {@link PathConfiguration}.
+     */
+    static class PathSection extends MemorySection {
+
+        /**
+         * The final {@link PathConfiguration} root
+         */
+        private final PathConfiguration root;
+        /**
+         * The final {@link String} full path of the section
+         */
+        private final String path;
+
+        PathSection(PathConfiguration root, String path) {
+            super(root, path);
+            this.root = root;
+            this.path = path;
+        }
+
+        @Override
+        public String getName() {
+            int index = path.lastIndexOf(root.separator());
+            return index == -1 ? path : path.substring(index + 1);
+        }
+
+        @Override
+        public ConfigurationSection getParent() {
+            int index = path.lastIndexOf(root.separator());
+            return index == -1 ? root : new PathSection(root, path.substring(0, index));
+        }
+
+        @Override
+        public Set<String> getKeys(boolean deep) {
+            return root.keys(path, deep);
+        }
+
+        @Override
+        public Map<String, Object> getValues(boolean deep) {
+            return root.values(path, deep);
+        }
+
+        @Override
+        public Object get(String path, Object def) {
+            return path.isEmpty() ? this : root.lookup(root.join(this.path, path), def);
+        }
+
+        @Override
+        public void set(String path, Object value) {
+            root.store(root.join(this.path, path), value);
+        }
+
+        @Override
+        public ConfigurationSection createSection(String path) {
+            return root.create(root.join(this.path, path));
+        }
+
+        @Override
+        public List<String> getComments(String path) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getInlineComments(String path) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void setComments(String path, List<String> comments) {
+        }
+
+        @Override
+        public void setInlineComments(String path, List<String> comments) {
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof PathSection)) return false;
+            PathSection section = (PathSection) other;
+            return section.root == root && section.path.equals(path);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(root) * 31 + path.hashCode();
+        }
+    }
+}
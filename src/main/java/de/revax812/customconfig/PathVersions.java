@@ -0,0 +1,251 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 04:50
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Counts the writes to the paths of a config.<br>
+ * A write to a path increases the counter of the path and of all its parents, as their values change with it.
+ * The version of a path is the sum of the counters of the path and its parents plus an epoch that is increased when
+ * the whole config changes, so it changes with every write that can change the value at the path.<br>
+ * Writes are made while holding the monitor of the {@link PathVersions} versions, reads do not lock. Every write is
+ * passed on to the {@link ChangeListener} listeners.<br>
+ * The counters do not grow with every path ever written: a write to the whole config drops all of them and raises the
+ * epoch above every version handed out so far, and after as many writes as there are counters, the counters of paths
+ * that no longer exist are folded into their nearest existing parent. Versions therefore never go back to a
+ * value they had before; reads that overlap a sweep take the monitor.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class PathVersions {
+
+    /**
+     * The final {@link Integer} minimum number of writes between two sweeps
+     */
+    private static final int MIN_SWEEP = 1024;
+    /**
+     * The final {@link Map} of paths and their write counters
+     */
+    private final Map<String, Long> counters = new ConcurrentHashMap<>();
+    /**
+     * The final {@link Predicate} checking if a path exists in the config
+     */
+    private final Predicate<String> exists;
+    /**
+     * The private {@link Long} upper bound of the counters of any path and its parents since the last epoch
+     */
+    private long total;
+    /**
+     * The private {@link Long} number of writes since the last sweep
+     */
+    private long sinceSweep;
+    /**
+     * The private {@link Integer} number of stamps that are still compared, no sweep runs while there are any
+     */
+    private int holds;
+    /**
+     * The private volatile {@link Long} sequence, odd while the counters are swept or dropped
+     */
+    private volatile long sequence;
+    /**
+     * The private volatile {@link Long} epoch, increased by writes to the whole config
+     */
+    private volatile long epoch;
+    /**
+     * The private volatile {@link Long} number of writes to single paths, the counter of the root
+     */
+    private volatile long writes;
+    /**
+     * The final {@link List} of listeners notified of every write
+     */
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates new {@link PathVersions} versions.
+     * <br><br>
+     *
+     * @param exists  represents the {@link Predicate} checking if a path exists, called while holding the monitor
+     */
+    PathVersions(Predicate<String> exists) {
+        this.exists = exists;
+    }
+
+    /**
+     * Gets the {@link Long} version of {@link String} path.
+     * <br><br>
+     *
+     * @param path       represents the {@link String} path<br>
+     * @param separator  represents the {@link Character} path separator<br>
+     * @return           the {@link Long} version
+     */
+    long get(String path, char separator) {
+        long sequence = this.sequence;
+        long version = read(path, separator);
+        if ((sequence & 1) == 0 && sequence == this.sequence) return version;
+        synchronized (this) {
+            return read(path, separator);
+        }
+    }
+
+    private long read(String path, char separator) {
+        long version = epoch;
+        if (path.isEmpty()) return version + writes;
+        int end = path.length();
+        while (end > 0) {
+            Long counter = counters.get(path.substring(0, end));
+            if (counter != null) version += counter;
+            end = path.lastIndexOf(separator, end - 1);
+        }
+        return version;
+    }
+
+    /**
+     * Gets the {@link Long} stamp of {@link String} path, the epoch plus the counter of the path itself.<br>
+     * Unlike {@link #get(String, char)} it only changes with writes to the path or below it and with writes to the
+     * whole config, not with writes to its siblings.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path<br>
+     * @return      the {@link Long} stamp
+     */
+    long stamp(String path) {
+        long sequence = this.sequence;
+        Long counter = counters.get(path);
+        long stamp = epoch + (counter == null ? 0 : counter);
+        if ((sequence & 1) == 0 && sequence == this.sequence) return stamp;
+        synchronized (this) {
+            counter = counters.get(path);
+            return epoch + (counter == null ? 0 : counter);
+        }
+    }
+
+    /**
+     * Keeps the counters of missing paths until {@link #release()}, so stamps taken meanwhile can still be compared.<br>
+     * Must be called while holding the monitor of the versions.
+     */
+    void hold() {
+        holds++;
+    }
+
+    /**
+     * Releases a {@link #hold()}.<br>
+     * Must be called while holding the monitor of the versions.
+     */
+    void release() {
+        holds--;
+    }
+
+    /**
+     * Increases the counters of {@link String} path and its parents.<br>
+     * Must be called while holding the monitor of the versions.
+     * <br><br>
+     *
+     * @param path       represents the {@link String} path that was written<br>
+     * @param separator  represents the {@link Character} path separator
+     */
+    void increment(String path, char separator) {
+        writes++;
+        total++;
+        int end = path.length();
+        while (end > 0) {
+            counters.merge(path.substring(0, end), 1L, Long::sum);
+            total++;
+            end = path.lastIndexOf(separator, end - 1);
+        }
+        // a sweep costs as much as the counters, so running it after as many writes keeps writes at constant cost
+        if (++sinceSweep > Math.max(MIN_SWEEP, counters.size()) && holds == 0) sweep(separator);
+        for (ChangeListener listener : listeners) listener.changed(path, separator);
+    }
+
+    /**
+     * Increases the version of every path.<br>
+     * Must be called while holding the monitor of the versions.
+     */
+    void incrementAll() {
+        sequence++;
+        try {
+            // no path and its parents counted more than the total, so every version stays above the ones before
+            counters.clear();
+            epoch += total + 1;
+            total = 0;
+            sinceSweep = 0;
+        } finally {
+            sequence++;
+        }
+        for (ChangeListener listener : listeners) listener.changedAll();
+    }
+
+    /**
+     * Folds the counters of the paths that no longer exist into the counter of their nearest existing parent, or into
+     * the epoch if there is none.<br>
+     * All counters between a path and that parent are missing as well and folded into the same one, so no version
+     * gets smaller. The versions of the other paths below the parent grow, which only makes them look changed.
+     */
+    private void sweep(char separator) {
+        sequence++;
+        try {
+            Map<String, Boolean> present = new HashMap<>();
+            Map<String, Long> folded = new HashMap<>();
+            for (Iterator<Map.Entry<String, Long>> iterator = counters.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<String, Long> entry = iterator.next();
+                String path = entry.getKey();
+                if (exists(path, present)) continue;
+                int end = path.lastIndexOf(separator);
+                while (end > 0 && !exists(path.substring(0, end), present)) end = path.lastIndexOf(separator, end - 1);
+                folded.merge(end > 0 ? path.substring(0, end) : "", entry.getValue(), Long::sum);
+                iterator.remove();
+            }
+            for (Map.Entry<String, Long> entry : folded.entrySet()) {
+                if (entry.getKey().isEmpty()) epoch += entry.getValue();
+                else counters.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+            sinceSweep = 0;
+        } finally {
+            sequence++;
+        }
+    }
+
+    private boolean exists(String path, Map<String, Boolean> present) {
+        return present.computeIfAbsent(path, exists::test);
+    }
+
+    /**
+     * Adds {@link ChangeListener} listener, which is notified of every following write.
+     * <br><br>
+     *
+     * @param listener  represents the {@link ChangeListener} listener that should be added
+     */
+    void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes {@link ChangeListener} listener.
+     * <br><br>
+     *
+     * @param listener  represents the {@link ChangeListener} listener that should be removed
+     */
+    void removeListener(ChangeListener listener) {
+        listeners.remove(listener);
+    }
+}
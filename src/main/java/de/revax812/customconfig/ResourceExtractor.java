@@ -0,0 +1,158 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 19:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Extracts the resources of a {@link Plugin} plugin like {@link Plugin#saveResource(String, boolean)}, but only writes
+ * a file if its content differs from the resource.<br>
+ * The SHA-256 hash of every extracted resource is kept together with the size and modification time of the file in
+ * the manifest <code>.resources</code> in the data folder. As long as the file was not modified, it does not have to
+ * be read again to know that it matches.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class ResourceExtractor {
+
+    /**
+     * The final {@link String} name of the manifest file
+     */
+    static final String MANIFEST = ".resources";
+    /**
+     * The final {@link Map} of manifest files and their loaded entries
+     */
+    private static final Map<File, Properties> MANIFESTS = new HashMap<>();
+
+    private ResourceExtractor() {
+    }
+
+    /**
+     * Extracts the resource {@link String} resourcePath of {@link Plugin} plugin into its data folder.
+     * <br><br>
+     * An existing file is only replaced if {@link Boolean} replace is true and its content differs from the resource.<br>
+     *
+     * @param plugin        represents the {@link Plugin} plugin the resource belongs to<br>
+     * @param resourcePath  represents the {@link String} path of the resource in the plugin JAR<br>
+     * @param replace       specifies whether an existing file should be replaced<br>
+     * @return              true if the file was written
+     * @throws IllegalArgumentException  if the resource does not exist
+     */
+    static boolean extract(Plugin plugin, String resourcePath, boolean replace) {
+        resourcePath = resourcePath.replace('\\', '/');
+        File target = new File(plugin.getDataFolder(), resourcePath);
+        if (target.exists() && !replace) return false;
+
+        byte[] content = read(plugin, resourcePath);
+        String hash = hash(content);
+        File manifestFile = new File(plugin.getDataFolder(), MANIFEST);
+
+        synchronized (MANIFESTS) {
+            Properties manifest = manifest(manifestFile);
+            try {
+                if (target.isFile() && matches(manifest, resourcePath, target, hash, content.length)) {
+                    if (record(manifest, resourcePath, target, hash)) store(manifest, manifestFile);
+                    return false;
+                }
+                File parent = target.getParentFile();
+                if (parent != null && !parent.exists()) parent.mkdirs();
+                Files.write(target.toPath(), content);
+                record(manifest, resourcePath, target, hash);
+                store(manifest, manifestFile);
+                return true;
+            } catch (IOException e) {
+                e.printStackTrace();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks whether {@link File} target has the content with {@link String} hash, reading the file only if the
+     * manifest entry does not match its size and modification time.
+     */
+    private static boolean matches(Properties manifest, String resourcePath, File target, String hash, int length) throws IOException {
+        if (target.length() != length) return false;
+        if (stamp(target, hash).equals(manifest.getProperty(resourcePath))) return true;
+        return hash.equals(hash(Files.readAllBytes(target.toPath())));
+    }
+
+    /**
+     * Stores the current state of {@link File} target in the manifest.
+     *
+     * @return  true if the entry changed
+     */
+    private static boolean record(Properties manifest, String resourcePath, File target, String hash) {
+        String stamp = stamp(target, hash);
+        return !stamp.equals(manifest.setProperty(resourcePath, stamp));
+    }
+
+    private static String stamp(File target, String hash) {
+        return hash + ':' + target.length() + ':' + target.lastModified();
+    }
+
+    private static byte[] read(Plugin plugin, String resourcePath) {
+        try (InputStream in = plugin.getResource(resourcePath)) {
+            if (in == null) throw new IllegalArgumentException("The embedded resource '" + resourcePath + "' cannot be found");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) out.write(buffer, 0, read);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The embedded resource '" + resourcePath + "' cannot be read", e);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            StringBuilder hash = new StringBuilder(64);
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) hash.append(String.format("%02x", b));
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Properties manifest(File manifestFile) {
+        return MANIFESTS.computeIfAbsent(manifestFile, file -> {
+            Properties manifest = new Properties();
+            if (!file.isFile()) return manifest;
+            try (InputStream in = new FileInputStream(file)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return manifest;
+        });
+    }
+
+    private static void store(Properties manifest, File manifestFile) throws IOException {
+        File parent = manifestFile.getParentFile();
+        if (parent != null && !parent.exists()) parent.mkdirs();
+        try (OutputStream out = new FileOutputStream(manifestFile)) {
+            manifest.store(out, "CustomConfig resource hashes");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 18:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a config does not match its {@link ConfigSchema} schema.<br>
+ * Holds every error found in the config, not only the first one.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class SchemaException extends InvalidConfigurationException {
+
+    /**
+     * The final {@link List<String>} errors
+     */
+    private final List<String> errors;
+
+    /**
+     * Creates a new {@link SchemaException} exception with {@link List<String>} errors.
+     * <br><br>
+     *
+     * @param errors  represents the {@link List<String>} errors found in the config
+     */
+    public SchemaException(List<String> errors) {
+        super(errors.size() + " schema error(s):\n  " + String.join("\n  ", errors));
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Gets the {@link List<String>} errors found in the config.
+     * <br><br>
+     *
+     * @return  the {@link List<String>} errors
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+}
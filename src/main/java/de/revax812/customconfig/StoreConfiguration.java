@@ -0,0 +1,153 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 11:15
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A {@link PathConfiguration} backed by a {@link ConfigStore}.<br>
+ * Every value is stored under its full path, so single values are read and written without loading the whole
+ * document. Changes become durable with {@link #commit()}, which {@link Config#save()} calls.<br>
+ * Values are decoded from the store on every read, so changing a returned list or map does not change the config
+ * until it is set again.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class StoreConfiguration extends PathConfiguration implements Closeable {
+
+    /**
+     * The final {@link ConfigStore} store
+     */
+    private final ConfigStore store;
+
+    /**
+     * Creates a new {@link StoreConfiguration} configuration on the store in {@link File} file.
+     * <br><br>
+     *
+     * @param file  represents the {@link File} file of the store
+     * @throws IOException  if the store could not be opened
+     */
+    public StoreConfiguration(File file) throws IOException {
+        this.store = new ConfigStore(file);
+    }
+
+    /**
+     * Gets the {@link ConfigStore} store.
+     * <br><br>
+     *
+     * @return  the {@link ConfigStore} store
+     */
+    public ConfigStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets all values below {@link String} path in ascending path order.<br>
+     * Only the values of the range are read from the store.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path of the section that should be scanned<br>
+     * @return      the {@link SortedMap} of full paths and values
+     */
+    public SortedMap<String, Object> scan(String path) {
+        try {
+            SortedMap<String, Object> values = store.scan(childPrefix(path));
+            values.values().removeIf(value -> value == SECTION);
+            return values;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new TreeMap<>();
+        }
+    }
+
+    /**
+     * Makes all changes durable.
+     * <br><br>
+     *
+     * @throws IOException  if the changes could not be written
+     */
+    public void commit() throws IOException {
+        store.commit();
+    }
+
+    /**
+     * Discards all changes since the last {@link #commit()}.
+     * <br><br>
+     *
+     * @throws IOException  if the store could not be read
+     */
+    public void rollback() throws IOException {
+        store.rollback();
+    }
+
+    @Override
+    public void close() throws IOException {
+        store.close();
+    }
+
+    @Override
+    protected Object getValue(String path) {
+        try {
+            return store.get(path);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    @Override
+    protected void putValue(String path, Object value) {
+        try {
+            store.put(path, value);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    protected void removeValue(String path) {
+        try {
+            store.remove(path);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    protected void removePrefix(String prefix) {
+        try {
+            store.removePrefix(prefix);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    protected Collection<String> getPaths(String prefix) {
+        return Collections.unmodifiableList(store.keys(prefix));
+    }
+
+    @Override
+    protected boolean hasPaths(String prefix) {
+        return store.hasKeys(prefix);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:00
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link ConfigFormat} format which keeps the config in an embedded {@link ConfigStore} instead of a document.<br>
+ * A {@link Config} config using this format works directly on a {@link StoreConfiguration}, so loading does not
+ * parse anything and saving only commits the changed paths.<br>
+ * The format can only be used with files.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class StoreFormat implements ConfigFormat {
+
+    /**
+     * The final {@link List<String>} extensions
+     */
+    private static final List<String> EXTENSIONS = Collections.singletonList("ccdb");
+
+    @Override
+    public String getName() {
+        return "store";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public YamlConfiguration createConfiguration(File file) throws IOException {
+        return new StoreConfiguration(file);
+    }
+
+    @Override
+    public void load(YamlConfiguration config, InputStream in) throws IOException {
+        throw new IOException("The store format can only be loaded from a file");
+    }
+
+    @Override
+    public void save(YamlConfiguration config, OutputStream out) throws IOException {
+        throw new IOException("The store format can only be saved to a file");
+    }
+
+    @Override
+    public void load(YamlConfiguration config, File file) throws IOException, InvalidConfigurationException {
+        // the store already holds its file, uncommitted writes are kept until the next save
+        if (isStoreOf(config, file)) return;
+        try (StoreConfiguration store = new StoreConfiguration(file)) {
+            ConfigFormats.clear(config);
+            ConfigFormats.copy(store, config);
+        }
+    }
+
+    @Override
+    public void save(YamlConfiguration config, File file) throws IOException {
+        if (isStoreOf(config, file)) {
+            ((StoreConfiguration) config).commit();
+            return;
+        }
+        try (StoreConfiguration store = new StoreConfiguration(file)) {
+            ConfigFormats.clear(store);
+            ConfigFormats.copy(config, store);
+            store.commit();
+        }
+    }
+
+    private boolean isStoreOf(YamlConfiguration config, File file) {
+        return config instanceof StoreConfiguration
+                && ((StoreConfiguration) config).getStore().getFile().getAbsoluteFile().equals(file.getAbsoluteFile());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 23:20
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The compiled {@link ConfigTemplate} templates of a config, see {@link Config#getTemplate(String)}.<br>
+ * Every template is cached with the paths it was compiled from, its own path and the paths of its references. The
+ * cache listens to the changes of the config and drops a template as soon as one of these paths, a parent or a child
+ * of them changes. The paths are kept sorted, so a change only looks up its own path, its parents and the range of
+ * its children.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+final class TemplateCache implements ChangeListener {
+
+    /**
+     * The final {@link Map} of paths and their templates
+     */
+    private final Map<String, ConfigTemplate> templates = new ConcurrentHashMap<>();
+    /**
+     * The final {@link NavigableMap} of source paths and the paths of the templates compiled from them
+     */
+    private final NavigableMap<String, Set<String>> sources = new TreeMap<>();
+
+    /**
+     * Gets the cached template of {@link String} path.
+     * <br><br>
+     *
+     * @param path  represents the {@link String} path of the template<br>
+     * @return      the {@link ConfigTemplate} template, null if it is not cached
+     */
+    ConfigTemplate get(String path) {
+        return templates.get(path);
+    }
+
+    /**
+     * Caches {@link ConfigTemplate} template of {@link String} path.
+     * <br><br>
+     *
+     * @param path     represents the {@link String} path of the template<br>
+     * @param template represents the {@link ConfigTemplate} template<br>
+     * @param paths    represents the {@link Collection} of paths the template was compiled from
+     */
+    synchronized void put(String path, ConfigTemplate template, Collection<String> paths) {
+        templates.put(path, template);
+        for (String source : paths) sources.computeIfAbsent(source, key -> new HashSet<>()).add(path);
+    }
+
+    @Override
+    public synchronized void changed(String path, char separator) {
+        if (sources.isEmpty()) return;
+        drop(sources.remove(path));
+        int end = path.lastIndexOf(separator);
+        while (end > 0) {
+            drop(sources.remove(path.substring(0, end)));
+            end = path.lastIndexOf(separator, end - 1);
+        }
+        SortedMap<String, Set<String>> below = path.isEmpty() ? sources : sources.subMap(path + separator, path + separator + Character.MAX_VALUE);
+        for (Set<String> dependents : below.values()) drop(dependents);
+        below.clear();
+    }
+
+    @Override
+    public synchronized void changedAll() {
+        templates.clear();
+        sources.clear();
+    }
+
+    private void drop(Set<String> dependents) {
+        if (dependents == null) return;
+        for (String dependent : dependents) templates.remove(dependent);
+    }
+}
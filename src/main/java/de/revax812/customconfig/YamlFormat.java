@@ -0,0 +1,63 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 09:40
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The default {@link ConfigFormat} format which stores the config as YAML through {@link YamlConfiguration}.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public class YamlFormat implements ConfigFormat {
+
+    /**
+     * The final {@link List<String>} extensions
+     */
+    private static final List<String> EXTENSIONS = Collections.unmodifiableList(Arrays.asList("yml", "yaml"));
+
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+
+    @Override
+    public List<String> getExtensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) buffer.write(chunk, 0, read);
+        config.loadFromString(new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void save(YamlConfiguration config, OutputStream out) throws IOException {
+        out.write(config.saveToString().getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 18.10.2026, 21:05
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Holds the {@link Executor} executor the asynchronous methods of {@link Config} run their disk I/O on.<br>
+ * By default a cached pool of daemon threads is used, it can be replaced with {@link #setDefault(Executor)} or per
+ * config with {@link Config#setExecutor(Executor)}.<br>
+ * On Java 21 and later this version of the class is loaded from the multi-release JAR instead, which runs every task
+ * on its own virtual thread.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ConfigExecutors {
+
+    /**
+     * The final {@link Executor} executor created for the library
+     */
+    private static final Executor IO = create();
+    /**
+     * The private volatile {@link Executor} default executor
+     */
+    private static volatile Executor defaultExecutor = IO;
+
+    private ConfigExecutors() {
+    }
+
+    /**
+     * Gets the {@link ScheduledExecutorService} scheduler of the periodic tasks of the library, like flushing counters.
+     * <br><br>
+     * The scheduler runs on a single daemon thread, which is started on first use. Its tasks must be short and hand
+     * longer work to the I/O executor.<br>
+     *
+     * @return  the {@link ScheduledExecutorService} scheduler
+     */
+    static ScheduledExecutorService scheduler() {
+        return Scheduler.INSTANCE;
+    }
+
+    /**
+     * Gets the default {@link Executor} executor for the disk I/O of {@link Config} configs.
+     * <br><br>
+     *
+     * @return  the {@link Executor} executor
+     */
+    public static Executor getDefault() {
+        return defaultExecutor;
+    }
+
+    /**
+     * Sets the default {@link Executor} executor for the disk I/O of {@link Config} configs.
+     * <br><br>
+     *
+     * @param executor  represents the {@link Executor} executor that should be used, null restores the built-in one
+     */
+    public static void setDefault(Executor executor) {
+        defaultExecutor = executor == null ? IO : executor;
+    }
+
+    /**
+     * Creates the built-in {@link Executor} executor, starting a new virtual thread for every task.
+     */
+    private static Executor create() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("CustomConfig-IO-", 1).factory());
+    }
+
+    /**
+     * Holds the scheduler, so its thread is only started when it is used.
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "CustomConfig-Scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
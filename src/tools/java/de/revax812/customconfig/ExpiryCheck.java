@@ -0,0 +1,249 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:50
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig;
+
+import de.revax812.customconfig.tools.CheckHarness;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Checks the {@link ExpiryWheel} wheel behind {@link Config#set(String, Object, Duration)}.<br>
+ * The wheel is package-private, so the check lives in its package. It is driven with its own clock instead of the
+ * scheduler, which lets it walk through weeks of ticks in a second. It checks that:
+ * <ul>
+ *     <li>paths on every level, parked beyond the reach of the wheel and already due expire in the tick of their
+ *     deadline, not earlier and not later, and in the order of their deadlines</li>
+ *     <li>cancelled and rescheduled paths expire at their new time or not at all</li>
+ *     <li>a clock jumping further than the wheel reaches places every path again</li>
+ *     <li>the <code>.ttl</code> file restores every deadline and is deleted once no path expires</li>
+ *     <li>a {@link Config} config removes expired paths in order, calls the listeners and reads the expiry times
+ *     again when it is opened</li>
+ * </ul>
+ * The tool exits with 1 if a check fails:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.ExpiryCheck
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ExpiryCheck {
+
+    /**
+     * The final {@link Long} number of ticks a turn of the lowest level covers
+     */
+    private static final long TURN = ExpiryWheel.SLOTS;
+    /**
+     * The final {@link Long} number of ticks the wheel reaches
+     */
+    private static final long SPAN = 1L << (Integer.numberOfTrailingZeros(ExpiryWheel.SLOTS) * ExpiryWheel.LEVELS);
+    /**
+     * The final {@link Runnable} tick given to the wheel, the check advances it itself
+     */
+    private static final Runnable NO_TICK = () -> {
+    };
+
+    private ExpiryCheck() {
+    }
+
+    /**
+     * Runs the checks.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} arguments, which are not used
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        CheckHarness checks = new CheckHarness("ExpiryCheck", "expiry");
+        File folder = checks.getFolder();
+        checkLevels(checks, new File(folder, "levels.yml"));
+        checkClockJump(checks, new File(folder, "jump.yml"));
+        checkReload(checks, new File(folder, "reload.yml"));
+        checkConfig(checks);
+        checks.finish();
+    }
+
+    /**
+     * Schedules paths on every level and beyond the reach of the wheel and walks the wheel through their deadlines.
+     */
+    private static void checkLevels(CheckHarness checks, File file) {
+        ExpiryWheel wheel = new ExpiryWheel(file);
+        long base = startOfTick();
+        // ticks after the base, the boundaries of every level and of the parked slot
+        long[] offsets = {
+                -10, 0, 1, 2, TURN - 1,
+                TURN, TURN + 1, 100, TURN * TURN - 1,
+                TURN * TURN, TURN * TURN + 1, 200_000, TURN * TURN * TURN - 1,
+                TURN * TURN * TURN, TURN * TURN * TURN + 1, 5_000_000, SPAN - 1,
+                SPAN, SPAN + 1, SPAN + 70_000, 2 * SPAN + 5
+        };
+        TreeMap<Long, Set<String>> expected = new TreeMap<>();
+        for (long offset : offsets) {
+            // two paths per deadline, one at the start and one at the end of the tick
+            schedule(wheel, expected, "at" + offset, base + offset, 0);
+            schedule(wheel, expected, "late" + offset, base + offset, ExpiryWheel.TICK - 1);
+        }
+        wheel.schedule("cancelled", deadline(base + 100, 0), NO_TICK);
+        wheel.cancel("cancelled");
+        wheel.schedule("moved", deadline(base + SPAN + 1, 0), NO_TICK);
+        schedule(wheel, expected, "moved", base + TURN + 1, 0);
+        wheel.schedule("postponed", deadline(base + 2, 0), NO_TICK);
+        schedule(wheel, expected, "postponed", base + TURN * TURN * TURN + 1, 0);
+
+        int walked = walk(checks, "levels", wheel, expected, base);
+        checks.check(wheel.getDeadline("cancelled") == null, "levels: the cancelled path is still scheduled");
+        checks.check(wheel.advance(deadline(base + 3 * SPAN, 0)).isEmpty(), "levels: paths expired after every deadline passed");
+        wheel.cancel();
+        System.out.printf("levels   %d paths on %d ticks walked through %,d ticks%n", walked, expected.size(), 2 * SPAN + 5);
+    }
+
+    /**
+     * Lets the clock jump further than the wheel reaches and checks that every path is placed again.
+     */
+    private static void checkClockJump(CheckHarness checks, File file) {
+        ExpiryWheel wheel = new ExpiryWheel(file);
+        long base = startOfTick();
+        for (long offset : new long[]{10, TURN * TURN, SPAN - 2, SPAN + 5, 3 * SPAN}) wheel.schedule("jump" + offset, deadline(base + offset, 0), NO_TICK);
+
+        Set<String> jumped = new HashSet<>(wheel.advance(deadline(base + SPAN + 20, 0)));
+        checks.check(jumped.equals(new HashSet<>(Arrays.asList("jump10", "jump" + TURN * TURN, "jump" + (SPAN - 2), "jump" + (SPAN + 5)))),
+                "jump: a jump past every deadline but one expired " + jumped);
+        checks.check(wheel.advance(deadline(base + 3 * SPAN - 1, 0)).isEmpty(), "jump: the last path expired before its deadline after the jump");
+        checks.check(wheel.advance(deadline(base + 3 * SPAN, 0)).equals(Collections.singletonList("jump" + 3 * SPAN)), "jump: the last path did not expire at its deadline after the jump");
+        wheel.cancel();
+    }
+
+    /**
+     * Stores the wheel to its <code>.ttl</code> file, reads it into a new wheel and walks it through the deadlines.
+     */
+    private static void checkReload(CheckHarness checks, File file) throws Exception {
+        ExpiryWheel wheel = new ExpiryWheel(file);
+        long base = startOfTick();
+        TreeMap<Long, Set<String>> expected = new TreeMap<>();
+        Map<String, Long> deadlines = new HashMap<>();
+        for (long offset : new long[]{-5, 3, TURN + 7, TURN * TURN * 2, SPAN + 9}) {
+            schedule(wheel, expected, "saved" + offset, base + offset, 7);
+            deadlines.put("saved" + offset, wheel.getDeadline("saved" + offset));
+        }
+        wheel.schedule("cancelled", deadline(base + 4, 0), NO_TICK);
+        wheel.cancel("cancelled");
+        wheel.store();
+        wheel.cancel();
+        File ttl = new File(file.getPath() + ExpiryWheel.EXTENSION);
+        checks.check(ttl.isFile(), "reload: the wheel did not write " + ttl.getName());
+
+        ExpiryWheel reloaded = new ExpiryWheel(file);
+        reloaded.load(NO_TICK);
+        for (Map.Entry<String, Long> deadline : deadlines.entrySet()) {
+            checks.check(deadline.getValue().equals(reloaded.getDeadline(deadline.getKey())),
+                    "reload: " + deadline.getKey() + " expires at " + reloaded.getDeadline(deadline.getKey()) + " instead of " + deadline.getValue());
+        }
+        checks.check(reloaded.getDeadline("cancelled") == null, "reload: the cancelled path was read again");
+        walk(checks, "reload", reloaded, expected, base);
+        try {
+            reloaded.store();
+        } catch (Exception e) {
+            checks.fail("reload: the empty wheel could not be stored: " + e);
+        }
+        checks.check(!ttl.exists(), "reload: " + ttl.getName() + " was kept after every path expired");
+        reloaded.cancel();
+    }
+
+    /**
+     * Checks the expiry of a {@link Config} config with the scheduler.
+     */
+    private static void checkConfig(CheckHarness checks) throws Exception {
+        Config config = new Config(checks.getPlugin(), "config.yml");
+        List<String> removed = Collections.synchronizedList(new ArrayList<>());
+        config.addExpiryListener((path, value) -> removed.add(path + "=" + value));
+        config.set("cooldown.late", "c", Duration.ofMillis(900));
+        config.set("cooldown.first", "a", Duration.ofMillis(300));
+        config.set("cooldown.second", "b", Duration.ofMillis(600));
+        config.set("ban", "long", Duration.ofHours(1));
+        Long ban = config.getExpiry("ban");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (removed.size() < 3 && System.currentTimeMillis() < deadline) Thread.sleep(ExpiryWheel.TICK);
+        checks.check(removed.equals(Arrays.asList("cooldown.first=a", "cooldown.second=b", "cooldown.late=c")), "config: the paths expired as " + removed);
+        checks.check(config.get("cooldown.first") == null && config.get("cooldown.late") == null, "config: an expired path kept its value");
+        checks.check("long".equals(config.get("ban")), "config: the path expiring in an hour was removed");
+        config.close();
+
+        Config reopened = new Config(checks.getPlugin(), "config.yml");
+        checks.check(ban.equals(reopened.getExpiry("ban")), "config: the reopened config expires ban at " + reopened.getExpiry("ban") + " instead of " + ban);
+        checks.check(reopened.getExpiry("cooldown.first") == null, "config: the reopened config still expires an expired path");
+        reopened.set("ban", "lifted");
+        checks.check(reopened.getExpiry("ban") == null, "config: setting the path again kept its expiry");
+        reopened.close();
+    }
+
+    /**
+     * Advances {@link ExpiryWheel} wheel to the tick before and to the tick of every deadline of {@link TreeMap}
+     * expected and checks that exactly the paths of the deadline expire, in the order of the deadlines. Paths that were
+     * due when they were scheduled expire on the first advance.
+     *
+     * @return  the {@link Integer} number of expired paths
+     */
+    private static int walk(CheckHarness checks, String name, ExpiryWheel wheel, TreeMap<Long, Set<String>> expected, long base) {
+        TreeMap<Long, Set<String>> ticks = new TreeMap<>(expected.tailMap(base, false));
+        Set<String> due = new HashSet<>();
+        for (Set<String> paths : expected.headMap(base, true).values()) due.addAll(paths);
+        if (!due.isEmpty()) ticks.put(base, due);
+
+        int walked = 0;
+        long previous = base;
+        for (Map.Entry<Long, Set<String>> tick : ticks.entrySet()) {
+            long at = tick.getKey();
+            if (at - 1 > previous) {
+                List<String> early = wheel.advance(deadline(at - 1, 0));
+                checks.check(early.isEmpty(), name + ": " + early + " expired before tick " + (at - base));
+            }
+            List<String> expired = wheel.advance(deadline(at, ExpiryWheel.TICK - 1));
+            checks.check(new HashSet<>(expired).equals(tick.getValue()) && expired.size() == tick.getValue().size(),
+                    name + ": tick " + (at - base) + " expired " + expired + " instead of " + tick.getValue());
+            walked += expired.size();
+            previous = at;
+        }
+        return walked;
+    }
+
+    /**
+     * Schedules {@link String} path at {@link Long} millis into the tick {@link Long} tick and expects it there,
+     * replacing an earlier expectation of the path.
+     */
+    private static void schedule(ExpiryWheel wheel, TreeMap<Long, Set<String>> expected, String path, long tick, long millis) {
+        for (Set<String> paths : expected.values()) paths.remove(path);
+        wheel.schedule(path, deadline(tick, millis), NO_TICK);
+        expected.computeIfAbsent(tick, key -> new HashSet<>()).add(path);
+    }
+
+    /**
+     * Gets the time in milliseconds that lies {@link Long} millis into the tick {@link Long} tick.
+     */
+    private static long deadline(long tick, long millis) {
+        return tick * ExpiryWheel.TICK + millis;
+    }
+
+    /**
+     * Waits for the start of a tick and returns it, so an empty wheel starts from the same tick as the check.
+     */
+    private static long startOfTick() {
+        long now;
+        while ((now = System.currentTimeMillis()) % ExpiryWheel.TICK > ExpiryWheel.TICK / 2) Thread.yield();
+        return now / ExpiryWheel.TICK;
+    }
+}
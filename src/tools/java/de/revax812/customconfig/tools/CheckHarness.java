@@ -0,0 +1,120 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:35
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Counts the failed checks of a check tool and gives it a {@link HeadlessPlugin} plugin in a temporary folder.<br>
+ * Every failed check is printed with <code>FAILED</code> in front. {@link #finish()} prints the result and exits
+ * with 1 if a check failed, so the tools can be run by scripts. Checks may fail from any thread.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class CheckHarness {
+
+    /**
+     * The final {@link String} name of the tool
+     */
+    private final String name;
+    /**
+     * The final {@link String} subject of the checks, like <code>format</code>
+     */
+    private final String subject;
+    /**
+     * The private {@link File} temporary folder, null until it is used
+     */
+    private File folder;
+    /**
+     * The private {@link Plugin} plugin, null until it is used
+     */
+    private Plugin plugin;
+    /**
+     * The private {@link Integer} number of failed checks
+     */
+    private int failures;
+
+    /**
+     * Creates a new {@link CheckHarness} harness for the tool {@link String} name.
+     * <br><br>
+     *
+     * @param name     represents the {@link String} name of the tool, used as name of the plugin<br>
+     * @param subject  represents the {@link String} subject of the checks, used in the result and the folder name
+     */
+    public CheckHarness(String name, String subject) {
+        this.name = name;
+        this.subject = subject;
+    }
+
+    /**
+     * Gets the temporary {@link File} folder of the checks, creating it on the first call.
+     * <br><br>
+     *
+     * @return  the {@link File} folder
+     * @throws IOException  if the folder could not be created
+     */
+    public File getFolder() throws IOException {
+        if (folder == null) folder = Files.createTempDirectory("customconfig-" + subject).toFile();
+        return folder;
+    }
+
+    /**
+     * Gets the headless {@link Plugin} plugin, whose data folder is {@link #getFolder()}.
+     * <br><br>
+     *
+     * @return  the {@link Plugin} plugin
+     * @throws IOException  if the folder could not be created
+     */
+    public Plugin getPlugin() throws IOException {
+        if (plugin == null) plugin = HeadlessPlugin.create(name, getFolder());
+        return plugin;
+    }
+
+    /**
+     * Fails with {@link String} message if {@link Boolean} condition is false.
+     * <br><br>
+     *
+     * @param condition  represents the {@link Boolean} condition that has to hold<br>
+     * @param message    represents the {@link String} message printed if it does not
+     */
+    public void check(boolean condition, String message) {
+        if (!condition) fail(message);
+    }
+
+    /**
+     * Counts a failed check and prints {@link String} message.
+     * <br><br>
+     *
+     * @param message  represents the {@link String} message
+     */
+    public synchronized void fail(String message) {
+        failures++;
+        System.out.println("FAILED " + message);
+    }
+
+    /**
+     * Prints the result and exits with 1 if a check failed.
+     * <br><br>
+     */
+    public synchronized void finish() {
+        System.out.println(failures == 0 ? "All " + subject + " checks passed" : failures + " " + subject + " checks failed");
+        if (failures > 0) System.exit(1);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 02:30
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.CompressedFormat;
+import de.revax812.customconfig.ConfigFormat;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the size, the save and load time and the allocations of a config stored plain, with gzip and with zlib by
+ * {@link CompressedFormat}, and with gzip by the streams of the JDK, which allocate a new deflater and inflater for
+ * every save and load.<br>
+ * The config is saved to and loaded from memory, so the disk does not blur the codecs. Every codec runs several rounds,
+ * the fastest one is reported. Options are passed as <code>--name value</code>:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.CompressionBenchmark -Dexec.args="--entries 200000 --format json"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class CompressionBenchmark {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"entries", "50000", "number of sections in the config"},
+            {"format", "yaml", "name of the format that is compressed"},
+            {"level", "-1", "compression level from 0 to 9, -1 for the default"},
+            {"rounds", "5", "measured rounds, the fastest one is reported"}
+    };
+
+    private CompressionBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     * @throws Exception  if a codec fails
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-10s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        ConfigFormat format = ConfigFormats.byName(options.get("format"));
+        if (format == null) {
+            System.err.println("Unknown format " + options.get("format"));
+            return;
+        }
+        int entries = Integer.parseInt(options.get("entries"));
+        int level = Integer.parseInt(options.get("level"));
+        int rounds = Integer.parseInt(options.get("rounds"));
+
+        YamlConfiguration config = new YamlConfiguration();
+        for (int i = 0; i < entries; i++) {
+            String path = "players.p" + i + '.';
+            config.set(path + "name", "Player" + i);
+            config.set(path + "kills", i % 1000);
+            config.set(path + "world", i % 3 == 0 ? "world_nether" : "world");
+        }
+
+        System.out.printf("%-12s %12s %8s %10s %10s %14s%n", "codec", "bytes", "ratio", "save ms", "load ms", "load alloc MB");
+        long plain = run("plain", format, config, rounds, 0);
+        run("gzip", new CompressedFormat(format, CompressedFormat.Compression.GZIP, level), config, rounds, plain);
+        run("zlib", new CompressedFormat(format, CompressedFormat.Compression.ZLIB, level), config, rounds, plain);
+        run("gzip (jdk)", new JdkGzipFormat(format, level), config, rounds, plain);
+    }
+
+    /**
+     * Saves and loads {@link YamlConfiguration} config with {@link ConfigFormat} format and prints the results.
+     */
+    private static long run(String name, ConfigFormat format, YamlConfiguration config, int rounds, long plain) throws IOException, InvalidConfigurationException {
+        byte[] bytes = null;
+        long bestSave = Long.MAX_VALUE, bestLoad = Long.MAX_VALUE, allocated = 0;
+        for (int round = 0; round <= rounds; round++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes == null ? 1 << 16 : bytes.length);
+            long start = System.nanoTime();
+            format.save(config, out);
+            long save = System.nanoTime() - start;
+            bytes = out.toByteArray();
+
+            YamlConfiguration loaded = new YamlConfiguration();
+            long before = allocated();
+            start = System.nanoTime();
+            format.load(loaded, new ByteArrayInputStream(bytes));
+            long load = System.nanoTime() - start;
+            long after = allocated();
+            if (loaded.getKeys(true).size() != config.getKeys(true).size()) throw new IllegalStateException(name + " lost entries");
+            // the first round warms up
+            if (round == 0) continue;
+            bestSave = Math.min(bestSave, save);
+            if (load < bestLoad) {
+                bestLoad = load;
+                allocated = after - before;
+            }
+        }
+        System.out.printf("%-12s %12d %8s %10.1f %10.1f %14s%n", name, bytes.length,
+                plain == 0 ? "" : String.format("%.2f", (double) bytes.length / plain),
+                bestSave / 1e6, bestLoad / 1e6, allocated < 0 ? "n/a" : String.format("%.1f", allocated / 1e6));
+        return bytes.length;
+    }
+
+    /**
+     * Gets the bytes allocated by the current thread, -1 if the JVM does not count them.
+     */
+    private static long allocated() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return -1;
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * A gzip {@link ConfigFormat} format with the streams of the JDK, as the baseline of {@link CompressedFormat}.
+     */
+    private static final class JdkGzipFormat implements ConfigFormat {
+
+        private final ConfigFormat format;
+        private final int level;
+
+        JdkGzipFormat(ConfigFormat format, int level) {
+            this.format = format;
+            this.level = level;
+        }
+
+        @Override
+        public String getName() {
+            return format.getName() + "+jdk";
+        }
+
+        @Override
+        public List<String> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+            try (InputStream gzip = new GZIPInputStream(in, 1 << 16)) {
+                format.load(config, gzip);
+            }
+        }
+
+        @Override
+        public void save(YamlConfiguration config, OutputStream out) throws IOException {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 1 << 16) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            format.save(config, gzip);
+            gzip.finish();
+            // finish does not free the native memory of the deflater, close does
+            gzip.close();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:45
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigFormat;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks that nothing counted with {@link Config#increment(String, long)} gets lost.<br>
+ * For the YAML, JSON and binary format, several threads count into shared and own counters, some of them downwards,
+ * while the counters are flushed every few milliseconds and the main thread keeps changing and saving other paths.
+ * Afterwards the counters have to hold every count, the periodic flushes have to have written them to the file, and
+ * a config reloaded after closing has to hold them as well. The tool exits with 1 if a check fails:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.CounterCheck
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class CounterCheck {
+
+    /**
+     * The final {@link Integer} number of counting threads
+     */
+    private static final int THREADS = 8;
+    /**
+     * The final {@link Integer} number of counts of every thread
+     */
+    private static final int COUNTS = 200_000;
+    /**
+     * The final {@link Long} interval of the periodic flush in milliseconds
+     */
+    private static final long INTERVAL = 5;
+    /**
+     * The final {@link Long} time in milliseconds the periodic flush may take to reach the file
+     */
+    private static final long TIMEOUT = 5_000;
+
+    private CounterCheck() {
+    }
+
+    /**
+     * Runs the checks.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} arguments, which are not used
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        CheckHarness checks = new CheckHarness("CounterCheck", "counter");
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> checks.fail(thread.getName() + " threw " + e));
+        run(checks, ConfigFormats.YAML);
+        run(checks, ConfigFormats.JSON);
+        run(checks, ConfigFormats.BINARY);
+        checks.finish();
+    }
+
+    /**
+     * Counts from several threads into a config of {@link ConfigFormat} format and checks the counters, the file and
+     * the reloaded config.
+     */
+    private static void run(CheckHarness checks, ConfigFormat format) throws Exception {
+        String name = format.getName();
+        File file = new File(checks.getFolder(), "counters." + format.getExtensions().get(0));
+        Config config = new Config(checks.getPlugin(), file.getName(), checks.getFolder(), format);
+        config.set("stats.total", 1000L);
+        config.setCounterFlushInterval(INTERVAL, TimeUnit.MILLISECONDS);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            String own = "stats.thread" + t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < COUNTS; i++) {
+                    config.increment("stats.total", 1);
+                    config.increment(own, 1);
+                    // counts up by one in two steps
+                    config.increment("stats.balance", 2);
+                    config.increment("stats.balance", -1);
+                }
+            }, "CounterCheck-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        long start = System.nanoTime();
+        for (int round = 0; threads.stream().anyMatch(Thread::isAlive); round++) {
+            config.set("other.k" + round % 100, round);
+            if (round % 10 == 0) config.save();
+            Thread.yield();
+        }
+        for (Thread thread : threads) thread.join();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long total = 1000L + (long) THREADS * COUNTS;
+        checks.check(config.getCounter("stats.total") == total, name + ": the counter holds " + config.getCounter("stats.total") + " instead of " + total);
+        checks.check(config.getCounter("stats.balance") == (long) THREADS * COUNTS, name + ": the counter counting up and down holds " + config.getCounter("stats.balance"));
+
+        // the periodic flush writes the counters without flushCounters() or close()
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        long written;
+        do {
+            Thread.sleep(INTERVAL * 10);
+            YamlConfiguration loaded = new YamlConfiguration();
+            if (file.length() > 0) format.load(loaded, file);
+            written = number(loaded, "stats.total");
+        } while (written != total && System.currentTimeMillis() < deadline);
+        checks.check(written == total, name + ": the periodic flush wrote " + written + " instead of " + total);
+        config.close();
+
+        Config reloaded = new Config(checks.getPlugin(), file.getName(), checks.getFolder(), format);
+        checks.check(number(reloaded, "stats.total") == total, name + ": the reloaded config holds " + reloaded.get("stats.total") + " instead of " + total);
+        checks.check(number(reloaded, "stats.balance") == (long) THREADS * COUNTS, name + ": the reloaded counter counting up and down holds " + reloaded.get("stats.balance"));
+        for (int t = 0; t < THREADS; t++) {
+            checks.check(number(reloaded, "stats.thread" + t) == COUNTS, name + ": the reloaded counter of thread " + t + " holds " + reloaded.get("stats.thread" + t));
+        }
+        reloaded.increment("stats.total", 5);
+        checks.check(reloaded.getCounter("stats.total") == total + 5, name + ": counting on after the reload gives " + reloaded.getCounter("stats.total"));
+        reloaded.close();
+        System.out.printf("%-8s %,d counts from %d threads in %d ms%n", name, (long) THREADS * COUNTS * 4, THREADS, millis);
+    }
+
+    /**
+     * Gets the number at {@link String} path of {@link YamlConfiguration} config, -1 if there is none.
+     */
+    private static long number(YamlConfiguration config, String path) {
+        Object value = config.get(path);
+        return value == null ? -1 : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * Gets the number at {@link String} path of {@link Config} config, -1 if there is none.<br>
+     * The number is read from its text, as the formats may load it with another type than it was set with.
+     */
+    private static long number(Config config, String path) {
+        Object value = config.get(path);
+        return value == null ? -1 : Long.parseLong(String.valueOf(value));
+    }
+}
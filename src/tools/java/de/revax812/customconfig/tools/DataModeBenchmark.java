@@ -0,0 +1,135 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 04:05
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a machine-written YAML {@link Config} config with and without {@link Config#setDataMode(boolean)}.<br>
+ * The tool writes a file of player entries once and opens a copy of it in both modes. It reports the heap retained by
+ * the loaded config, the time of a save and the time of a reload, which reads the file and writes it back. Saves run
+ * on the calling thread, so they are part of the measurement. Every measurement runs several rounds, the fastest one
+ * is reported. Options are passed as <code>--name value</code>:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.DataModeBenchmark -Dexec.args="--entries 200000"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class DataModeBenchmark {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"entries", "50000", "number of player entries"},
+            {"rounds", "5", "measured rounds, the fastest one is reported"}
+    };
+
+    private DataModeBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     * @throws Exception  if the file could not be written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-10s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        int entries = Integer.parseInt(options.get("entries"));
+        int rounds = Integer.parseInt(options.get("rounds"));
+
+        File dir = Files.createTempDirectory("customconfig-data").toFile();
+        Plugin plugin = HeadlessPlugin.create("DataModeBenchmark", dir);
+        YamlConfiguration source = new YamlConfiguration();
+        for (int i = 0; i < entries; i++) {
+            String path = "players.p" + i + '.';
+            source.set(path + "name", "Player" + i);
+            source.set(path + "kills", i % 1000);
+            source.set(path + "world", i % 3 == 0 ? "world_nether" : "world");
+        }
+        File file = new File(dir, "source.yml");
+        ConfigFormats.YAML.save(source, file);
+        // released, so it is not counted in the heap of the configs
+        source = null;
+
+        System.out.printf("Config of %d entries, %.1f MB%n", entries, file.length() / 1e6);
+        System.out.printf("%-10s %10s %10s %12s%n", "mode", "heap MB", "save ms", "reload ms");
+        run("comments", plugin, dir, file, false, rounds);
+        run("data", plugin, dir, file, true, rounds);
+    }
+
+    /**
+     * Opens a copy of {@link File} source in {@link Boolean} data mode or not and prints the results.
+     */
+    private static void run(String name, Plugin plugin, File dir, File source, boolean dataMode, int rounds) throws Exception {
+        File file = new File(dir, name + ".yml");
+        Files.copy(source.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        long before = heap();
+        Config config = new Config(plugin, file.getName(), dir, ConfigFormats.YAML);
+        config.setExecutor(Runnable::run);
+        config.setDataMode(dataMode);
+        long retained = heap() - before;
+
+        long bestSave = Long.MAX_VALUE, bestReload = Long.MAX_VALUE;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            config.save(file);
+            long save = System.nanoTime() - start;
+            start = System.nanoTime();
+            config.reload();
+            long reload = System.nanoTime() - start;
+            // the first round warms up
+            if (round == 0) continue;
+            bestSave = Math.min(bestSave, save);
+            bestReload = Math.min(bestReload, reload);
+        }
+        System.out.printf("%-10s %10.1f %10.1f %12.1f%n", name, retained / 1e6, bestSave / 1e6, bestReload / 1e6);
+        config.close();
+    }
+
+    /**
+     * Gets the used heap after a garbage collection.
+     */
+    private static long heap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 02:05
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.CompactConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares the heap and the lookup speed of a {@link YamlConfiguration} tree of sections with a
+ * {@link CompactConfiguration} tree holding the same data: many small sections like saved locations, each made of
+ * <code>world</code>, <code>x</code>, <code>y</code> and <code>z</code>.<br>
+ * For every representation the tool fills a fresh configuration, measures the heap retained by it after a garbage
+ * collection and then times <code>getInt</code> and <code>getString</code> lookups of random entries over several
+ * rounds, reporting the fastest round. Options are passed as <code>--name value</code>:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.FootprintBenchmark -Dexec.args="--sections 500000"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class FootprintBenchmark {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"sections", "200000", "number of location sections"},
+            {"lookups", "1000000", "lookups per round"},
+            {"rounds", "5", "measured rounds, the fastest one is reported"}
+    };
+
+    private FootprintBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-10s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        int sections = Integer.parseInt(options.get("sections"));
+        int lookups = Integer.parseInt(options.get("lookups"));
+        int rounds = Integer.parseInt(options.get("rounds"));
+
+        System.out.printf("%-14s %12s %14s %16s %16s%n", "tree", "heap MB", "bytes/section", "getInt ns/op", "getString ns/op");
+        run("sections", YamlConfiguration::new, sections, lookups, rounds);
+        run("compact", CompactConfiguration::new, sections, lookups, rounds);
+    }
+
+    private static void run(String name, Supplier<YamlConfiguration> factory, int sections, int lookups, int rounds) {
+        long before = heap();
+        YamlConfiguration config = factory.get();
+        for (int i = 0; i < sections; i++) {
+            String path = "homes.h" + i + '.';
+            config.set(path + "world", i % 3 == 0 ? "world_nether" : "world");
+            config.set(path + "x", i * 7 - 30_000);
+            config.set(path + "y", 64 + i % 128);
+            config.set(path + "z", 30_000 - i * 3);
+        }
+        long retained = heap() - before;
+
+        // the paths are built up front, so only the lookups are timed
+        String[] xPaths = new String[lookups];
+        String[] worldPaths = new String[lookups];
+        long seed = 42;
+        for (int i = 0; i < lookups; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            int section = (int) ((seed >>> 33) % sections);
+            xPaths[i] = "homes.h" + section + ".x";
+            worldPaths[i] = "homes.h" + section + ".world";
+        }
+        long bestInt = Long.MAX_VALUE, bestString = Long.MAX_VALUE, sink = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (String path : xPaths) sink += config.getInt(path);
+            long ints = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (String path : worldPaths) sink += config.getString(path).length();
+            long strings = System.nanoTime() - start;
+            // the first round warms up
+            if (round == 0) continue;
+            bestInt = Math.min(bestInt, ints);
+            bestString = Math.min(bestString, strings);
+        }
+        System.out.printf("%-14s %12.1f %14d %16.1f %16.1f%n", name, retained / 1e6, retained / sections,
+                (double) bestInt / lookups, (double) bestString / lookups);
+        // keeps the results and the config reachable until here
+        if (sink == 42 && config.getKeys(false).isEmpty()) System.out.println();
+    }
+
+    /**
+     * Gets the used heap after a garbage collection.
+     */
+    private static long heap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
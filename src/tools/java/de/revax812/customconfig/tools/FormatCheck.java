@@ -0,0 +1,269 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:20
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.ConfigFormat;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.bukkit.configuration.serialization.SerializableAs;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Checks that the YAML, JSON and binary {@link ConfigFormat} formats load what they saved.<br>
+ * A config with strings that need escaping, every number type, big integers, booleans, nested sections, lists of
+ * values, lists of maps, empty lists and {@link ConfigurationSerializable} objects is saved to memory and loaded again
+ * with every format. The objects are a location, a vector, a color, an item stack, a list of item stacks and a
+ * serializable of the tool holding a location. Binary data has to come back with the exact types, the text formats
+ * with the same values, as numbers are typed by their text there. Every typed getter, like
+ * {@link YamlConfiguration#getInt(String)} or {@link YamlConfiguration#getLocation(String)}, has to return the saved
+ * value from the loaded config. Afterwards binary data with a corrupt length is loaded, which has to fail with an
+ * {@link InvalidConfigurationException} instead of allocating the length. The tool exits with 1 if a check fails:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.FormatCheck
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class FormatCheck {
+
+    /**
+     * The final {@link CheckHarness} harness counting the failed checks
+     */
+    private static final CheckHarness CHECKS = new CheckHarness("FormatCheck", "format");
+    /**
+     * The final {@link Location} location of the sample, without world, as worlds only exist on a server
+     */
+    private static final Location LOCATION = new Location(null, 1.5, 64, -20.25, 90f, -12.5f);
+    /**
+     * The final {@link ItemStack} item stack of the sample
+     */
+    private static final ItemStack ITEM = new ItemStack(Material.DIAMOND_SWORD, 3);
+
+    private FormatCheck() {
+    }
+
+    /**
+     * Runs the checks.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} arguments, which are not used
+     * @throws Exception  if a format fails to save
+     */
+    public static void main(String[] args) throws Exception {
+        HeadlessPlugin.installServer();
+        ConfigurationSerialization.registerClass(Home.class);
+        YamlConfiguration config = sample();
+        roundTrip(ConfigFormats.YAML, config, false);
+        roundTrip(ConfigFormats.JSON, config, false);
+        roundTrip(ConfigFormats.BINARY, config, true);
+        corruptLength();
+        CHECKS.finish();
+    }
+
+    /**
+     * Creates the {@link YamlConfiguration} config that is saved and loaded.
+     */
+    private static YamlConfiguration sample() {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("text.plain", "hello");
+        config.set("text.quotes", "it's \"quoted\": {0} #not a comment");
+        config.set("text.lines", "first\nsecond\ttabbed");
+        config.set("text.unicode", "Gr\u00fc\u00dfe \u2603 \ud83d\ude00");
+        config.set("text.empty", "");
+        config.set("text.number-like", "007");
+        config.set("numbers.int", Integer.MIN_VALUE);
+        config.set("numbers.long", Long.MAX_VALUE);
+        config.set("numbers.double", -0.125);
+        config.set("numbers.big", new BigInteger("123456789012345678901234567890"));
+        config.set("numbers.negative-big", new BigInteger("-98765432109876543210"));
+        config.set("flags.on", true);
+        config.set("flags.off", false);
+        config.set("lists.strings", Arrays.asList("a", "b c", ""));
+        config.set("lists.mixed", Arrays.asList(1, 2.5, "x", true));
+        config.set("lists.empty", new ArrayList<>());
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", 4);
+        item.put("name", "sword");
+        config.set("lists.maps", Collections.singletonList(item));
+        config.set("deep.a.b.c.d", "leaf");
+        config.set("objects.location", LOCATION);
+        config.set("objects.vector", new Vector(1, -2.5, 3));
+        config.set("objects.color", Color.fromRGB(255, 128, 0));
+        config.set("objects.item", ITEM);
+        config.set("objects.items", Arrays.asList(ITEM, new ItemStack(Material.STONE, 1)));
+        config.set("objects.home", new Home("spawn", LOCATION));
+        return config;
+    }
+
+    /**
+     * Saves {@link YamlConfiguration} config with {@link ConfigFormat} format, loads it again and compares every path.
+     */
+    private static void roundTrip(ConfigFormat format, YamlConfiguration config, boolean exact) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        format.save(config, out);
+        YamlConfiguration loaded = new YamlConfiguration();
+        try {
+            format.load(loaded, new ByteArrayInputStream(out.toByteArray()));
+        } catch (InvalidConfigurationException e) {
+            CHECKS.fail(format.getName() + ": could not load its own output: " + e.getMessage());
+            return;
+        }
+        Set<String> paths = config.getKeys(true);
+        CHECKS.check(paths.equals(loaded.getKeys(true)), format.getName() + ": paths " + loaded.getKeys(true) + ", expected " + paths);
+        for (String path : paths) {
+            Object expected = config.get(path), actual = loaded.get(path);
+            CHECKS.check(same(expected, actual, exact), format.getName() + ": " + path + " is " + describe(actual) + ", expected " + describe(expected));
+        }
+        getters(format.getName(), loaded);
+    }
+
+    /**
+     * Reads the values of the sample from {@link YamlConfiguration} loaded with the typed getters.
+     */
+    private static void getters(String name, YamlConfiguration loaded) {
+        getter(name, "getInt", loaded.getInt("numbers.int"), Integer.MIN_VALUE);
+        getter(name, "getLong", loaded.getLong("numbers.long"), Long.MAX_VALUE);
+        getter(name, "getDouble", loaded.getDouble("numbers.double"), -0.125);
+        getter(name, "getBoolean", loaded.getBoolean("flags.on") && !loaded.getBoolean("flags.off", true), true);
+        getter(name, "getString", loaded.getString("text.number-like"), "007");
+        getter(name, "getStringList", loaded.getStringList("lists.strings"), Arrays.asList("a", "b c", ""));
+        List<Map<?, ?>> maps = loaded.getMapList("lists.maps");
+        getter(name, "getMapList", maps.size() == 1 ? maps.get(0).get("name") : maps, "sword");
+        getter(name, "getLocation", loaded.getLocation("objects.location"), LOCATION);
+        getter(name, "getVector", loaded.getVector("objects.vector"), new Vector(1, -2.5, 3));
+        getter(name, "getColor", loaded.getColor("objects.color"), Color.fromRGB(255, 128, 0));
+        getter(name, "getItemStack", loaded.getItemStack("objects.item"), ITEM);
+        getter(name, "getList", loaded.getList("objects.items"), Arrays.asList(ITEM, new ItemStack(Material.STONE, 1)));
+        getter(name, "getSerializable", loaded.getSerializable("objects.home", Home.class), new Home("spawn", LOCATION));
+    }
+
+    private static void getter(String name, String getter, Object actual, Object expected) {
+        CHECKS.check(Objects.equals(actual, expected), name + ": " + getter + " returned " + describe(actual) + ", expected " + describe(expected));
+    }
+
+    /**
+     * Loads binary data whose first key claims to be almost two gigabytes long.
+     */
+    private static void corruptLength() {
+        byte[] data = {'C', 'C', 'F', 'G', 1, 1, (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'k'};
+        try {
+            ConfigFormats.BINARY.load(new YamlConfiguration(), new ByteArrayInputStream(data));
+            CHECKS.fail("binary: corrupt length was loaded");
+        } catch (InvalidConfigurationException e) {
+            // expected
+        } catch (Throwable e) {
+            CHECKS.fail("binary: corrupt length failed with " + e);
+        }
+    }
+
+    /**
+     * Compares {@link Object} expected with {@link Object} actual, by type too if {@link Boolean} exact.
+     */
+    private static boolean same(Object expected, Object actual, boolean exact) {
+        if (expected instanceof ConfigurationSection) return actual instanceof ConfigurationSection;
+        if (expected instanceof Map && actual instanceof Map) {
+            Map<?, ?> first = (Map<?, ?>) expected, second = (Map<?, ?>) actual;
+            if (!first.keySet().equals(second.keySet())) return false;
+            for (Object key : first.keySet()) {
+                if (!same(first.get(key), second.get(key), exact)) return false;
+            }
+            return true;
+        }
+        if (expected instanceof List && actual instanceof List) {
+            List<?> first = (List<?>) expected, second = (List<?>) actual;
+            if (first.size() != second.size()) return false;
+            for (int i = 0; i < first.size(); i++) {
+                if (!same(first.get(i), second.get(i), exact)) return false;
+            }
+            return true;
+        }
+        if (exact || !(expected instanceof Number) || !(actual instanceof Number)) return Objects.equals(expected, actual);
+        if (integral(expected) != integral(actual)) return false;
+        return integral(expected)
+                ? new BigInteger(expected.toString()).equals(new BigInteger(actual.toString()))
+                : ((Number) expected).doubleValue() == ((Number) actual).doubleValue();
+    }
+
+    private static boolean integral(Object number) {
+        return !(number instanceof Double || number instanceof Float);
+    }
+
+    private static String describe(Object value) {
+        return value == null ? "null" : value + " (" + value.getClass().getSimpleName() + ')';
+    }
+
+    /**
+     * A named {@link Location} location, to check a serializable of a plugin that holds another serializable.
+     */
+    @SerializableAs("FormatCheckHome")
+    public static final class Home implements ConfigurationSerializable {
+
+        private final String name;
+        private final Location location;
+
+        private Home(String name, Location location) {
+            this.name = name;
+            this.location = location;
+        }
+
+        /**
+         * Creates a {@link Home} home from its serialized {@link Map} values, called by {@link ConfigurationSerialization}.
+         * <br><br>
+         *
+         * @param values  represents the {@link Map} serialized values<br>
+         * @return        the {@link Home} home
+         */
+        public static Home deserialize(Map<String, Object> values) {
+            return new Home((String) values.get("name"), (Location) values.get("location"));
+        }
+
+        @Override
+        public Map<String, Object> serialize() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("name", name);
+            values.put("location", location);
+            return values;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Home && name.equals(((Home) other).name) && Objects.equals(location, ((Home) other).location);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Home{" + name + ", " + location + '}';
+        }
+    }
+}
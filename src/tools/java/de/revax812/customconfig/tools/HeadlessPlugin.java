@@ -0,0 +1,145 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:20
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.UnsafeValues;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Creates a {@link Plugin} plugin that works without a server, for tools driving {@link de.revax812.customconfig.Config}
+ * configs outside of Bukkit.<br>
+ * The plugin is a proxy answering the methods the configs use: its name, data folder, logger and resources, which are
+ * looked up on the class path. Every other method returns null, false or 0.<br>
+ * Tools serializing item stacks need a {@link Server} server as well, see {@link #installServer()}.<br>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class HeadlessPlugin {
+
+    /**
+     * The final {@link Integer} data version of Minecraft 1.19, the version of the API the library is built against
+     */
+    private static final int DATA_VERSION = 3105;
+
+    private HeadlessPlugin() {
+    }
+
+    /**
+     * Creates a new headless {@link Plugin} plugin with {@link String} name and {@link File} dataFolder.
+     * <br><br>
+     *
+     * @param name        represents the {@link String} name of the plugin<br>
+     * @param dataFolder  represents the {@link File} data folder of the plugin<br>
+     * @return            the {@link Plugin} plugin
+     */
+    public static Plugin create(String name, File dataFolder) {
+        Logger logger = Logger.getLogger(name);
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[]{Plugin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                case "toString":
+                    return name;
+                case "getDataFolder":
+                    return dataFolder;
+                case "getLogger":
+                    return logger;
+                case "isEnabled":
+                    return true;
+                case "getResource":
+                    return HeadlessPlugin.class.getClassLoader().getResourceAsStream((String) args[0]);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    /**
+     * Registers a headless {@link Server} server with {@link Bukkit}, if there is none yet.
+     * <br><br>
+     * The server answers the methods item stacks use to serialize and deserialize themselves: its data version,
+     * the lookup of materials by name and an item factory that creates no item meta. Every other method returns null,
+     * false or 0.<br>
+     */
+    public static void installServer() {
+        if (Bukkit.getServer() != null) return;
+        Logger logger = Logger.getLogger("HeadlessServer");
+        UnsafeValues unsafe = (UnsafeValues) Proxy.newProxyInstance(UnsafeValues.class.getClassLoader(), new Class<?>[]{UnsafeValues.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getDataVersion":
+                    return DATA_VERSION;
+                case "getMaterial":
+                    return Material.getMaterial((String) args[0]);
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        ItemFactory items = (ItemFactory) Proxy.newProxyInstance(ItemFactory.class.getClassLoader(), new Class<?>[]{ItemFactory.class}, (proxy, method, args) -> {
+            // the factory creates no meta, so two metas are equal if both are missing
+            if (method.getName().equals("equals") && args.length == 2) return Objects.equals(args[0], args[1]);
+            if (method.getName().equals("equals")) return proxy == args[0];
+            return defaultValue(method.getReturnType());
+        });
+        Bukkit.setServer((Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getLogger":
+                    return logger;
+                case "getName":
+                case "getVersion":
+                case "getBukkitVersion":
+                case "toString":
+                    return "HeadlessServer";
+                case "getUnsafe":
+                    return unsafe;
+                case "getItemFactory":
+                    return items;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }));
+    }
+
+    /**
+     * Gets the value a headless proxy returns for a method with the {@link Class} return type.
+     */
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        return null;
+    }
+}
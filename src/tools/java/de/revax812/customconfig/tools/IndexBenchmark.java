@@ -0,0 +1,168 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:10
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures what a secondary index of {@link Config#createIndex(String, String)} costs and what it saves.<br>
+ * The tool fills a config with homes made of <code>world</code> and <code>x</code>, then reports the heap retained by
+ * the index, the time of writes to an unindexed and to the indexed field without and with the index, and the time of
+ * {@link Config#findBy(String, Object)} compared to iterating the section. Every measurement runs several rounds, the
+ * fastest one is reported. Options are passed as <code>--name value</code>:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.IndexBenchmark -Dexec.args="--entries 200000"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class IndexBenchmark {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"entries", "100000", "number of homes"},
+            {"worlds", "50", "number of different worlds"},
+            {"writes", "200000", "writes per round"},
+            {"lookups", "200", "lookups per round"},
+            {"rounds", "5", "measured rounds, the fastest one is reported"}
+    };
+
+    private IndexBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-10s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        int entries = Integer.parseInt(options.get("entries"));
+        int worlds = Integer.parseInt(options.get("worlds"));
+        int writes = Integer.parseInt(options.get("writes"));
+        int lookups = Integer.parseInt(options.get("lookups"));
+        int rounds = Integer.parseInt(options.get("rounds"));
+
+        File dir = Files.createTempDirectory("customconfig-index").toFile();
+        Plugin plugin = HeadlessPlugin.create("IndexBenchmark", dir);
+        Config config = new Config(plugin, "homes.yml", dir, ConfigFormats.YAML);
+        config.batch(() -> {
+            for (int i = 0; i < entries; i++) {
+                config.set("homes.h" + i + ".world", "world" + i % worlds);
+                config.set("homes.h" + i + ".x", i);
+            }
+        });
+
+        double unindexed = writes(config, "x", entries, worlds, writes, rounds);
+        double field = writes(config, "world", entries, worlds, writes, rounds);
+        long before = heap();
+        String index = config.createIndex("homes", "*.world");
+        long retained = heap() - before;
+        double unindexedWithIndex = writes(config, "x", entries, worlds, writes, rounds);
+        double fieldWithIndex = writes(config, "world", entries, worlds, writes, rounds);
+
+        long bestFind = Long.MAX_VALUE, bestScan = Long.MAX_VALUE, sink = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) sink += config.findBy(index, "world" + i % worlds).size();
+            long find = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) sink += scan(config, "world" + i % worlds).size();
+            long scan = System.nanoTime() - start;
+            // the first round warms up
+            if (round == 0) continue;
+            bestFind = Math.min(bestFind, find);
+            bestScan = Math.min(bestScan, scan);
+        }
+
+        System.out.printf("Index of %d entries: %.1f MB heap, %d bytes per entry%n", entries, retained / 1e6, retained / entries);
+        System.out.printf("%-28s %14s %14s%n", "write ns/op", "without index", "with index");
+        System.out.printf("%-28s %14.1f %14.1f%n", "unindexed field (x)", unindexed, unindexedWithIndex);
+        System.out.printf("%-28s %14.1f %14.1f%n", "indexed field (world)", field, fieldWithIndex);
+        System.out.printf("Lookup of %d matches: findBy %.1f us/op, section scan %.1f us/op%n", entries / worlds,
+                bestFind / 1e3 / lookups, bestScan / 1e3 / lookups);
+        if (sink == 42) System.out.println();
+    }
+
+    /**
+     * Times writes to {@link String} field of random entries in a batch and returns the nanoseconds per write.
+     */
+    private static double writes(Config config, String field, int entries, int worlds, int writes, int rounds) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round <= rounds; round++) {
+            long[] time = new long[1];
+            long seed = 42 + round;
+            String[] paths = new String[writes];
+            for (int i = 0; i < writes; i++) {
+                seed = seed * 6364136223846793005L + 1442695040888963407L;
+                paths[i] = "homes.h" + (int) ((seed >>> 33) % entries) + '.' + field;
+            }
+            // the save at the end of the batch is not timed
+            config.batch(() -> {
+                long start = System.nanoTime();
+                for (int i = 0; i < writes; i++) config.set(paths[i], field.equals("x") ? (Object) i : "world" + i % worlds);
+                time[0] = System.nanoTime() - start;
+            });
+            if (round > 0) best = Math.min(best, time[0]);
+        }
+        return (double) best / writes;
+    }
+
+    /**
+     * Finds the homes in {@link String} world by iterating the section, like without an index.
+     */
+    private static List<String> scan(Config config, String world) {
+        List<String> found = new ArrayList<>();
+        for (String key : config.getConfigurationSection("homes").getKeys(false)) {
+            if (world.equals(config.getString("homes." + key + ".world"))) found.add("homes." + key);
+        }
+        return found;
+    }
+
+    /**
+     * Gets the used heap after a garbage collection.
+     */
+    private static long heap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
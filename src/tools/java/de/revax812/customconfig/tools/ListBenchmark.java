@@ -0,0 +1,140 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 04:15
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the list methods of {@link Config}, which append every change to the journal of the file, with replacing
+ * the list by {@link Config#set(String, Object)}, which writes the whole file on every change.<br>
+ * Both ways keep a capped log in a config that holds other entries too: every change appends an entry and trims the
+ * log to its cap. Saves run on the calling thread, so the writes are part of the measurement. The tool reports the
+ * time per change and the bytes written by the process, read from <code>/proc/self/io</code>. Options are passed as
+ * <code>--name value</code>:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.ListBenchmark -Dexec.args="--entries 50000"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ListBenchmark {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"entries", "10000", "number of other entries in the config"},
+            {"changes", "2000", "number of appended log entries"},
+            {"cap", "500", "maximum size of the log"}
+    };
+
+    private ListBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-10s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        int entries = Integer.parseInt(options.get("entries"));
+        int changes = Integer.parseInt(options.get("changes"));
+        int cap = Integer.parseInt(options.get("cap"));
+
+        File dir = Files.createTempDirectory("customconfig-list").toFile();
+        Plugin plugin = HeadlessPlugin.create("ListBenchmark", dir);
+        System.out.printf("%-10s %14s %14s%n", "method", "us/change", "written MB");
+        // the first runs warm up and are not printed
+        run(null, plugin, dir, true, entries, changes, cap);
+        run(null, plugin, dir, false, entries, changes, cap);
+        run("journal", plugin, dir, true, entries, changes, cap);
+        run("set", plugin, dir, false, entries, changes, cap);
+    }
+
+    /**
+     * Appends to the log with the list methods or by {@link Boolean} replacing it and prints the results.
+     */
+    private static void run(String name, Plugin plugin, File dir, boolean journal, int entries, int changes, int cap) {
+        String file = (journal ? "journal" : "set") + ".yml";
+        new File(dir, file).delete();
+        new File(dir, file + ".journal").delete();
+        Config config = new Config(plugin, file, dir, ConfigFormats.YAML);
+        config.setExecutor(Runnable::run);
+        config.batch(() -> {
+            for (int i = 0; i < entries; i++) config.set("players.p" + i + ".kills", i);
+        });
+
+        long before = written();
+        long start = System.nanoTime();
+        for (int i = 0; i < changes; i++) {
+            String entry = "Player" + i + " joined at " + i * 50L;
+            if (journal) {
+                config.appendToList("log", entry);
+                config.trimList("log", cap);
+            } else {
+                List<String> log = new ArrayList<>(config.getStringList("log"));
+                log.add(entry);
+                if (log.size() > cap) log.remove(0);
+                config.set("log", log);
+            }
+        }
+        long time = System.nanoTime() - start;
+        long written = before < 0 ? -1 : written() - before;
+        config.close();
+
+        if (name == null) return;
+        System.out.printf("%-10s %14.1f %14s%n", name, time / 1e3 / changes, written < 0 ? "n/a" : String.format("%.1f", written / 1e6));
+    }
+
+    /**
+     * Gets the bytes written by the process from <code>/proc/self/io</code>, -1 if it does not exist.
+     */
+    private static long written() {
+        File file = new File("/proc/self/io");
+        if (!file.canRead()) return -1;
+        try {
+            for (String line : Files.readAllLines(file.toPath())) {
+                if (line.startsWith("wchar:")) return Long.parseLong(line.substring(6).trim());
+            }
+        } catch (IOException | NumberFormatException e) {
+            e.printStackTrace();
+        }
+        return -1;
+    }
+}
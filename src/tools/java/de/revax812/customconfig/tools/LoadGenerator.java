@@ -0,0 +1,317 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 06:00
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigFormat;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.plugin.Plugin;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.*;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link Config} config like a server does, without a server.<br>
+ * A main thread runs ticks at a fixed rate. Every tick reads random paths, writes some, writes a burst every few ticks
+ * and saves the config on an autosave interval, while reader threads read concurrently. At the end the tool prints the
+ * percentiles of the tick durations, the ticks that took longer than their slot, the bytes allocated on the heap, the
+ * garbage collections and the bytes read and written by the process.<br>
+ * The allocated bytes are the growth of the heap plus everything the collections reclaimed from it, so they count every
+ * thread, including virtual threads and pool threads that ended during the run.<br>
+ * Options are passed as <code>--name value</code>, run with <code>--help</code> to list them:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dexec.args="--keys 50000 --writes 50 --async-threads 4"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class LoadGenerator {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"ticks", "600", "number of measured ticks"},
+            {"warmup", "100", "number of ticks before measuring"},
+            {"tps", "20", "ticks per second"},
+            {"keys", "10000", "number of entries in the document"},
+            {"value-size", "32", "length of the text values"},
+            {"reads", "2000", "reads per tick on the main thread"},
+            {"writes", "20", "writes per tick on the main thread"},
+            {"burst-every", "100", "ticks between write bursts, 0 for none"},
+            {"burst-size", "1000", "writes per burst"},
+            {"batch-bursts", "true", "whether a burst is written in one batch"},
+            {"autosave-every", "200", "ticks between saves, 0 for none"},
+            {"async-threads", "2", "threads reading without pause"},
+            {"file", "load.yml", "name of the config file, its extension selects the format"},
+            {"format", "", "name of the format like compact, overrides the extension"},
+            {"dir", "", "data folder, a temporary folder if empty"}
+    };
+
+    /**
+     * The final {@link Map} of option names and their values
+     */
+    private final Map<String, String> options;
+
+    private LoadGenerator(Map<String, String> options) {
+        this.options = options;
+    }
+
+    /**
+     * Runs the load generator.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-15s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        new LoadGenerator(options).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        int ticks = integer("ticks"), warmup = integer("warmup"), keys = integer("keys");
+        long tickNanos = 1_000_000_000L / integer("tps");
+        File dir = options.get("dir").isEmpty() ? Files.createTempDirectory("customconfig-load").toFile() : new File(options.get("dir"));
+        Plugin plugin = HeadlessPlugin.create("LoadGenerator", dir);
+        new File(dir, options.get("file")).delete();
+        ConfigFormat format = options.get("format").isEmpty() ? ConfigFormats.byFileName(options.get("file")) : ConfigFormats.byName(options.get("format"));
+        if (format == null) {
+            System.err.println("Unknown format " + options.get("format"));
+            return;
+        }
+        Config config = new Config(plugin, options.get("file"), dir, format);
+
+        String value = text(integer("value-size"));
+        long start = System.nanoTime();
+        config.batch(() -> {
+            for (int i = 0; i < keys; i++) {
+                config.set("data.k" + i + ".name", value);
+                config.set("data.k" + i + ".count", i);
+            }
+        });
+        System.out.printf("Populated %d entries in %.1f ms, file size %d bytes%n", keys, (System.nanoTime() - start) / 1e6, new File(dir, options.get("file")).length());
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong asyncReads = new AtomicLong();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < integer("async-threads"); i++) {
+            Thread reader = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+                while (running.get()) {
+                    config.getString("data.k" + random.nextInt(keys) + ".name");
+                    count++;
+                }
+                asyncReads.addAndGet(count);
+            }, "LoadGenerator-Reader-" + i);
+            reader.setDaemon(true);
+            readers.add(reader);
+            reader.start();
+        }
+
+        for (int tick = 0; tick < warmup; tick++) tick(config, tick, keys, value);
+
+        long[] durations = new long[ticks];
+        long[] io = io();
+        HeapAllocation allocation = HeapAllocation.start();
+        long[] gc = gc();
+        long measured = System.nanoTime();
+        long next = measured;
+        for (int tick = 0; tick < ticks; tick++) {
+            long tickStart = System.nanoTime();
+            tick(config, warmup + tick, keys, value);
+            durations[tick] = System.nanoTime() - tickStart;
+            next += tickNanos;
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) LockSupport.parkNanos(sleep);
+        }
+        double seconds = (System.nanoTime() - measured) / 1e9;
+        long allocatedBytes = allocation.stop();
+        long[] ioAfter = io();
+        long[] gcAfter = gc();
+
+        running.set(false);
+        for (Thread reader : readers) reader.join();
+        config.close();
+
+        Arrays.sort(durations);
+        long overruns = Arrays.stream(durations).filter(duration -> duration > tickNanos).count();
+        System.out.printf("Ticks: %d in %.1f s, %d over %.1f ms%n", ticks, seconds, overruns, tickNanos / 1e6);
+        System.out.printf("Tick duration ms: p50 %.3f  p90 %.3f  p99 %.3f  p99.9 %.3f  max %.3f%n",
+                percentile(durations, 50), percentile(durations, 90), percentile(durations, 99), percentile(durations, 99.9), durations[ticks - 1] / 1e6);
+        System.out.printf("Async reads: %d (%.0f/s)%n", asyncReads.get(), asyncReads.get() / seconds);
+        if (allocatedBytes < 0) System.out.println("Heap allocated: not available on this JVM");
+        else System.out.printf("Heap allocated: %.1f MB (%.1f MB/s) by all threads, heap growth plus GC reclaims%n", allocatedBytes / 1e6, allocatedBytes / 1e6 / seconds);
+        System.out.printf("GC: %d collections, %d ms%n", gcAfter[0] - gc[0], gcAfter[1] - gc[1]);
+        if (io[0] < 0) System.out.println("I/O: not available on this platform");
+        else System.out.printf("I/O: %.1f MB read, %.1f MB written%n", (ioAfter[0] - io[0]) / 1e6, (ioAfter[1] - io[1]) / 1e6);
+    }
+
+    /**
+     * Runs the work of tick {@link Integer} tick on the calling thread.
+     */
+    private void tick(Config config, int tick, int keys, String value) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0, reads = integer("reads"); i < reads; i++) {
+            if ((i & 1) == 0) config.getString("data.k" + random.nextInt(keys) + ".name");
+            else config.getInt("data.k" + random.nextInt(keys) + ".count");
+        }
+        for (int i = 0, writes = integer("writes"); i < writes; i++) config.set("data.k" + random.nextInt(keys) + ".count", random.nextInt());
+
+        int burstEvery = integer("burst-every");
+        if (burstEvery > 0 && tick % burstEvery == 0) {
+            Runnable burst = () -> {
+                for (int i = 0, size = integer("burst-size"); i < size; i++) config.set("data.k" + random.nextInt(keys) + ".name", value);
+            };
+            if (Boolean.parseBoolean(options.get("batch-bursts"))) config.batch(burst);
+            else burst.run();
+        }
+        int autosaveEvery = integer("autosave-every");
+        if (autosaveEvery > 0 && tick % autosaveEvery == 0) config.save();
+    }
+
+    private int integer(String option) {
+        return Integer.parseInt(options.get(option));
+    }
+
+    private static String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) text.append((char) ('a' + i % 26));
+        return text.toString();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    /**
+     * Gets the number and the milliseconds of all garbage collections so far.
+     */
+    private static long[] gc() {
+        long[] gc = new long[2];
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gc[0] += Math.max(0, collector.getCollectionCount());
+            gc[1] += Math.max(0, collector.getCollectionTime());
+        }
+        return gc;
+    }
+
+    /**
+     * Gets the bytes read and written by the process from <code>/proc/self/io</code>, -1 if it does not exist.
+     */
+    private static long[] io() {
+        long[] io = {-1, -1};
+        File file = new File("/proc/self/io");
+        if (!file.canRead()) return io;
+        try {
+            for (String line : Files.readAllLines(file.toPath())) {
+                if (line.startsWith("rchar:")) io[0] = Long.parseLong(line.substring(6).trim());
+                else if (line.startsWith("wchar:")) io[1] = Long.parseLong(line.substring(6).trim());
+            }
+        } catch (IOException | NumberFormatException e) {
+            e.printStackTrace();
+        }
+        return io;
+    }
+
+    /**
+     * Measures the bytes allocated on the heap by every thread between {@link #start()} and {@link #stop()}.<br>
+     * The heap only grows by allocations between collections, so the allocated bytes are the growth of the used heap
+     * plus the bytes every collection reclaimed from the heap pools, as reported by the notifications of the
+     * {@link GarbageCollectorMXBean} collectors.
+     */
+    private static final class HeapAllocation implements NotificationListener {
+
+        private final Set<String> heapPools = new HashSet<>();
+        private final List<NotificationEmitter> emitters = new ArrayList<>();
+        private final AtomicLong reclaimed = new AtomicLong();
+        private long used;
+
+        static HeapAllocation start() {
+            HeapAllocation allocation = new HeapAllocation();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) allocation.heapPools.add(pool.getName());
+            }
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (!(collector instanceof NotificationEmitter)) continue;
+                ((NotificationEmitter) collector).addNotificationListener(allocation, null, null);
+                allocation.emitters.add((NotificationEmitter) collector);
+            }
+            allocation.used = heapUsed();
+            return allocation;
+        }
+
+        /**
+         * Stops measuring.
+         *
+         * @return  the {@link Long} bytes allocated on the heap, -1 if the collectors do not report what they reclaim
+         */
+        long stop() {
+            long grown = heapUsed() - used;
+            for (NotificationEmitter emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(this);
+                } catch (ListenerNotFoundException e) {
+                    e.printStackTrace();
+                }
+            }
+            return emitters.isEmpty() ? -1 : grown + reclaimed.get();
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+            GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long before = 0, after = 0;
+            for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageBeforeGc().entrySet()) {
+                if (heapPools.contains(pool.getKey())) before += pool.getValue().getUsed();
+            }
+            for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                if (heapPools.contains(pool.getKey())) after += pool.getValue().getUsed();
+            }
+            reclaimed.addAndGet(Math.max(0, before - after));
+        }
+
+        private static long heapUsed() {
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+    }
+}
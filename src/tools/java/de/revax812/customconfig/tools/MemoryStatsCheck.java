@@ -0,0 +1,125 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:15
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.MemoryStats;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that {@link Config#memoryStats()} accounts the nodes of a config the way {@link MemoryStats} documents and
+ * that its estimate is close to the heap the config actually retains.<br>
+ * The config holds homes with a world name that is a new string instance for every home, a name that is the same
+ * instance everywhere and a coordinate, stored under keys that are split from their paths, so copies too. The duplicates, the most copied string, the largest subtree and the sum of the
+ * kinds are checked, and a cached small integer has to cost no number bytes. Finally the file is loaded again and
+ * the estimate is compared with the heap measured after a garbage collection, which has to be within the given factor.
+ * The tool exits with 1 if a check fails:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.MemoryStatsCheck
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class MemoryStatsCheck {
+
+    /**
+     * The final {@link Integer} number of homes
+     */
+    private static final int HOMES = 50_000;
+    /**
+     * The final {@link Double} factor the estimate may differ from the measured heap
+     */
+    private static final double TOLERANCE = 1.5;
+
+    private MemoryStatsCheck() {
+    }
+
+    /**
+     * Runs the checks.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} arguments, which are not used
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        CheckHarness checks = new CheckHarness("MemoryStatsCheck", "memory");
+        File dir = checks.getFolder();
+        Plugin plugin = checks.getPlugin();
+        Config config = new Config(plugin, "homes.yml", dir);
+        config.setExecutor(Runnable::run);
+
+        config.batch(() -> {
+            for (int i = 0; i < HOMES; i++) {
+                String path = "homes.h" + i + '.';
+                config.set(path + "world", new String("world_nether"));
+                config.set(path + "name", "home");
+                config.set(path + "x", 100_000 + i);
+            }
+        });
+        MemoryStats stats = config.memoryStats(5);
+
+        long sum = 0;
+        for (MemoryStats.Kind kind : MemoryStats.Kind.values()) sum += stats.getBytes(kind);
+        checks.check(sum == stats.getTotalBytes(), "the kinds sum up to " + sum + " instead of " + stats.getTotalBytes());
+        // the keys of the homes are split from their paths, so they are copies as well
+        checks.check(stats.getDuplicateStrings() == 4L * (HOMES - 1), stats.getDuplicateStrings() + " duplicate strings instead of " + 4L * (HOMES - 1));
+        Map<String, Long> copied = stats.getMostCopied();
+        checks.check(Long.valueOf(HOMES - 1).equals(copied.get("world_nether")), "the world was copied " + copied.get("world_nether") + " times");
+        checks.check(!copied.containsKey("home"), "the shared name was counted as duplicate");
+        checks.check(stats.getCount(MemoryStats.Kind.SECTION) >= HOMES + 1, stats.getCount(MemoryStats.Kind.SECTION) + " sections counted");
+
+        List<MemoryStats.Subtree> largest = stats.getLargest();
+        checks.check(!largest.isEmpty() && largest.get(0).getPath().equals("homes"), "the largest subtree is not homes");
+        for (int i = 1; i < largest.size(); i++) {
+            checks.check(largest.get(i - 1).getBytes() >= largest.get(i).getBytes(), "the largest subtrees are not sorted");
+        }
+
+        long numbers = stats.getBytes(MemoryStats.Kind.NUMBER);
+        config.batch(() -> {
+            for (int i = 0; i < HOMES; i++) config.set("homes.h" + i + ".y", 64);
+        });
+        checks.check(config.memoryStats(5).getBytes(MemoryStats.Kind.NUMBER) == numbers, "cached integers were counted as number bytes");
+
+        config.close();
+
+        // a loaded config has no write versions per path, which would be measured but not estimated
+        long before = heap();
+        Config loaded = new Config(plugin, "homes.yml", dir);
+        long measured = heap() - before;
+        long estimate = loaded.memoryStats(5).getTotalBytes();
+        double ratio = (double) estimate / measured;
+        System.out.printf("Estimate %.1f MB, measured %.1f MB, ratio %.2f%n", estimate / 1e6, measured / 1e6, ratio);
+        checks.check(ratio >= 1 / TOLERANCE && ratio <= TOLERANCE, "the estimate is off by the factor " + String.format("%.2f", ratio));
+        loaded.close();
+
+        checks.finish();
+    }
+
+    /**
+     * Gets the used heap after a garbage collection.
+     */
+    private static long heap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 04:20
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.ConfigFormats;
+import de.revax812.customconfig.MessageBundle;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares rendering messages with {@link MessageBundle}, which compiles every message once per locale, with reading
+ * the text from the config and formatting it by {@link MessageFormat#format(String, Object...)} on every call.<br>
+ * The tool renders messages with arguments and plain messages of a locale that falls back to another one, times
+ * several rounds and reports the fastest one. Options are passed as <code>--name value</code>:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.MessageBenchmark -Dexec.args="--renders 5000000"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class MessageBenchmark {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"messages", "200", "number of messages in the file"},
+            {"renders", "1000000", "rendered messages per round"},
+            {"rounds", "5", "measured rounds, the fastest one is reported"}
+    };
+
+    private MessageBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     * @throws Exception  if the files could not be written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-10s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        int messages = Integer.parseInt(options.get("messages"));
+        int renders = Integer.parseInt(options.get("renders"));
+        int rounds = Integer.parseInt(options.get("rounds"));
+
+        File dir = Files.createTempDirectory("customconfig-messages").toFile();
+        Plugin plugin = HeadlessPlugin.create("MessageBenchmark", dir);
+        File folder = new File(dir, "lang");
+        YamlConfiguration en = new YamlConfiguration();
+        for (int i = 0; i < messages; i++) {
+            en.set("join" + i, "{0} joined the game with {1} kills");
+            en.set("plain" + i, "Welcome to the server");
+        }
+        ConfigFormats.YAML.save(en, new File(folder, "en.yml"));
+        MessageBundle bundle = new MessageBundle(plugin, "lang", Locale.ENGLISH);
+
+        String[] joins = new String[messages];
+        String[] plains = new String[messages];
+        for (int i = 0; i < messages; i++) {
+            joins[i] = "join" + i;
+            plains[i] = "plain" + i;
+        }
+        Locale locale = Locale.GERMANY;
+        System.out.printf("%-22s %14s %14s%n", "ns/message", "arguments", "plain");
+        long bundleArgs = Long.MAX_VALUE, bundlePlain = Long.MAX_VALUE, formatArgs = Long.MAX_VALUE, formatPlain = Long.MAX_VALUE;
+        long sink = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < renders; i++) sink += bundle.message(locale, joins[i % messages], "Notch", i).length();
+            long bundled = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < renders; i++) sink += bundle.message(locale, plains[i % messages]).length();
+            long bundledPlain = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < renders; i++) sink += MessageFormat.format(en.getString(joins[i % messages]), "Notch", i).length();
+            long formatted = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < renders; i++) sink += MessageFormat.format(en.getString(plains[i % messages]), new Object[0]).length();
+            long formattedPlain = System.nanoTime() - start;
+            // the first round warms up
+            if (round == 0) continue;
+            bundleArgs = Math.min(bundleArgs, bundled);
+            bundlePlain = Math.min(bundlePlain, bundledPlain);
+            formatArgs = Math.min(formatArgs, formatted);
+            formatPlain = Math.min(formatPlain, formattedPlain);
+        }
+        System.out.printf("%-22s %14.1f %14.1f%n", "MessageBundle", (double) bundleArgs / renders, (double) bundlePlain / renders);
+        System.out.printf("%-22s %14.1f %14.1f%n", "MessageFormat.format", (double) formatArgs / renders, (double) formatPlain / renders);
+        if (sink == 42) System.out.println();
+        bundle.close();
+    }
+}
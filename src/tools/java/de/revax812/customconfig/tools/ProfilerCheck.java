@@ -0,0 +1,119 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:10
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigProfiler;
+import org.bukkit.plugin.Plugin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Checks that {@link ConfigProfiler} records the calls it documents, with the numbers of the file.<br>
+ * Nothing is recorded while the profiler is disabled. While it is enabled, creating a config, reloading it on the
+ * calling thread and on the executor each record one trace, whose bytes read match the file, whose nodes match the
+ * loaded paths and whose written bytes show that the write back happened inside the traced call. The summary and the
+ * JSON report have to contain the traces and {@link ConfigProfiler#reset()} has to remove them. The tool exits with 1
+ * if a check fails:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.ProfilerCheck
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class ProfilerCheck {
+
+    private ProfilerCheck() {
+    }
+
+    /**
+     * Runs the checks.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} arguments, which are not used
+     * @throws Exception  if the files could not be written
+     */
+    public static void main(String[] args) throws Exception {
+        CheckHarness checks = new CheckHarness("ProfilerCheck", "profiler");
+        File dir = checks.getFolder();
+        Plugin plugin = checks.getPlugin();
+        ConfigProfiler.disable();
+        ConfigProfiler.reset();
+
+        Config untraced = new Config(plugin, "untraced.yml", dir);
+        untraced.close();
+        checks.check(ConfigProfiler.getTraces().isEmpty(), "a trace was recorded while disabled");
+
+        ConfigProfiler.enable();
+        Config config = new Config(plugin, "profiled.yml", dir);
+        File file = new File(dir, "profiled.yml");
+        checks.check(ConfigProfiler.getTraces().size() == 1, "creating a config recorded " + ConfigProfiler.getTraces().size() + " traces");
+        checks.check(last().getOperation().equals("create"), "the constructor was traced as " + last().getOperation());
+        checks.check(file.getPath().equals(last().getFile()), "the trace is for " + last().getFile() + ", not " + file);
+
+        config.batch(() -> {
+            for (int i = 0; i < 1000; i++) config.set("players.p" + i, "Player" + i);
+        });
+        checks.check(ConfigProfiler.getTraces().size() == 1, "a batch outside of a traced call was traced");
+
+        config.reload();
+        ConfigProfiler.Trace reload = last();
+        checks.check(reload.getOperation().equals("reload"), "reload was traced as " + reload.getOperation());
+        checks.check(reload.getBytesRead() == file.length(), "reload read " + reload.getBytesRead() + " bytes of " + file.length());
+        checks.check(reload.getNodes() == config.getKeys(true).size(), "reload counted " + reload.getNodes() + " nodes of " + config.getKeys(true).size());
+        checks.check(reload.getNanos(ConfigProfiler.Phase.PARSE) > 0, "reload has no parse time");
+        checks.check(reload.getBytesWritten() == file.length(), "reload wrote " + reload.getBytesWritten() + " bytes, not the file of " + file.length());
+        checks.check(reload.getTotalNanos() >= reload.getNanos(ConfigProfiler.Phase.PARSE) + reload.getNanos(ConfigProfiler.Phase.WRITE),
+                "the phases of reload take longer than the call");
+
+        config.reloadAsync().get();
+        checks.check(last().getOperation().equals("reloadAsync"), "reloadAsync was traced as " + last().getOperation());
+        checks.check(last().getBytesRead() == file.length(), "reloadAsync read " + last().getBytesRead() + " bytes of " + file.length());
+
+        ConfigProfiler.disable();
+        int traces = ConfigProfiler.getTraces().size();
+        config.reload();
+        checks.check(ConfigProfiler.getTraces().size() == traces, "reload was traced after disabling");
+
+        ByteArrayOutputStream summary = new ByteArrayOutputStream();
+        ConfigProfiler.printSummary(new PrintStream(summary, true, "UTF-8"));
+        checks.check(new String(summary.toByteArray(), StandardCharsets.UTF_8).contains("profiled.yml"), "the summary does not list the file");
+
+        File report = new File(dir, "report.json");
+        ConfigProfiler.export(report);
+        JsonObject json = JsonParser.parseString(new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8)).getAsJsonObject();
+        checks.check(json.getAsJsonArray("traces").size() == traces, "the report holds " + json.getAsJsonArray("traces").size() + " of " + traces + " traces");
+        checks.check(json.getAsJsonArray("files").size() == 1, "the report holds " + json.getAsJsonArray("files").size() + " files instead of 1");
+
+        ConfigProfiler.reset();
+        checks.check(ConfigProfiler.getTraces().isEmpty(), "reset kept the traces");
+        config.close();
+
+        checks.finish();
+    }
+
+    private static ConfigProfiler.Trace last() {
+        List<ConfigProfiler.Trace> traces = ConfigProfiler.getTraces();
+        return traces.get(traces.size() - 1);
+    }
+}
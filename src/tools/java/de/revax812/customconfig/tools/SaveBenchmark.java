@@ -0,0 +1,188 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 03:50
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigExecutors;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of {@link Config#save()} with one config per player, saved concurrently, like a server that
+ * stores its player data on every change.<br>
+ * Writer threads update and save the configs of their players, then the tool waits until the executor has written all
+ * queued saves. It reports the saves per second, how many writes the saves were coalesced into and the time until
+ * everything is on disk, for the default executor of the library, a fixed pool of platform threads and, on Java 21 and
+ * later, virtual threads. Options are passed as <code>--name value</code>:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.SaveBenchmark -Dexec.args="--players 5000"
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class SaveBenchmark {
+
+    /**
+     * The final {@link String} options with their defaults and descriptions
+     */
+    private static final String[][] OPTIONS = {
+            {"players", "2000", "number of player configs"},
+            {"updates", "20", "updates and saves per player"},
+            {"writers", "8", "threads updating and saving"},
+            {"pool", "8", "threads of the platform pool"}
+    };
+
+    private SaveBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} options
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String[] option : OPTIONS) options.put(option[0], option[1]);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (name.equals("help") || !options.containsKey(name) || i + 1 >= args.length) {
+                if (!name.equals("help")) System.err.println("Unknown or incomplete option " + args[i]);
+                for (String[] option : OPTIONS) System.err.printf("  --%-10s %-10s %s%n", option[0], option[1], option[2]);
+                return;
+            }
+            options.put(name, args[++i]);
+        }
+        int players = Integer.parseInt(options.get("players"));
+        int updates = Integer.parseInt(options.get("updates"));
+        int writers = Integer.parseInt(options.get("writers"));
+        int pool = Integer.parseInt(options.get("pool"));
+
+        File dir = Files.createTempDirectory("customconfig-save").toFile();
+        Plugin plugin = HeadlessPlugin.create("SaveBenchmark", dir);
+        System.out.printf("%-10s %12s %10s %12s %14s%n", "executor", "saves/s", "writes", "saves/write", "until disk ms");
+        // the first run warms up and is not printed
+        run(null, plugin, new File(dir, "warmup"), ConfigExecutors.getDefault(), players, updates, writers);
+        run("default", plugin, new File(dir, "default"), ConfigExecutors.getDefault(), players, updates, writers);
+        ExecutorService platform = Executors.newFixedThreadPool(pool);
+        run("platform", plugin, new File(dir, "platform"), platform, players, updates, writers);
+        platform.shutdown();
+        ExecutorService virtual = virtual();
+        if (virtual == null) {
+            System.out.printf("%-10s %12s%n", "virtual", "n/a");
+        } else {
+            run("virtual", plugin, new File(dir, "virtual"), virtual, players, updates, writers);
+            virtual.shutdown();
+        }
+    }
+
+    /**
+     * Updates and saves the player configs in {@link File} dir on {@link Executor} executor and prints the results.
+     */
+    private static void run(String name, Plugin plugin, File dir, Executor executor, int players, int updates, int writers) throws Exception {
+        CountingExecutor counting = new CountingExecutor(executor);
+        List<Config> configs = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            Config config = new Config(plugin, "p" + i + ".yml", dir, ConfigFormats.YAML);
+            config.setExecutor(counting);
+            configs.add(config);
+        }
+
+        ExecutorService threads = Executors.newFixedThreadPool(writers);
+        List<Future<?>> futures = new ArrayList<>(writers);
+        long start = System.nanoTime();
+        for (int w = 0; w < writers; w++) {
+            int first = w;
+            futures.add(threads.submit(() -> {
+                for (int update = 0; update < updates; update++) {
+                    for (int i = first; i < players; i += writers) {
+                        Config config = configs.get(i);
+                        config.set("stats.kills", update);
+                        config.set("last-seen", System.currentTimeMillis());
+                        config.save();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) future.get();
+        long saved = System.nanoTime() - start;
+        counting.awaitIdle();
+        long written = System.nanoTime() - start;
+        threads.shutdown();
+        for (Config config : configs) config.close();
+
+        if (name == null) return;
+        long saves = (long) players * updates;
+        System.out.printf("%-10s %12.0f %10d %12.1f %14.1f%n", name, saves / (saved / 1e9), counting.written.get(),
+                (double) saves / counting.written.get(), written / 1e6);
+    }
+
+    /**
+     * Creates an {@link ExecutorService} executor starting a virtual thread per task, null before Java 21.
+     */
+    private static ExecutorService virtual() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * An {@link Executor} executor counting the writes it runs and the ones that are still queued.
+     */
+    private static final class CountingExecutor implements Executor {
+
+        private final Executor executor;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicLong written = new AtomicLong();
+
+        CountingExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            pending.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    task.run();
+                    written.incrementAndGet();
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        }
+
+        /**
+         * Waits until all queued writes have run.
+         */
+        void awaitIdle() throws InterruptedException {
+            while (pending.get() > 0) Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Project: CustomConfig
+ * Author:  Revax812
+ * Version: 1.0
+ * Last Change:
+ *    by:   Revax812
+ *    date: 19.10.2026, 05:35
+ * Copyright (c): Revax812, 2026
+ */
+
+package de.revax812.customconfig.tools;
+
+import de.revax812.customconfig.Config;
+import de.revax812.customconfig.ConfigFormat;
+import de.revax812.customconfig.ConfigFormats;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.*;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks that the saves {@link Config#save()} writes behind on the executor never see a config halfway through a
+ * change.<br>
+ * For the YAML, JSON and binary format, the main thread sets a pair of values, replaces player sections, fills and
+ * clears a section and saves after every round, while a second thread counts with {@link Config#update(String,
+ * java.util.function.UnaryOperator)} and {@link Config#compareAndSet(String, Object, Object)}. Every write goes through a
+ * format that loads what it wrote and checks it: the second value of the pair may only lag one round behind the first
+ * one and every player has as many deaths as kills. An exception of a background save fails the check as well. After
+ * closing the config, the file has to hold the last round and every count. The tool exits with 1 if a check fails:
+ * <pre>
+ * mvn -Ptools compile exec:java -Dtools.main=de.revax812.customconfig.tools.SaveCheck
+ * </pre>
+ * Bugs: none known
+ * <br><br>
+ * Copyright (c): Revax812, 2026<br>
+ *
+ * @author Revax812 <br>
+ * @version 1.0
+ */
+
+public final class SaveCheck {
+
+    /**
+     * The final {@link Integer} number of rounds of the main thread
+     */
+    private static final int ROUNDS = 20_000;
+    /**
+     * The final {@link Integer} number of counts of the second thread
+     */
+    private static final int COUNTS = 5_000;
+    /**
+     * The final {@link Integer} number of player sections that are replaced in turn
+     */
+    private static final int PLAYERS = 100;
+
+    private SaveCheck() {
+    }
+
+    /**
+     * Runs the checks.
+     * <br><br>
+     *
+     * @param args  represents the {@link String} arguments, which are not used
+     * @throws Exception  if the data folder could not be created
+     */
+    public static void main(String[] args) throws Exception {
+        CheckHarness checks = new CheckHarness("SaveCheck", "save");
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> checks.fail("a save on " + thread.getName() + " threw " + e));
+        run(checks, ConfigFormats.YAML);
+        run(checks, ConfigFormats.JSON);
+        run(checks, ConfigFormats.BINARY);
+        checks.finish();
+    }
+
+    /**
+     * Changes and saves a config of {@link ConfigFormat} format from two threads and checks the file afterwards.
+     */
+    private static void run(CheckHarness checks, ConfigFormat format) throws Exception {
+        String name = format.getName();
+        File file = new File(checks.getFolder(), "hammer." + format.getExtensions().get(0));
+        VerifyingFormat verifying = new VerifyingFormat(checks, format);
+        Config config = new Config(checks.getPlugin(), file.getName(), checks.getFolder(), verifying);
+        config.set("cas", 0L);
+
+        Thread counter = new Thread(() -> {
+            for (int i = 0; i < COUNTS; i++) {
+                config.update("counter", value -> value == null ? 1L : ((Number) value).longValue() + 1);
+                while (true) {
+                    Object current = config.get("cas");
+                    if (config.compareAndSet("cas", current, ((Number) current).longValue() + 1)) break;
+                }
+            }
+        }, "SaveCheck-counter");
+        counter.start();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            config.set("pair.first", round);
+            config.set("pair.second", round);
+            Map<String, Object> player = new LinkedHashMap<>();
+            player.put("kills", round);
+            player.put("deaths", round);
+            config.createSection("players.p" + round % PLAYERS, player);
+            config.set("churn.k" + round % 1000, round);
+            if (round % 500 == 0) config.clearPath("churn");
+            config.save();
+        }
+        counter.join();
+        config.close();
+
+        System.out.printf("%-8s %6d writes, %6d of them in the background%n", name, verifying.writes.get(), verifying.background.get());
+        checks.check(verifying.background.get() > 0, name + ": no save was written in the background");
+        YamlConfiguration loaded = new YamlConfiguration();
+        format.load(loaded, file);
+        checks.check(number(loaded, "pair.first") == ROUNDS - 1 && number(loaded, "pair.second") == ROUNDS - 1,
+                name + ": the file holds the pair " + loaded.get("pair.first") + ", " + loaded.get("pair.second") + " instead of the last round");
+        checks.check(number(loaded, "counter") == COUNTS, name + ": the file holds " + loaded.get("counter") + " of " + COUNTS + " updates");
+        checks.check(number(loaded, "cas") == COUNTS, name + ": the file holds " + loaded.get("cas") + " of " + COUNTS + " compare and sets");
+        verify(checks, name, loaded);
+    }
+
+    /**
+     * Checks the invariants of a written {@link YamlConfiguration} config.
+     */
+    private static void verify(CheckHarness checks, String name, YamlConfiguration written) {
+        if (written.contains("pair.first")) {
+            long first = number(written, "pair.first"), second = number(written, "pair.second");
+            checks.check(first == second || first == second + 1, name + ": a save wrote the pair " + first + ", " + second);
+        }
+        ConfigurationSection players = written.getConfigurationSection("players");
+        if (players == null) return;
+        for (String player : players.getKeys(false)) {
+            String path = "players." + player;
+            checks.check(number(written, path + ".kills") == number(written, path + ".deaths"),
+                    name + ": a save wrote " + path + " with " + written.get(path + ".kills") + " kills and " + written.get(path + ".deaths") + " deaths");
+        }
+    }
+
+    /**
+     * Gets the number at {@link String} path, -1 if there is none.<br>
+     * The number is read from its text, as the formats may load it with another type than it was set with.
+     */
+    private static long number(YamlConfiguration config, String path) {
+        Object value = config.get(path);
+        return value == null ? -1 : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * A {@link ConfigFormat} format that loads everything it writes with the format it wraps and checks it.
+     */
+    private static final class VerifyingFormat implements ConfigFormat {
+
+        private final CheckHarness checks;
+        private final ConfigFormat format;
+        private final Thread main = Thread.currentThread();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final AtomicInteger background = new AtomicInteger();
+
+        private VerifyingFormat(CheckHarness checks, ConfigFormat format) {
+            this.checks = checks;
+            this.format = format;
+        }
+
+        @Override
+        public String getName() {
+            return format.getName();
+        }
+
+        @Override
+        public List<String> getExtensions() {
+            return format.getExtensions();
+        }
+
+        @Override
+        public void load(YamlConfiguration config, InputStream in) throws IOException, InvalidConfigurationException {
+            format.load(config, in);
+        }
+
+        @Override
+        public void save(YamlConfiguration config, OutputStream out) throws IOException {
+            writes.incrementAndGet();
+            if (Thread.currentThread() != main) background.incrementAndGet();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            format.save(config, bytes);
+            YamlConfiguration written = new YamlConfiguration();
+            try {
+                format.load(written, new ByteArrayInputStream(bytes.toByteArray()));
+                verify(checks, format.getName(), written);
+            } catch (InvalidConfigurationException e) {
+                checks.fail(format.getName() + ": a save wrote a file that can not be loaded: " + e.getMessage());
+            }
+            bytes.writeTo(out);
+        }
+    }
+}